@@ -0,0 +1,202 @@
+package org.ssoggy.ssoggysouls.benchmarks;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import ch.vorburger.mariadb4j.DB;
+import ch.vorburger.mariadb4j.DBConfigurationBuilder;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.ssoggy.ssoggysouls.database.DatabaseManager;
+import org.ssoggy.ssoggysouls.database.StorageContext;
+
+/**
+ * a throwaway MariaDB server with a connected {@link DatabaseManager} on top.
+ *
+ * <p>the server binaries come with MariaDB4j and are unpacked to a temp directory, it
+ * listens on a free port and is gone after {@link #stop()}. seeded rows are predictable
+ * from their index: {@link #uuid}, {@link #name}, and every tenth row is dead.
+ */
+final class EmbeddedStorage implements StorageContext {
+
+    private static final String DB_NAME = "bench";
+    private static final int SEED_BATCH = 5_000;
+    private static final long UUID_HIGH = 0x550661L;
+
+    private final Logger logger = Logger.getLogger("SSoggySouls-Bench");
+    private final YamlConfiguration config = new YamlConfiguration();
+    private final DB db;
+    private final DatabaseManager manager;
+    private final int port;
+    private Connection statusConnection;
+
+    private EmbeddedStorage(DB db, int port, String tableName) {
+        this.db = db;
+        this.port = port;
+        logger.setLevel(Level.WARNING);
+        config.set("database.host", "127.0.0.1");
+        config.set("database.port", port);
+        config.set("database.name", DB_NAME);
+        config.set("database.username", "root");
+        config.set("database.password", "");
+        config.set("database.pool-size", 8);
+        config.set("database.table-name", tableName);
+        this.manager = new DatabaseManager(this);
+    }
+
+    /**
+     * starts the server and a connected manager with the plugin's schema in place.
+     */
+    static EmbeddedStorage start(String tableName) throws Exception {
+        DBConfigurationBuilder builder = DBConfigurationBuilder.newBuilder();
+        builder.setPort(0);
+        if ("root".equals(System.getProperty("user.name"))) {
+            // mysqld refuses to run as root unless told to
+            builder.addArg("--user=root");
+        }
+        DB db = DB.newEmbeddedDB(builder.build());
+        db.start();
+        db.createDB(DB_NAME);
+
+        EmbeddedStorage storage = new EmbeddedStorage(db, db.getConfiguration().getPort(), tableName);
+        if (!storage.manager.connect() || !storage.manager.migrate()) {
+            db.stop();
+            throw new IllegalStateException("Could not set up the embedded database");
+        }
+        return storage;
+    }
+
+    DatabaseManager manager() {
+        return manager;
+    }
+
+    /**
+     * config.yml entries that point a plugin at this server and table, by full path.
+     */
+    Map<String, Object> settings() {
+        Map<String, Object> settings = new LinkedHashMap<>();
+        ConfigurationSection database = config.getConfigurationSection("database");
+        for (String key : database.getKeys(false)) {
+            settings.put("database." + key, database.get(key));
+        }
+        return settings;
+    }
+
+    static UUID uuid(int index) {
+        return new UUID(UUID_HIGH, index);
+    }
+
+    static String name(int index) {
+        return "p" + index;
+    }
+
+    static boolean dead(int index) {
+        return index % 10 == 0;
+    }
+
+    /**
+     * inserts rows 0 to count-1 in large batches, bypassing the manager so seeding a million
+     * rows takes seconds rather than a million round trips.
+     */
+    void seed(int count) throws SQLException {
+        String sql = "INSERT INTO " + config.getString("database.table-name")
+                + " (uuid, username, lives, is_dead, first_join, last_death, last_seen, grace_until)"
+                + " VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+        long now = System.currentTimeMillis();
+        try (Connection conn = connect();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+            conn.setAutoCommit(false);
+            for (int i = 0; i < count; i++) {
+                boolean dead = dead(i);
+                ps.setString(1, uuid(i).toString());
+                ps.setString(2, name(i));
+                ps.setInt(3, dead ? 0 : 1 + i % 3);
+                ps.setBoolean(4, dead);
+                ps.setLong(5, now - i * 1000L);
+                ps.setLong(6, dead ? now - i : 0L);
+                ps.setLong(7, now - i);
+                ps.setLong(8, 0L);
+                ps.addBatch();
+                if ((i + 1) % SEED_BATCH == 0) {
+                    ps.executeBatch();
+                    conn.commit();
+                }
+            }
+            ps.executeBatch();
+            conn.commit();
+        }
+    }
+
+    /**
+     * the server's global statement counters: Questions (every statement a client sent)
+     * and the select, insert, update and delete counts. reads over one kept-open connection,
+     * so each call adds exactly one to Questions.
+     */
+    Map<String, Long> statementCounts() throws SQLException {
+        if (statusConnection == null) {
+            statusConnection = connect();
+        }
+        Map<String, Long> counts = new LinkedHashMap<>();
+        try (PreparedStatement ps = statusConnection.prepareStatement(
+                "SHOW GLOBAL STATUS WHERE Variable_name IN"
+                        + " ('Questions', 'Com_select', 'Com_insert', 'Com_update', 'Com_delete')");
+             ResultSet rs = ps.executeQuery()) {
+            while (rs.next()) {
+                counts.put(rs.getString(1), rs.getLong(2));
+            }
+        }
+        return counts;
+    }
+
+    private Connection connect() throws SQLException {
+        return DriverManager.getConnection("jdbc:mysql://127.0.0.1:" + port + "/" + DB_NAME
+                + "?useSSL=false&allowPublicKeyRetrieval=true&rewriteBatchedStatements=true", "root", "");
+    }
+
+    void stop() throws Exception {
+        if (statusConnection != null) {
+            statusConnection.close();
+        }
+        manager.shutdown();
+        db.stop();
+    }
+
+    @Override
+    public Logger getLogger() {
+        return logger;
+    }
+
+    @Override
+    public FileConfiguration getConfig() {
+        return config;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+
+    @Override
+    public boolean isDebugMode() {
+        return false;
+    }
+
+    @Override
+    public void debug(String message) {
+        // benchmarks run without debug output
+    }
+
+    @Override
+    public int getDefaultLives() {
+        return 2;
+    }
+}
@@ -0,0 +1,183 @@
+package org.ssoggy.ssoggysouls.benchmarks;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.SkullMeta;
+import org.mockbukkit.mockbukkit.entity.PlayerMock;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.ssoggy.ssoggysouls.SSoggySouls;
+import org.ssoggy.ssoggysouls.hrm.HeadEffectsTask;
+import org.ssoggy.ssoggysouls.hrm.HeadPlacementSearch;
+import org.ssoggy.ssoggysouls.hrm.HeadTags;
+import org.ssoggy.ssoggysouls.hrm.RitualPattern;
+
+/**
+ * the main server's head handling on a mocked server: reading a head's owner (the check
+ * behind every head cleanup and ritual), the death column snapshot and search that pick
+ * where a head goes, matching the ritual structure, and the head effects sweep.
+ *
+ * <p>the placement search runs on a column of air over a stone floor and on a column
+ * buried under 40 blocks of stone, the usual and the slow case. the sweep runs over
+ * {@value #ONLINE} online players, half of them wearing heads, after the first sweep
+ * has applied their effects, so it measures the steady state.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class HeadBenchmark {
+
+    private static final int ONLINE = 100;
+    private static final int BURIED_DEPTH = 40;
+
+    private EmbeddedStorage storage;
+    private UUID owner;
+    private ItemStack taggedHead;
+    private ItemStack legacyHead;
+    private ItemStack notAHead;
+    private HeadPlacementSearch placement;
+    private Location surfaceDeath;
+    private HeadPlacementSearch.Column surfaceColumn;
+    private HeadPlacementSearch.Column buriedColumn;
+    private RitualPattern classic;
+    private Block ritualHead;
+    private Block loneHead;
+    private HeadEffectsTask headEffects;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        storage = EmbeddedStorage.start("bench_heads");
+        SSoggySouls plugin = MockedServer.start(false, storage);
+        World world = MockedServer.server().getWorld("world");
+
+        owner = UUID.randomUUID();
+        taggedHead = new ItemStack(Material.PLAYER_HEAD);
+        SkullMeta meta = (SkullMeta) taggedHead.getItemMeta();
+        HeadTags.stamp(meta.getPersistentDataContainer(), owner, 1L);
+        taggedHead.setItemMeta(meta);
+
+        // heads dropped before owner tags existed only carry the skull owner
+        legacyHead = new ItemStack(Material.PLAYER_HEAD);
+        SkullMeta legacyMeta = (SkullMeta) legacyHead.getItemMeta();
+        legacyMeta.setOwningPlayer(Bukkit.getOfflinePlayer(owner));
+        legacyHead.setItemMeta(legacyMeta);
+
+        notAHead = new ItemStack(Material.DIAMOND_SWORD);
+
+        placement = new HeadPlacementSearch();
+        world.getBlockAt(0, 69, 0).setType(Material.STONE);
+        surfaceDeath = new Location(world, 0.5, 70, 0.5);
+        surfaceColumn = HeadPlacementSearch.capture(surfaceDeath);
+        for (int y = 70; y < 70 + BURIED_DEPTH; y++) {
+            world.getBlockAt(4, y, 4).setType(Material.STONE);
+        }
+        buriedColumn = HeadPlacementSearch.capture(new Location(world, 4.5, 70, 4.5));
+
+        classic = RitualPattern.classic();
+        ritualHead = buildClassicAltar(world, 32, 80, 32);
+        loneHead = world.getBlockAt(48, 80, 48);
+        loneHead.setType(Material.PLAYER_HEAD);
+
+        headEffects = new HeadEffectsTask(plugin);
+        for (int i = 0; i < ONLINE; i++) {
+            PlayerMock player = MockedServer.addQuietPlayer("Player" + i);
+            if (i % 2 == 0) {
+                player.getInventory().setHelmet(new ItemStack(Material.PLAYER_HEAD));
+            }
+        }
+        headEffects.run();
+    }
+
+    // the layers of RitualPattern.classic(), head on top
+    private static Block buildClassicAltar(World world, int x, int y, int z) {
+        for (int dx = -1; dx <= 1; dx++) {
+            for (int dz = -1; dz <= 1; dz++) {
+                boolean corner = dx != 0 && dz != 0;
+                boolean center = dx == 0 && dz == 0;
+                world.getBlockAt(x + dx, y - 2, z + dz).setType(
+                        corner ? Material.SOUL_SAND : center ? Material.IRON_BLOCK : Material.STONE_BRICK_STAIRS);
+                if (corner) {
+                    world.getBlockAt(x + dx, y - 1, z + dz).setType(Material.WITHER_ROSE);
+                }
+            }
+        }
+        world.getBlockAt(x, y - 1, z).setType(Material.OAK_FENCE);
+        Block head = world.getBlockAt(x, y, z);
+        head.setType(Material.PLAYER_HEAD);
+        return head;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        MockedServer.stop();
+        storage.stop();
+    }
+
+    @Benchmark
+    public boolean ownedHeadTagged() {
+        return owner.equals(HeadTags.getOwner(taggedHead));
+    }
+
+    @Benchmark
+    public boolean ownedHeadLegacy() {
+        return owner.equals(HeadTags.getOwner(legacyHead));
+    }
+
+    // most items in a container scan are not heads
+    @Benchmark
+    public boolean ownedHeadOtherItem() {
+        return owner.equals(HeadTags.getOwner(notAHead));
+    }
+
+    // the main thread part of placing a head
+    @Benchmark
+    public HeadPlacementSearch.Column placementCapture() {
+        return HeadPlacementSearch.capture(surfaceDeath);
+    }
+
+    @Benchmark
+    public int placementSearchSurface() {
+        return placement.search(surfaceColumn);
+    }
+
+    @Benchmark
+    public int placementSearchBuried() {
+        return placement.search(buriedColumn);
+    }
+
+    @Benchmark
+    public RitualPattern.Match ritualComplete() {
+        return classic.match(ritualHead);
+    }
+
+    // a head placed anywhere else, rejected on the first check
+    @Benchmark
+    public RitualPattern.Match ritualNoStructure() {
+        return classic.match(loneHead);
+    }
+
+    @Benchmark
+    public void headEffectsSweep() {
+        headEffects.run();
+    }
+}
@@ -0,0 +1,29 @@
+package org.ssoggy.ssoggysouls.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * runs every main-thread hot path benchmark with the GC profiler attached, so each row
+ * reports bytes allocated per call ({@code gc.alloc.rate.norm}) next to its time.
+ *
+ * <p>{@code java -cp benchmarks/target/benchmarks.jar org.ssoggy.ssoggysouls.benchmarks.HotPathSuite}
+ */
+public final class HotPathSuite {
+
+    private HotPathSuite() {}
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(LimboListenerBenchmark.class.getSimpleName())
+                .include(HeadBenchmark.class.getSimpleName())
+                .include(MessageBenchmark.class.getSimpleName())
+                .include(TimeUtilBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,85 @@
+package org.ssoggy.ssoggysouls.benchmarks;
+
+import java.io.File;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * a child-first class loader over the benchmark class path, so every simulated server gets
+ * its own MockBukkit, Bukkit singleton and plugin statics.
+ *
+ * <p>JDK classes and {@link ServerNode} come from outside, everything else is defined
+ * again here.
+ */
+final class IsolatedServerLoader extends URLClassLoader {
+
+    static {
+        registerAsParallelCapable();
+    }
+
+    private final ClassLoader platform = ClassLoader.getPlatformClassLoader();
+
+    IsolatedServerLoader(String name) throws MalformedURLException {
+        super(name, classPath(), IsolatedServerLoader.class.getClassLoader());
+    }
+
+    /**
+     * starts a {@link SimulatedServer} defined by a fresh loader.
+     */
+    static ServerNode startNode(String name, boolean limbo, Map<String, Object> settings) throws Exception {
+        IsolatedServerLoader loader = new IsolatedServerLoader(name);
+        ServerNode node = (ServerNode) loader.loadClass(SimulatedServer.class.getName())
+                .getDeclaredConstructor().newInstance();
+        Thread thread = Thread.currentThread();
+        ClassLoader previous = thread.getContextClassLoader();
+        thread.setContextClassLoader(loader);
+        try {
+            node.start(limbo, settings);
+        } finally {
+            thread.setContextClassLoader(previous);
+        }
+        return node;
+    }
+
+    @Override
+    protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+        synchronized (getClassLoadingLock(name)) {
+            Class<?> type = findLoadedClass(name);
+            if (type == null) {
+                if (name.equals(ServerNode.class.getName())) {
+                    type = getParent().loadClass(name);
+                } else {
+                    try {
+                        type = platform.loadClass(name);
+                    } catch (ClassNotFoundException notJdk) {
+                        type = findClass(name);
+                    }
+                }
+            }
+            if (resolve) {
+                resolveClass(type);
+            }
+            return type;
+        }
+    }
+
+    @Override
+    public URL getResource(String name) {
+        URL url = findResource(name);
+        return url != null ? url : super.getResource(name);
+    }
+
+    private static URL[] classPath() throws MalformedURLException {
+        List<URL> urls = new ArrayList<>();
+        for (String entry : System.getProperty("java.class.path").split(File.pathSeparator)) {
+            if (!entry.isEmpty()) {
+                urls.add(new File(entry).toURI().toURL());
+            }
+        }
+        return urls.toArray(new URL[0]);
+    }
+}
@@ -0,0 +1,40 @@
+package org.ssoggy.ssoggysouls.benchmarks;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.bukkit.ChatColor;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.FileConfiguration;
+
+/**
+ * MessageUtil as it was before templates: a String.replace per placeholder and a colour
+ * code pass over the whole result on every call. kept as the baseline for
+ * {@link MessageBenchmark}.
+ */
+final class LegacyMessages {
+
+    private final String prefix;
+    private final Map<String, String> messages = new HashMap<>();
+
+    LegacyMessages(FileConfiguration config) {
+        prefix = config.getString("messages.prefix", "&8[&4☠&8] &r");
+        ConfigurationSection section = config.getConfigurationSection("messages");
+        if (section != null) {
+            for (String key : section.getKeys(false)) {
+                if (key.equals("prefix")) continue;
+                messages.put(key, config.getString("messages." + key, ""));
+            }
+        }
+    }
+
+    String get(String key, Object... replacements) {
+        String messageContent = messages.getOrDefault(key, "&cMissing message: " + key);
+        for (int i = 0; i < replacements.length - 1; i += 2) {
+            String placeholder = "%" + replacements[i] + "%";
+            String value = String.valueOf(replacements[i + 1]);
+            messageContent = messageContent.replace(placeholder, value);
+        }
+        return ChatColor.translateAlternateColorCodes('&', prefix + messageContent);
+    }
+}
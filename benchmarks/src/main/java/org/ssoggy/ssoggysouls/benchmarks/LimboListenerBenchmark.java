@@ -0,0 +1,110 @@
+package org.ssoggy.ssoggysouls.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.event.player.PlayerCommandPreprocessEvent;
+import org.bukkit.event.player.PlayerMoveEvent;
+import org.mockbukkit.mockbukkit.entity.PlayerMock;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.ssoggy.ssoggysouls.SSoggySouls;
+import org.ssoggy.ssoggysouls.listener.LimboServerListener;
+
+/**
+ * the limbo server's per-move and per-command handlers on a mocked server.
+ *
+ * <p>each case calls the handler directly with a fresh event, the way the server would
+ * after its own dispatch, for a visitor, a dead player and a dead player still waiting
+ * in the admission queue. events are built inside the benchmark, so allocation numbers
+ * include one event object per call.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LimboListenerBenchmark {
+
+    private EmbeddedStorage storage;
+    private LimboServerListener listener;
+    private PlayerMock visitor;
+    private PlayerMock dead;
+    private PlayerMock queued;
+    private Location from;
+    private Location to;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        storage = EmbeddedStorage.start("bench_limbo");
+        SSoggySouls plugin = MockedServer.start(true, storage);
+        // our own instance, its admission queue is never ticked so queued players stay queued
+        listener = new LimboServerListener(plugin);
+
+        visitor = MockedServer.addQuietPlayer("Visitor");
+        dead = MockedServer.addQuietPlayer("Dead");
+        queued = MockedServer.addQuietPlayer("Queued");
+        plugin.getLimboDeadPlayers().add(dead.getUniqueId());
+        plugin.getLimboDeadPlayers().add(queued.getUniqueId());
+        listener.getAdmissionQueue().enqueue(queued);
+
+        World world = visitor.getWorld();
+        from = new Location(world, 0.5, 64, 0.5, 0f, 0f);
+        to = new Location(world, 0.7, 64, 0.6, 15f, 0f);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        MockedServer.stop();
+        storage.stop();
+    }
+
+    @Benchmark
+    public PlayerMoveEvent moveVisitor() {
+        PlayerMoveEvent event = new PlayerMoveEvent(visitor, from, to);
+        listener.onPlayerMove(event);
+        return event;
+    }
+
+    // frozen in place, the handler builds a locked location every move
+    @Benchmark
+    public PlayerMoveEvent moveQueued() {
+        PlayerMoveEvent event = new PlayerMoveEvent(queued, from, to);
+        listener.onPlayerMove(event);
+        return event;
+    }
+
+    @Benchmark
+    public PlayerCommandPreprocessEvent commandVisitor() {
+        PlayerCommandPreprocessEvent event = new PlayerCommandPreprocessEvent(visitor, "/spawn");
+        listener.onCommandPreprocess(event);
+        return event;
+    }
+
+    @Benchmark
+    public PlayerCommandPreprocessEvent commandDeadAllowed() {
+        PlayerCommandPreprocessEvent event = new PlayerCommandPreprocessEvent(dead, "/msg Visitor hello there");
+        listener.onCommandPreprocess(event);
+        return event;
+    }
+
+    // cancelled with the limbo-cannot-leave message
+    @Benchmark
+    public PlayerCommandPreprocessEvent commandDeadBlocked() {
+        PlayerCommandPreprocessEvent event = new PlayerCommandPreprocessEvent(dead, "/spawn");
+        listener.onCommandPreprocess(event);
+        return event;
+    }
+}
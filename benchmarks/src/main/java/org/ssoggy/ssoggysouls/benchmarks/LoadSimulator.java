@@ -0,0 +1,381 @@
+package org.ssoggy.ssoggysouls.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * a headless load test of the whole death, limbo and revive pipeline.
+ *
+ * <p>a main and a limbo server run side by side in this JVM, each a MockBukkit server with
+ * the real plugin in its own class loader, sharing one embedded MariaDB. a stub proxy picks
+ * up the BungeeCord Connect messages the plugin sends and moves the player over. every
+ * simulated player joins main, loses a life, dies for good, sits out the hybrid timeout,
+ * gets transferred to limbo, is revived from the main console and returns to main.
+ *
+ * <p>the servers tick in real time, so timers and async database work overlap the way
+ * they would in production. the report gives latency percentiles per stage, database
+ * statements per player event, queue depths and main thread time per tick.
+ *
+ * <p>{@code java -cp benchmarks/target/benchmarks.jar org.ssoggy.ssoggysouls.benchmarks.LoadSimulator --players 500}
+ */
+public final class LoadSimulator {
+
+    private static final String TABLE = "ssoggysouls_sim";
+    private static final String MAIN = "main";
+    private static final String LIMBO = "limbo";
+    /** ticks between scripted steps of one player. */
+    private static final int STEP_TICKS = 40;
+    /** ticks a client stays on the death screen. */
+    private static final int RESPAWN_TICKS = 20;
+    private static final int PROFILE_LINES = 10;
+    private static final double[] PERCENTILES = {50, 90, 99, 100};
+
+    private enum Stage {
+        JOIN, FIRST_DEATH, FINAL_DEATH, AWAIT_LIMBO, AWAIT_ADMISSION, REVIVE, AWAIT_RETURN, AWAIT_SURVIVAL, LEAVE, DONE
+    }
+
+    /** the latencies the report breaks down, measured on the wall clock. */
+    private enum Span {
+        DEATH_TO_LIMBO_TRANSFER("final death -> Connect limbo (incl. hybrid timeout)"),
+        LIMBO_JOIN_TO_ADMITTED("limbo join -> admitted (adventure)"),
+        REVIVE_TO_MAIN_TRANSFER("revive command -> Connect main"),
+        MAIN_JOIN_TO_SURVIVAL("main rejoin -> survival"),
+        END_TO_END("final death -> playing on main again");
+
+        private final String label;
+
+        Span(String label) {
+            this.label = label;
+        }
+    }
+
+    private static final class SimPlayer {
+        final UUID uuid;
+        final String name;
+        Stage stage = Stage.JOIN;
+        long nextTick;
+        long respawnTick = -1;
+        String server;
+        final Map<Span, Long> started = new EnumMap<>(Span.class);
+
+        SimPlayer(int index, long startTick) {
+            this.uuid = EmbeddedStorage.uuid(index);
+            this.name = EmbeddedStorage.name(index);
+            this.nextTick = startTick;
+        }
+    }
+
+    private final int playerCount;
+    private final long tickNanos;
+    private final int hybridTimeoutSeconds;
+    private final int spreadTicks;
+    private final long maxTicks;
+
+    private final Map<String, ServerNode> nodes = new LinkedHashMap<>();
+    private final Map<UUID, SimPlayer> players = new HashMap<>();
+    private final Map<Span, List<Long>> latencies = new EnumMap<>(Span.class);
+    private final Map<String, List<Long>> tickTimes = new HashMap<>();
+    private final Map<String, Map<String, long[]>> queueStats = new HashMap<>();
+    private long events;
+    private long ticks;
+
+    private LoadSimulator(int playerCount, int tickMillis, int hybridTimeoutSeconds, int spreadTicks, int maxSeconds) {
+        this.playerCount = playerCount;
+        this.tickNanos = TimeUnit.MILLISECONDS.toNanos(tickMillis);
+        this.hybridTimeoutSeconds = hybridTimeoutSeconds;
+        this.spreadTicks = spreadTicks;
+        this.maxTicks = TimeUnit.SECONDS.toMillis(maxSeconds) / tickMillis;
+        for (Span span : Span.values()) {
+            latencies.put(span, new ArrayList<>());
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, Integer> options = new HashMap<>(Map.of(
+                "players", 200,
+                "tick-ms", 50,
+                "hybrid-timeout", 5,
+                "spread", 200,
+                "max-seconds", 600));
+        for (int i = 0; i < args.length; i += 2) {
+            String key = args[i].startsWith("--") ? args[i].substring(2) : args[i];
+            if (!options.containsKey(key) || i + 1 >= args.length) {
+                System.err.println("Usage: LoadSimulator [--players N] [--tick-ms N] [--hybrid-timeout SECONDS]"
+                        + " [--spread TICKS] [--max-seconds N]");
+                System.exit(2);
+            }
+            options.put(key, Integer.parseInt(args[i + 1]));
+        }
+
+        new LoadSimulator(options.get("players"), options.get("tick-ms"), options.get("hybrid-timeout"),
+                options.get("spread"), options.get("max-seconds")).run();
+    }
+
+    private void run() throws Exception {
+        EmbeddedStorage storage = EmbeddedStorage.start(TABLE);
+        try {
+            Map<String, Object> settings = new LinkedHashMap<>(storage.settings());
+            settings.put("main-server-name", MAIN);
+            settings.put("limbo-server-name", LIMBO);
+            settings.put("main.death-mode", "hybrid");
+            settings.put("main.hybrid-timeout-seconds", hybridTimeoutSeconds);
+            settings.put("lives.default", 2);
+            settings.put("lives.grace-period", "0");
+            settings.put("lives.revive-cooldown-seconds", 0);
+            settings.put("performance.profiler.enabled", true);
+            settings.put("database.main-thread-guard.enabled", true);
+
+            nodes.put(MAIN, IsolatedServerLoader.startNode(MAIN, false, settings));
+            nodes.put(LIMBO, IsolatedServerLoader.startNode(LIMBO, true, settings));
+            nodes.keySet().forEach(name -> {
+                tickTimes.put(name, new ArrayList<>());
+                queueStats.put(name, new LinkedHashMap<>());
+            });
+
+            for (int i = 0; i < playerCount; i++) {
+                SimPlayer player = new SimPlayer(i, spreadTicks <= 0 ? 0 : (long) i * spreadTicks / playerCount);
+                players.put(player.uuid, player);
+            }
+
+            System.out.printf("Simulating %d players, %d ms ticks, %d s hybrid timeout%n",
+                    playerCount, TimeUnit.NANOSECONDS.toMillis(tickNanos), hybridTimeoutSeconds);
+            Map<String, Long> before = storage.statementCounts();
+            long startNanos = System.nanoTime();
+            long remaining = playerCount;
+            while (remaining > 0 && ticks < maxTicks) {
+                long tickStart = System.nanoTime();
+                remaining = step();
+                long sleep = tickNanos - (System.nanoTime() - tickStart);
+                if (sleep > 0) {
+                    TimeUnit.NANOSECONDS.sleep(sleep);
+                }
+                ticks++;
+            }
+            long elapsedNanos = System.nanoTime() - startNanos;
+            Map<String, Long> after = storage.statementCounts();
+
+            report(remaining, elapsedNanos, before, after);
+        } finally {
+            for (ServerNode node : nodes.values()) {
+                node.stop();
+            }
+            storage.stop();
+        }
+    }
+
+    /**
+     * one tick of both servers, the proxy and the player scripts.
+     *
+     * @return players that have not finished yet
+     */
+    private long step() {
+        for (Map.Entry<String, ServerNode> entry : nodes.entrySet()) {
+            ServerNode node = entry.getValue();
+            tickTimes.get(entry.getKey()).add(node.tick());
+            sampleQueues(entry.getKey(), node.stats());
+        }
+        route();
+
+        long remaining = 0;
+        for (SimPlayer player : players.values()) {
+            advance(player);
+            if (player.stage != Stage.DONE) {
+                remaining++;
+            }
+        }
+        return remaining;
+    }
+
+    /**
+     * the stub proxy: every Connect request moves the player off their current server and
+     * onto the target.
+     */
+    private void route() {
+        for (Map.Entry<String, ServerNode> entry : nodes.entrySet()) {
+            for (Map.Entry<UUID, String> transfer : entry.getValue().drainTransfers()) {
+                SimPlayer player = players.get(transfer.getKey());
+                ServerNode target = nodes.get(transfer.getValue());
+                if (player == null || target == null || !entry.getKey().equals(player.server)) continue;
+
+                long now = System.nanoTime();
+                if (player.stage == Stage.AWAIT_LIMBO) {
+                    finish(player, Span.DEATH_TO_LIMBO_TRANSFER, now);
+                    player.started.put(Span.LIMBO_JOIN_TO_ADMITTED, now);
+                    player.stage = Stage.AWAIT_ADMISSION;
+                } else if (player.stage == Stage.AWAIT_RETURN) {
+                    finish(player, Span.REVIVE_TO_MAIN_TRANSFER, now);
+                    player.started.put(Span.MAIN_JOIN_TO_SURVIVAL, now);
+                    player.stage = Stage.AWAIT_SURVIVAL;
+                }
+                entry.getValue().quit(player.uuid);
+                target.join(player.uuid, player.name);
+                player.server = transfer.getValue();
+                events += 2;
+            }
+        }
+    }
+
+    private void advance(SimPlayer player) {
+        if (player.respawnTick == ticks) {
+            nodes.get(player.server).respawn(player.uuid);
+        }
+        ServerNode node = player.server == null ? null : nodes.get(player.server);
+        long now = System.nanoTime();
+        switch (player.stage) {
+            case JOIN -> {
+                if (ticks < player.nextTick) return;
+                nodes.get(MAIN).join(player.uuid, player.name);
+                player.server = MAIN;
+                events++;
+                next(player, Stage.FIRST_DEATH);
+            }
+            case FIRST_DEATH -> {
+                if (ticks < player.nextTick) return;
+                kill(player, node);
+                next(player, Stage.FINAL_DEATH);
+            }
+            case FINAL_DEATH -> {
+                if (ticks < player.nextTick) return;
+                kill(player, node);
+                player.started.put(Span.DEATH_TO_LIMBO_TRANSFER, now);
+                player.started.put(Span.END_TO_END, now);
+                player.stage = Stage.AWAIT_LIMBO;
+            }
+            case AWAIT_ADMISSION -> {
+                if (!"ADVENTURE".equals(node.gameMode(player.uuid))) return;
+                finish(player, Span.LIMBO_JOIN_TO_ADMITTED, now);
+                next(player, Stage.REVIVE);
+            }
+            case REVIVE -> {
+                if (ticks < player.nextTick) return;
+                // staff revive from main, the limbo server notices on its next check
+                nodes.get(MAIN).console("revive " + player.name);
+                player.started.put(Span.REVIVE_TO_MAIN_TRANSFER, now);
+                events++;
+                player.stage = Stage.AWAIT_RETURN;
+            }
+            case AWAIT_SURVIVAL -> {
+                if (!"SURVIVAL".equals(node.gameMode(player.uuid))) return;
+                finish(player, Span.MAIN_JOIN_TO_SURVIVAL, now);
+                finish(player, Span.END_TO_END, now);
+                next(player, Stage.LEAVE);
+            }
+            case LEAVE -> {
+                if (ticks < player.nextTick) return;
+                node.quit(player.uuid);
+                player.server = null;
+                events++;
+                player.stage = Stage.DONE;
+            }
+            default -> {
+                // waiting on the plugin or the proxy
+            }
+        }
+    }
+
+    private void kill(SimPlayer player, ServerNode node) {
+        node.kill(player.uuid);
+        player.respawnTick = ticks + RESPAWN_TICKS;
+        events += 2;
+    }
+
+    private void next(SimPlayer player, Stage stage) {
+        player.stage = stage;
+        player.nextTick = ticks + STEP_TICKS;
+    }
+
+    private void finish(SimPlayer player, Span span, long now) {
+        Long start = player.started.remove(span);
+        if (start != null) {
+            latencies.get(span).add(now - start);
+        }
+    }
+
+    /**
+     * keeps the sum and the peak of every gauge, for the mean and max in the report.
+     */
+    private void sampleQueues(String server, Map<String, Long> stats) {
+        Map<String, long[]> totals = queueStats.get(server);
+        stats.forEach((name, value) -> {
+            long[] sumAndMax = totals.computeIfAbsent(name, k -> new long[2]);
+            sumAndMax[0] += value;
+            sumAndMax[1] = Math.max(sumAndMax[1], value);
+        });
+    }
+
+    private void report(long unfinished, long elapsedNanos, Map<String, Long> before, Map<String, Long> after) {
+        System.out.println();
+        System.out.printf("%d of %d players finished in %.1f s (%d ticks)%n",
+                playerCount - unfinished, playerCount, elapsedNanos / 1e9, ticks);
+        if (unfinished > 0) {
+            Map<Stage, Integer> stuck = new EnumMap<>(Stage.class);
+            players.values().stream().filter(p -> p.stage != Stage.DONE)
+                    .forEach(p -> stuck.merge(p.stage, 1, Integer::sum));
+            System.out.println("Unfinished players by stage: " + stuck);
+        }
+
+        System.out.println();
+        System.out.println("Latency (ms)");
+        System.out.printf("  %-52s %7s %8s %8s %8s %8s%n", "", "n", "p50", "p90", "p99", "max");
+        for (Span span : Span.values()) {
+            long[] sorted = sorted(latencies.get(span));
+            System.out.printf("  %-52s %7d", span.label, sorted.length);
+            for (double percentile : PERCENTILES) {
+                System.out.printf(" %8.1f", percentile(sorted, percentile) / 1e6);
+            }
+            System.out.println();
+        }
+
+        System.out.println();
+        System.out.printf("Database statements (%d player events: joins, quits, deaths, respawns, revives)%n", events);
+        for (Map.Entry<String, Long> counter : after.entrySet()) {
+            // the second status read itself counts as one question
+            long delta = counter.getValue() - before.getOrDefault(counter.getKey(), 0L)
+                    - ("Questions".equals(counter.getKey()) ? 1 : 0);
+            System.out.printf("  %-12s %10d total %8.2f per event%n",
+                    counter.getKey(), delta, events == 0 ? 0.0 : (double) delta / events);
+        }
+
+        for (Map.Entry<String, ServerNode> entry : nodes.entrySet()) {
+            String server = entry.getKey();
+            long[] sorted = sorted(tickTimes.get(server));
+            long overBudget = Arrays.stream(sorted).filter(nanos -> nanos > tickNanos).count();
+            System.out.println();
+            System.out.printf("%s server%n", server);
+            System.out.printf("  main thread per tick (ms)  p50 %.3f  p90 %.3f  p99 %.3f  max %.3f  over budget %d%n",
+                    percentile(sorted, 50) / 1e6, percentile(sorted, 90) / 1e6,
+                    percentile(sorted, 99) / 1e6, percentile(sorted, 100) / 1e6, overBudget);
+            queueStats.get(server).forEach((name, sumAndMax) -> System.out.printf(
+                    "  %-26s mean %8.2f  max %6d%n", name, ticks == 0 ? 0.0 : (double) sumAndMax[0] / ticks,
+                    sumAndMax[1]));
+            List<String> profile = entry.getValue().profile(PROFILE_LINES);
+            System.out.println("  " + profile.get(0));
+            if (profile.size() > 1) {
+                System.out.println("  busiest main thread work:");
+                profile.subList(1, profile.size()).forEach(line -> System.out.println("    " + line));
+            }
+        }
+    }
+
+    private static long[] sorted(List<Long> values) {
+        long[] array = values.stream().mapToLong(Long::longValue).toArray();
+        Arrays.sort(array);
+        return array;
+    }
+
+    /**
+     * nearest-rank percentile of a sorted array, 0 when it is empty.
+     */
+    private static long percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) return 0;
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+        return sorted[Math.max(0, Math.min(sorted.length - 1, rank - 1))];
+    }
+}
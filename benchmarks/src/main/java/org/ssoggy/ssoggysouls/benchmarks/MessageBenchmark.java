@@ -0,0 +1,86 @@
+package org.ssoggy.ssoggysouls.benchmarks;
+
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.ssoggy.ssoggysouls.util.MessageUtil;
+
+/**
+ * MessageUtil.get with precompiled templates against the old replace-then-colorize path,
+ * using the messages from the plugin's default config.yml.
+ *
+ * <p>run with {@code java -jar target/benchmarks.jar MessageBenchmark -prof gc} to see
+ * allocations per call next to the timings.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class MessageBenchmark {
+
+    private LegacyMessages legacy;
+    private int lives;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        YamlConfiguration config;
+        try (Reader reader = new InputStreamReader(Objects.requireNonNull(
+                MessageUtil.class.getResourceAsStream("/config.yml"), "config.yml not in plugin jar"),
+                StandardCharsets.UTF_8)) {
+            config = YamlConfiguration.loadConfiguration(reader);
+        }
+        MessageUtil.loadMessages(config);
+        legacy = new LegacyMessages(config);
+        lives = 3;
+    }
+
+    // one placeholder, the most common shape (sent on every death)
+    @Benchmark
+    public String legacyOnePlaceholder() {
+        return legacy.get("death-life-lost", "lives", lives);
+    }
+
+    @Benchmark
+    public String templateOnePlaceholder() {
+        return MessageUtil.get("death-life-lost", "lives", lives);
+    }
+
+    // three placeholders
+    @Benchmark
+    public String legacyThreePlaceholders() {
+        return legacy.get("admin-lives-updated", "player", "Notch", "action", "give", "lives", lives);
+    }
+
+    @Benchmark
+    public String templateThreePlaceholders() {
+        return MessageUtil.get("admin-lives-updated", "player", "Notch", "action", "give", "lives", lives);
+    }
+
+    // no placeholders: the template path returns a cached string
+    @Benchmark
+    public String legacyConstant() {
+        return legacy.get("extra-life-dead");
+    }
+
+    @Benchmark
+    public String templateConstant() {
+        return MessageUtil.get("extra-life-dead");
+    }
+}
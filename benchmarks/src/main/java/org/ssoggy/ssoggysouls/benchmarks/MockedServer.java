@@ -0,0 +1,131 @@
+package org.ssoggy.ssoggysouls.benchmarks;
+
+import java.io.File;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import com.google.common.io.ByteArrayDataInput;
+import com.google.common.io.ByteStreams;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.plugin.PluginDescriptionFile;
+import org.mockbukkit.mockbukkit.MockBukkit;
+import org.mockbukkit.mockbukkit.ServerMock;
+import org.mockbukkit.mockbukkit.entity.PlayerMock;
+import org.ssoggy.ssoggysouls.SSoggySouls;
+
+/**
+ * the plugin enabled on a MockBukkit server, backed by an {@link EmbeddedStorage}.
+ *
+ * <p>config.yml is written to the folder MockBukkit will hand the plugin before it loads,
+ * so onEnable reads the benchmark settings like a real server would. the scheduler only
+ * moves when the caller ticks it, which keeps timers and queued callbacks out of the
+ * measured code unless a benchmark asks for them.
+ */
+final class MockedServer {
+
+    private MockedServer() {}
+
+    /**
+     * mocks the server and enables the plugin in main or limbo mode.
+     */
+    static SSoggySouls start(boolean limbo, EmbeddedStorage storage) throws Exception {
+        return start(limbo, storage.settings());
+    }
+
+    /**
+     * same, with config.yml entries (by full path) applied over the defaults.
+     */
+    static SSoggySouls start(boolean limbo, Map<String, Object> settings) throws Exception {
+        ServerMock server = MockBukkit.mock();
+        server.addSimpleWorld("world");
+
+        PluginDescriptionFile description;
+        try (InputStream in = resource("/plugin.yml")) {
+            description = new PluginDescriptionFile(in);
+        }
+        // same folder name MockBukkit gives the plugin when it loads it
+        File dataFolder = server.getPluginManager().createTemporaryDirectory(
+                description.getName() + "-" + description.getVersion());
+
+        YamlConfiguration config;
+        try (Reader reader = new InputStreamReader(resource("/config.yml"), StandardCharsets.UTF_8)) {
+            config = YamlConfiguration.loadConfiguration(reader);
+        }
+        config.set("is-limbo-server", limbo);
+        config.set("check-for-updates", false);
+        settings.forEach(config::set);
+        config.save(new File(dataFolder, "config.yml"));
+
+        SSoggySouls plugin = MockBukkit.load(SSoggySouls.class);
+        // storage connects on an async task and finishes startup on the next tick
+        server.getScheduler().waitAsyncTasksFinished();
+        server.getScheduler().performOneTick();
+        if (!plugin.isEnabled()) {
+            throw new IllegalStateException("SSoggySouls did not enable, see the log above");
+        }
+        return plugin;
+    }
+
+    static ServerMock server() {
+        return MockBukkit.getMock();
+    }
+
+    static void stop() {
+        MockBukkit.unmock();
+    }
+
+    /**
+     * an online player that drops chat messages, so millions of calls don't pile them up
+     * in PlayerMock's message queue.
+     */
+    static PlayerMock addQuietPlayer(String name) {
+        return addQuietPlayer(name, UUID.nameUUIDFromBytes(("OfflinePlayer:" + name).getBytes(StandardCharsets.UTF_8)),
+                target -> { });
+    }
+
+    /**
+     * same, and hands the target server of every BungeeCord Connect message it is sent
+     * to onConnect instead of a proxy.
+     */
+    static PlayerMock addQuietPlayer(String name, UUID uuid, Consumer<String> onConnect) {
+        ServerMock server = server();
+        PlayerMock player = new QuietPlayer(server, name, uuid, onConnect);
+        server.addPlayer(player);
+        return player;
+    }
+
+    private static InputStream resource(String path) {
+        return Objects.requireNonNull(SSoggySouls.class.getResourceAsStream(path), path + " not in plugin jar");
+    }
+
+    private static final class QuietPlayer extends PlayerMock {
+
+        private final Consumer<String> onConnect;
+
+        QuietPlayer(ServerMock server, String name, UUID uuid, Consumer<String> onConnect) {
+            super(server, name, uuid);
+            this.onConnect = onConnect;
+        }
+
+        @Override
+        public void sendMessage(String message) {
+            // dropped
+        }
+
+        @Override
+        public void sendPluginMessage(Plugin source, String channel, byte[] message) {
+            if (!"BungeeCord".equals(channel)) return;
+            ByteArrayDataInput in = ByteStreams.newDataInput(message);
+            if ("Connect".equals(in.readUTF())) {
+                onConnect.accept(in.readUTF());
+            }
+        }
+    }
+}
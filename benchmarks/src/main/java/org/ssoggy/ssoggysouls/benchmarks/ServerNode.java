@@ -0,0 +1,71 @@
+package org.ssoggy.ssoggysouls.benchmarks;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * one simulated backend server, as the load simulator drives it.
+ *
+ * <p>each node lives in its own class loader with its own copy of MockBukkit and the
+ * plugin, so only JDK types cross this interface.
+ */
+public interface ServerNode {
+
+    /**
+     * mocks the server and enables the plugin.
+     *
+     * @param settings config.yml entries by full path, applied over the defaults
+     */
+    void start(boolean limbo, Map<String, Object> settings) throws Exception;
+
+    /**
+     * connects the player, firing pre-login, login and join.
+     */
+    void join(UUID uuid, String name);
+
+    void quit(UUID uuid);
+
+    void kill(UUID uuid);
+
+    /**
+     * respawns a dead player, like a client clicking respawn on the death screen.
+     */
+    void respawn(UUID uuid);
+
+    /**
+     * runs a command as the console, without the leading slash.
+     */
+    void console(String command);
+
+    /**
+     * runs one server tick.
+     *
+     * @return main thread nanoseconds spent since the last tick: this tick's scheduled
+     *         tasks plus the joins, quits and deaths dispatched before it
+     */
+    long tick();
+
+    /**
+     * the BungeeCord Connect requests sent since the last call, player to target server.
+     */
+    List<Map.Entry<UUID, String>> drainTransfers();
+
+    /**
+     * the player's game mode, or null when they are not online here.
+     */
+    String gameMode(UUID uuid);
+
+    /**
+     * current queue depths and counters, by name.
+     */
+    Map<String, Long> stats();
+
+    /**
+     * the main thread database call count, then the plugin profiler's busiest handlers
+     * and callbacks, one formatted line each.
+     */
+    List<String> profile(int limit);
+
+    void stop();
+}
@@ -0,0 +1,147 @@
+package org.ssoggy.ssoggysouls.benchmarks;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.mockbukkit.mockbukkit.ServerMock;
+import org.mockbukkit.mockbukkit.entity.PlayerMock;
+import org.ssoggy.ssoggysouls.SSoggySouls;
+import org.ssoggy.ssoggysouls.limbo.LimboAdmissionQueue;
+import org.ssoggy.ssoggysouls.perf.PerfProfiler;
+
+/**
+ * a {@link ServerNode} backed by MockBukkit. created reflectively inside an
+ * {@link IsolatedServerLoader}, and only ever called from the simulator thread, which
+ * MockBukkit treats as the main thread.
+ */
+public class SimulatedServer implements ServerNode {
+
+    private static final int PROFILE_MINUTES = 15;
+
+    private final Map<UUID, PlayerMock> players = new HashMap<>();
+    private final Queue<Map.Entry<UUID, String>> transfers = new ConcurrentLinkedQueue<>();
+    private ServerMock server;
+    private SSoggySouls plugin;
+    private long dispatchNanos;
+
+    @Override
+    public void start(boolean limbo, Map<String, Object> settings) throws Exception {
+        // DriverManager only hands out drivers loaded by the caller's class loader, so this
+        // loader's copy has to register itself before the pool asks for one
+        Class.forName("com.mysql.cj.jdbc.Driver");
+        plugin = MockedServer.start(limbo, settings);
+        server = MockedServer.server();
+    }
+
+    @Override
+    public void join(UUID uuid, String name) {
+        long start = System.nanoTime();
+        PlayerMock player = players.get(uuid);
+        if (player == null) {
+            player = MockedServer.addQuietPlayer(name, uuid, target -> transfers.add(Map.entry(uuid, target)));
+            players.put(uuid, player);
+        } else if (!player.isOnline()) {
+            player.reconnect();
+        }
+        dispatchNanos += System.nanoTime() - start;
+    }
+
+    @Override
+    public void quit(UUID uuid) {
+        long start = System.nanoTime();
+        PlayerMock player = players.get(uuid);
+        if (player != null && player.isOnline()) {
+            player.disconnect();
+        }
+        dispatchNanos += System.nanoTime() - start;
+    }
+
+    @Override
+    public void kill(UUID uuid) {
+        long start = System.nanoTime();
+        PlayerMock player = players.get(uuid);
+        if (player != null && player.isOnline()) {
+            player.setHealth(0);
+        }
+        dispatchNanos += System.nanoTime() - start;
+    }
+
+    @Override
+    public void respawn(UUID uuid) {
+        long start = System.nanoTime();
+        PlayerMock player = players.get(uuid);
+        if (player != null && player.isOnline() && player.isDead()) {
+            player.respawn();
+        }
+        dispatchNanos += System.nanoTime() - start;
+    }
+
+    @Override
+    public void console(String command) {
+        long start = System.nanoTime();
+        server.dispatchCommand(server.getConsoleSender(), command);
+        dispatchNanos += System.nanoTime() - start;
+    }
+
+    @Override
+    public long tick() {
+        long start = System.nanoTime();
+        server.getScheduler().performOneTick();
+        long spent = System.nanoTime() - start + dispatchNanos;
+        dispatchNanos = 0;
+        return spent;
+    }
+
+    @Override
+    public List<Map.Entry<UUID, String>> drainTransfers() {
+        List<Map.Entry<UUID, String>> drained = new ArrayList<>();
+        Map.Entry<UUID, String> next;
+        while ((next = transfers.poll()) != null) {
+            drained.add(next);
+        }
+        return drained;
+    }
+
+    @Override
+    public String gameMode(UUID uuid) {
+        PlayerMock player = players.get(uuid);
+        return player != null && player.isOnline() ? player.getGameMode().name() : null;
+    }
+
+    @Override
+    public Map<String, Long> stats() {
+        Map<String, Long> stats = new LinkedHashMap<>();
+        stats.put("scheduled tasks", (long) server.getScheduler().getPendingTasks().size());
+        stats.put("async tasks queued", (long) server.getScheduler().getNumberOfQueuedAsyncTasks());
+        stats.put("tick budget jobs", (long) plugin.getTickScheduler().getQueuedJobs());
+        LimboAdmissionQueue admission = plugin.getLimboAdmissionQueue();
+        if (admission != null) {
+            stats.put("admission queue", (long) admission.getDepth());
+            stats.put("admission queue peak", (long) admission.getMaxDepth());
+        }
+        return stats;
+    }
+
+    @Override
+    public List<String> profile(int limit) {
+        List<String> lines = new ArrayList<>();
+        lines.add("database calls on the main thread: "
+                + plugin.getDatabaseManager().getMainThreadGuard().getTotalCalls());
+        for (PerfProfiler.Sample sample : plugin.getProfiler().top(PROFILE_MINUTES, limit)) {
+            lines.add(String.format("%-52s %9d calls %10.2f ms total %8.3f ms max",
+                    sample.name(), sample.calls(), sample.totalNanos() / 1e6, sample.maxNanos() / 1e6));
+        }
+        return lines;
+    }
+
+    @Override
+    public void stop() {
+        MockedServer.stop();
+    }
+}
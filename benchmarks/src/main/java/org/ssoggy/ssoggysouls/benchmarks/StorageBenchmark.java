@@ -0,0 +1,124 @@
+package org.ssoggy.ssoggysouls.benchmarks;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.ssoggy.ssoggysouls.database.DatabaseManager;
+import org.ssoggy.ssoggysouls.hrm.ReviveMenu;
+import org.ssoggy.ssoggysouls.model.PlayerData;
+
+/**
+ * DatabaseManager's player operations against an embedded MariaDB with 1k, 100k and 1M
+ * seeded rows.
+ *
+ * <p>each trial starts its own server and seeds the table before warmup, so no external
+ * database is needed; the 1M row trial spends a minute or so seeding. throughput and
+ * sample time are both reported, sample time gives the p50/p90/p99/p99.9 latencies.
+ * lookups pick a random seeded row per call, so the buffer pool is exercised the way
+ * scattered player joins would. run with {@code -t 4} to see the pool under contention.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StorageBenchmark {
+
+    // rows kept hot for the cached death check, well inside the 2s cache ttl
+    private static final int HOT_ROWS = 64;
+
+    @Param({"1000", "100000", "1000000"})
+    public int rows;
+
+    private EmbeddedStorage storage;
+    private DatabaseManager db;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        storage = EmbeddedStorage.start("bench_players_" + rows);
+        storage.seed(rows);
+        db = storage.manager();
+        // the plugin fills the name index at startup, getPlayerByName relies on it
+        db.loadNameIndex();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        storage.stop();
+    }
+
+    private int randomRow() {
+        return ThreadLocalRandom.current().nextInt(rows);
+    }
+
+    @Benchmark
+    public PlayerData getPlayer() {
+        return db.getPlayer(EmbeddedStorage.uuid(randomRow()));
+    }
+
+    @Benchmark
+    public PlayerData getPlayerByName() {
+        return db.getPlayerByName(EmbeddedStorage.name(randomRow()));
+    }
+
+    // upsert of an existing row, the shape of every save after a death or join
+    @Benchmark
+    public void savePlayer() {
+        int i = randomRow();
+        db.savePlayer(new PlayerData(EmbeddedStorage.uuid(i), EmbeddedStorage.name(i), 1 + i % 3, false,
+                0L, 0L, System.currentTimeMillis(), 0L));
+    }
+
+    @Benchmark
+    public boolean isPlayerDeadCached() {
+        return db.isPlayerDead(EmbeddedStorage.uuid(ThreadLocalRandom.current().nextInt(Math.min(HOT_ROWS, rows))));
+    }
+
+    @Benchmark
+    public boolean isPlayerDeadUncached() {
+        UUID uuid = EmbeddedStorage.uuid(randomRow());
+        db.invalidateDeathStatusCache(uuid);
+        return db.isPlayerDead(uuid);
+    }
+
+    /**
+     * revives a dead row and kills it again with setLives so the table keeps its shape;
+     * two updates per call, compare against savePlayer for the cost of one.
+     */
+    @Benchmark
+    public boolean revivePlayer() {
+        int i = ThreadLocalRandom.current().nextInt(Math.max(1, rows / 10)) * 10;
+        UUID uuid = EmbeddedStorage.uuid(i);
+        boolean revived = db.revivePlayer(uuid, 1);
+        db.setLives(uuid, 0);
+        return revived;
+    }
+
+    // every dead row (10% of the table), what the revive menu used to load
+    @Benchmark
+    public List<PlayerData> getDeadPlayers() {
+        return db.getDeadPlayers();
+    }
+
+    // one revive menu page as the menu asks for it, for comparison with loading them all
+    @Benchmark
+    public List<PlayerData> getDeadPlayersPage() {
+        return db.getDeadPlayersPage(null, null, null, ReviveMenu.PAGE_SIZE + 1);
+    }
+}
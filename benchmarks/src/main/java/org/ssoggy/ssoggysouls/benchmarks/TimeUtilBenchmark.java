@@ -0,0 +1,47 @@
+package org.ssoggy.ssoggysouls.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.ssoggy.ssoggysouls.util.TimeUtil;
+
+/**
+ * TimeUtil parsing and formatting, used by status messages, grace period checks and
+ * the revive cooldown on every call.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class TimeUtilBenchmark {
+
+    // fields rather than constants so the JIT can't fold the calls away
+    private String plainHours = "24";
+    private String compound = "1d12h30m";
+    private long millis = 93_784_000L;
+
+    @Benchmark
+    public long parsePlainHours() {
+        return TimeUtil.parseTimeToMillis(plainHours);
+    }
+
+    @Benchmark
+    public long parseCompound() {
+        return TimeUtil.parseTimeToMillis(compound);
+    }
+
+    @Benchmark
+    public String format() {
+        return TimeUtil.formatTime(millis);
+    }
+}
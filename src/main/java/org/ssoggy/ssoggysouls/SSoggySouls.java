@@ -1,21 +1,31 @@
 package org.ssoggy.ssoggysouls;
 
-import java.util.Collections;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 
-import org.bukkit.Bukkit;
-import org.bukkit.Location;
 import org.bukkit.World;
 import org.bukkit.command.PluginCommand;
+import org.bukkit.configuration.InvalidConfigurationException;
 import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
+import org.bukkit.event.player.AsyncPlayerPreLoginEvent;
 import org.bukkit.event.world.WorldLoadEvent;
 import org.bukkit.plugin.java.JavaPlugin;
 
@@ -26,86 +36,81 @@ import org.ssoggy.ssoggysouls.command.SetLimboSpawnCommand;
 import org.ssoggy.ssoggysouls.command.SetLivesCommand;
 import org.ssoggy.ssoggysouls.command.StatusCommand;
 import org.ssoggy.ssoggysouls.command.VisitLimboCommand;
+import org.ssoggy.ssoggysouls.config.ConfigWatcher;
+import org.ssoggy.ssoggysouls.config.PluginSettings;
 import org.ssoggy.ssoggysouls.database.DatabaseManager;
+import org.ssoggy.ssoggysouls.database.StorageContext;
+import org.ssoggy.ssoggysouls.event.PlayerRevivedEvent;
 import org.ssoggy.ssoggysouls.hrm.ExtraLifeManager;
+import org.ssoggy.ssoggysouls.hrm.HeadCleanupCoordinator;
 import org.ssoggy.ssoggysouls.hrm.HeadDropListener;
 import org.ssoggy.ssoggysouls.hrm.HeadEffectsTask;
+import org.ssoggy.ssoggysouls.hrm.HeadPlacementSearch;
+import org.ssoggy.ssoggysouls.hrm.HeadTextures;
+import org.ssoggy.ssoggysouls.hrm.HeadTombstones;
 import org.ssoggy.ssoggysouls.hrm.RevivalStructureListener;
+import org.ssoggy.ssoggysouls.hrm.RitualPattern;
 import org.ssoggy.ssoggysouls.hrm.ReviveSkullManager;
+import org.ssoggy.ssoggysouls.limbo.LimboAdmissionQueue;
+import org.ssoggy.ssoggysouls.limbo.LimboSpawnPool;
 import org.ssoggy.ssoggysouls.listener.LimboServerListener;
 import org.ssoggy.ssoggysouls.listener.MainServerListener;
+import org.ssoggy.ssoggysouls.perf.PerfProfiler;
+import org.ssoggy.ssoggysouls.perf.StartupTimings;
 import org.ssoggy.ssoggysouls.task.LimboCheckTask;
 import org.ssoggy.ssoggysouls.task.MainReviveCheckTask;
+import org.ssoggy.ssoggysouls.task.TickBudgetScheduler;
 import org.ssoggy.ssoggysouls.util.MessageUtil;
-import org.ssoggy.ssoggysouls.util.TimeUtil;
 import org.ssoggy.ssoggysouls.util.UpdateChecker;
+import org.ssoggy.ssoggysouls.vault.DeathInventoryVault;
 
 @SuppressWarnings("java:S6548")
-public final class SSoggySouls extends JavaPlugin implements Listener {
+public final class SSoggySouls extends JavaPlugin implements Listener, StorageContext {
 
     private static SSoggySouls instance;
 
     private DatabaseManager databaseManager;
-    private boolean isLimboServer;
-    private boolean debugMode;
     
     // Store listeners to call refresh methods on config reload
     private MainServerListener mainServerListener;
     private LimboServerListener limboServerListener;
 
-    private String mainServerName;
-    private String limboServerName;
-
-    private static final String DEFAULT_WORLD = "world";
-    private static final String CFG_SPAWN_X = "limbo.spawn.x";
-    private static final String CFG_SPAWN_Y = "limbo.spawn.y";
-    private static final String CFG_SPAWN_Z = "limbo.spawn.z";
-    private static final String CFG_SPAWN_YAW = "limbo.spawn.yaw";
-    private static final String CFG_SPAWN_PITCH = "limbo.spawn.pitch";
     public static final String MODE_LIMBO = "limbo";
     public static final String MODE_SPECTATOR = "spectator";
     public static final String MODE_HYBRID = "hybrid";
     private static final String BORDER_EMPTY = "║                                                           ║";
     private static final String BORDER_TOP = "╔═══════════════════════════════════════════════════════════╗";
     private static final String BORDER_BOTTOM = "╚═══════════════════════════════════════════════════════════╝";
+    private static final long NAME_INDEX_RELOAD_TICKS = 6000L; // 5 minutes
+    // longer than the pool's 10s connection timeout, so a failed connect releases logins first
+    private static final long LOGIN_WAIT_SECONDS = 15L;
 
-    private int defaultLives;
-    private long gracePeriodMillis;
-    private int livesOnRevive;
-    private int maxLives;
-
-    private int sendToLimboDelayTicks;
-    private boolean spectatorOnDeath;
-    private boolean detectHrmRevive;
-    private String deathMode;
-    private int hybridTimeoutSeconds;
-    private int reviveCooldownSeconds;
-    private boolean extraLifeEnabled;
-
-    private boolean hrmEnabled;
-    private boolean hrmDropHeads;
-    private boolean hrmDeathLocationMsg;
-    private boolean hrmStructureRevive;
-    private boolean hrmLeaveStructureBase;
-    private boolean hrmHeadEffects;
-    private boolean hrmReviveSkullRecipe;
-    private boolean hrmHeadPlaceAsBlock;
-    private boolean hrmHeadNoDespawn;
-    private boolean hrmHeadFireproof;
-    private boolean hardcoreHearts;
-    private boolean limboOpSecurityEnabled;
-    private Set<String> limboTrustedAdmins;
     private final Map<String, Boolean> originalWorldHardcore = new HashMap<>();
     private ReviveSkullManager reviveSkullManager;
     private ExtraLifeManager extraLifeManager;
     private HeadDropListener headDropListener;
-
-    private Location limboSpawn;
+    private HeadTombstones headTombstones;
+    private HeadTextures headTextures;
+    private DeathInventoryVault deathVault;
+
+    private LimboSpawnPool limboSpawnPool;
+    private TickBudgetScheduler tickScheduler;
+    private PerfProfiler profiler;
+    private volatile PluginSettings settings;
+    // what getConfig() hands out; only replaced by a file that passed validation
+    private volatile FileConfiguration liveConfig;
+    private ConfigWatcher configWatcher;
+    private StartupTimings startupTimings;
+    // counted down once storage is ready (or failed); logins wait on it
+    private volatile CountDownLatch storageReady;
     private final Set<UUID> limboDeadPlayers = ConcurrentHashMap.newKeySet();
 
     @Override
     public void onEnable() {
         setInstance(this);
+        startupTimings = new StartupTimings();
+        storageReady = new CountDownLatch(1);
+        long phase = startupTimings.begin();
         saveDefaultConfig();
 
         for (World world : getServer().getWorlds()) {
@@ -113,29 +118,33 @@ public final class SSoggySouls extends JavaPlugin implements Listener {
         }
 
         loadConfigValues();
+        startupTimings.end("config", phase);
 
         getServer().getMessenger().registerOutgoingPluginChannel(this, "BungeeCord");
-        getServer().getPluginManager().registerEvents(this, this);
+        // needs a restart to change: listeners are registered through it once
+        profiler = new PerfProfiler(getConfig().getBoolean("performance.profiler.enabled", false));
+        profiler.start(this);
+        profiler.registerEvents(this, this);
 
+        // connecting can take seconds, or the whole timeout when MySQL is down, so storage
+        // comes up on its own thread while commands and listeners register. logins wait for it
         databaseManager = new DatabaseManager(this);
-        if (!databaseManager.initialize()) {
-            getLogger().severe("Failed to connect to MySQL! Disabling plugin.");
-            getServer().getPluginManager().disablePlugin(this);
-            return;
-        }
-
-        // Check version compatibility between Main and Limbo servers
-        checkVersionCompatibility();
+        getServer().getScheduler().runTaskAsynchronously(this, this::startStorage);
 
+        phase = startupTimings.begin();
         registerCommands();
 
-        if (isLimboServer) {
+        tickScheduler = new TickBudgetScheduler(this);
+        tickScheduler.runTaskTimer(this, 1L, 1L);
+
+        if (settings.limboServer()) {
             enableLimboMode();
         } else {
             enableMainMode();
         }
+        startupTimings.end("listeners", phase);
 
-        String mode = isLimboServer ? "LIMBO SERVER" : "MAIN SERVER";
+        String mode = settings.limboServer() ? "LIMBO SERVER" : "MAIN SERVER";
         String version = getDescription().getVersion();
         
         // you see this ascii art is alot better than the updatechecker one am i right
@@ -164,16 +173,24 @@ public final class SSoggySouls extends JavaPlugin implements Listener {
         getLogger().info(BORDER_BOTTOM);
         getLogger().info("");
 
+        // startup queries run on the storage thread, so main-thread DB access is a bug from here on
+        databaseManager.getMainThreadGuard().arm();
+
         if (getConfig().getBoolean("check-for-updates", true)) {
             new UpdateChecker(this).checkForUpdates();
         }
+
+        if (getConfig().getBoolean("auto-reload", false)) {
+            configWatcher = new ConfigWatcher(this);
+            configWatcher.start();
+        }
     }
 
     @Override
     public void onDisable() {
         getServer().getMessenger().unregisterOutgoingPluginChannel(this);
 
-        if (hardcoreHearts) {
+        if (settings.hardcoreHearts()) {
             for (World world : getServer().getWorlds()) {
                 boolean original = originalWorldHardcore.getOrDefault(world.getName(), false);
                 world.setHardcore(original);
@@ -186,6 +203,21 @@ public final class SSoggySouls extends JavaPlugin implements Listener {
         if (extraLifeManager != null) {
             extraLifeManager.unregisterRecipe();
         }
+        if (limboSpawnPool != null) {
+            limboSpawnPool.shutdown();
+        }
+        if (headTombstones != null) {
+            headTombstones.shutdown();
+        }
+        if (headTextures != null) {
+            headTextures.shutdown();
+        }
+        if (profiler != null) {
+            profiler.shutdown();
+        }
+        if (configWatcher != null) {
+            configWatcher.shutdown();
+        }
 
         if (databaseManager != null) {
             databaseManager.shutdown();
@@ -195,6 +227,90 @@ public final class SSoggySouls extends JavaPlugin implements Listener {
         setInstance(null);
     }
 
+    // storage thread: connect, create or migrate tables, check the other server's version
+    private void startStorage() {
+        long phase = startupTimings.begin();
+        boolean ready = databaseManager.connect();
+        startupTimings.end("connect", phase);
+        if (ready) {
+            phase = startupTimings.begin();
+            ready = databaseManager.migrate();
+            startupTimings.end("schema", phase);
+        }
+        if (ready) {
+            phase = startupTimings.begin();
+            checkVersionCompatibility();
+            startupTimings.end("version check", phase);
+        }
+
+        boolean ok = ready;
+        if (isEnabled()) {
+            getServer().getScheduler().runTask(this, profiler.wrap(() -> finishStartup(ok)));
+        }
+    }
+
+    private void finishStartup(boolean ready) {
+        if (!ready) {
+            getLogger().severe("Failed to connect to MySQL! Disabling plugin.");
+            // let held logins through, the server runs without the plugin like before
+            storageReady.countDown();
+            getServer().getPluginManager().disablePlugin(this);
+            return;
+        }
+
+        startStorageTasks();
+        storageReady.countDown();
+        getLogger().log(Level.INFO, "Startup {0}", startupTimings.summary());
+    }
+
+    // everything that polls the database, started once it is reachable
+    private void startStorageTasks() {
+        // players seen by either server, for name lookups and tab completion
+        getServer().getScheduler().runTaskTimerAsynchronously(this, this::reloadNameIndex,
+                0L, NAME_INDEX_RELOAD_TICKS);
+
+        int intervalSeconds = getConfig().getInt("limbo.check-interval-seconds", 3);
+        long intervalTicks = (long) intervalSeconds * 20L;
+        if (settings.limboServer()) {
+            new LimboCheckTask(this).runTaskTimerAsynchronously(this, 60L, intervalTicks);
+            getLogger().log(Level.INFO, "Limbo check task started (every {0}s).", intervalSeconds);
+        } else {
+            new MainReviveCheckTask(this).runTaskTimerAsynchronously(this, 60L, intervalTicks);
+            getLogger().log(Level.INFO, "Main revive check task started (every {0}s).", intervalSeconds);
+        }
+
+        if (headTextures != null) {
+            headTextures.start();
+        }
+        if (headTombstones != null) {
+            headTombstones.start();
+        }
+    }
+
+    /**
+     * holds logins that arrive before storage is ready, for up to LOGIN_WAIT_SECONDS, then
+     * turns the player away with a retry message.
+     */
+    @EventHandler(priority = EventPriority.LOWEST)
+    public void onAsyncPreLogin(AsyncPlayerPreLoginEvent event) {
+        if (storageReady.getCount() == 0) return;
+        try {
+            if (storageReady.await(LOGIN_WAIT_SECONDS, TimeUnit.SECONDS)) return;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        event.disallow(AsyncPlayerPreLoginEvent.Result.KICK_OTHER,
+                MessageUtil.colorize("&cThe server is still starting up. Please try again in a moment."));
+    }
+
+    private void reloadNameIndex() {
+        boolean first = !databaseManager.getNameIndex().isLoaded();
+        int count = databaseManager.loadNameIndex();
+        if (first && count >= 0) {
+            debug("Indexed " + count + " player name(s).");
+        }
+    }
+
     private static void setInstance(SSoggySouls value) {
         instance = value;
     }
@@ -202,51 +318,59 @@ public final class SSoggySouls extends JavaPlugin implements Listener {
     private void enableMainMode() {
         getLogger().info("Registering MAIN server listeners...");
         mainServerListener = new MainServerListener(this);
-        getServer().getPluginManager().registerEvents(mainServerListener, this);
+        profiler.registerEvents(mainServerListener, this);
 
-        int intervalSeconds = getConfig().getInt("limbo.check-interval-seconds", 3);
-        long intervalTicks = (long) intervalSeconds * 20L;
-        new MainReviveCheckTask(this).runTaskTimerAsynchronously(this, 60L, intervalTicks);
-        getLogger().log(Level.INFO, "Main revive check task started (every {0}s).", intervalSeconds);
+        if (settings.deathVaultEnabled()) {
+            deathVault = new DeathInventoryVault(this);
+            getLogger().info("Death inventory vault enabled.");
+        }
+
+        if (settings.hrmEnabled()) {
+            headTextures = new HeadTextures(this);
+            profiler.registerEvents(headTextures, this);
+
+            headTombstones = new HeadTombstones(this);
+            profiler.registerEvents(headTombstones, this);
 
-        if (hrmEnabled) {
             headDropListener = new HeadDropListener(this);
-            getServer().getPluginManager().registerEvents(headDropListener, this);
-            getServer().getPluginManager().registerEvents(
+            profiler.registerEvents(headDropListener, this);
+            profiler.registerEvents(
                     new RevivalStructureListener(this), this);
 
-            if (hrmHeadEffects) {
-                new HeadEffectsTask(this).runTaskTimer(this, 20L, 20L);
+            if (settings.hrmHeadEffects()) {
+                HeadEffectsTask headEffects = new HeadEffectsTask(this);
+                profiler.registerEvents(headEffects, this);
+                headEffects.runTaskTimer(this, 20L, HeadEffectsTask.SWEEP_INTERVAL_TICKS);
                 getLogger().info("HRM head-wearing effects task started.");
             }
 
-            if (hrmReviveSkullRecipe) {
+            if (settings.hrmReviveSkullRecipe()) {
                 reviveSkullManager = new ReviveSkullManager(this);
                 reviveSkullManager.registerRecipe();
-                getServer().getPluginManager().registerEvents(reviveSkullManager, this);
+                profiler.registerEvents(reviveSkullManager, this);
                 getLogger().info("HRM revive skull recipe and menu registered.");
             }
 
             getLogger().info("Built-in HRM features enabled.");
         }
 
-        if (extraLifeEnabled) {
+        if (settings.extraLifeEnabled()) {
             extraLifeManager = new ExtraLifeManager(this);
             extraLifeManager.registerRecipe();
-            getServer().getPluginManager().registerEvents(extraLifeManager, this);
+            profiler.registerEvents(extraLifeManager, this);
             getLogger().info("Extra Life recipe and listener registered.");
         }
     }
 
     private void enableLimboMode() {
         getLogger().info("Registering LIMBO server listeners and tasks...");
-        limboServerListener = new LimboServerListener(this);
-        getServer().getPluginManager().registerEvents(limboServerListener, this);
+        limboSpawnPool = new LimboSpawnPool(this);
+        limboSpawnPool.load();
+        profiler.registerEvents(limboSpawnPool, this);
 
-        int intervalSeconds = getConfig().getInt("limbo.check-interval-seconds", 3);
-        long intervalTicks = (long) intervalSeconds * 20L;
-        new LimboCheckTask(this).runTaskTimerAsynchronously(this, 60L, intervalTicks);
-        getLogger().log(Level.INFO, "Limbo check task started (every {0}s).", intervalSeconds);
+        limboServerListener = new LimboServerListener(this);
+        profiler.registerEvents(limboServerListener, this);
+        limboServerListener.getAdmissionQueue().runTaskTimer(this, 1L, 1L);
     }
 
     private void registerCommands() {
@@ -270,9 +394,11 @@ public final class SSoggySouls extends JavaPlugin implements Listener {
         hladmin.setExecutor(adminCmd);
         hladmin.setTabCompleter(adminCmd);
 
-        if (isLimboServer) {
+        if (settings.limboServer()) {
+            SetLimboSpawnCommand setSpawnCmd = new SetLimboSpawnCommand(this);
             PluginCommand setSpawn = Objects.requireNonNull(getCommand("setlimbospawn"));
-            setSpawn.setExecutor(new SetLimboSpawnCommand(this));
+            setSpawn.setExecutor(setSpawnCmd);
+            setSpawn.setTabCompleter(setSpawnCmd);
 
             PluginCommand leaveLimbo = Objects.requireNonNull(getCommand("leavelimbo"));
             leaveLimbo.setExecutor(new LeaveLimboCommand(this));
@@ -282,169 +408,130 @@ public final class SSoggySouls extends JavaPlugin implements Listener {
         }
     }
 
-    public void loadConfigValues() {
-        reloadConfig();
-        FileConfiguration cfg = getConfig();
-
-        isLimboServer       = cfg.getBoolean("is-limbo-server", false);
-        debugMode           = cfg.getBoolean("debug", false);
-        mainServerName      = cfg.getString("main-server-name", "main");
-        limboServerName     = cfg.getString("limbo-server-name", MODE_LIMBO);
-
-        defaultLives        = cfg.getInt("lives.default", 2);
-        gracePeriodMillis   = loadGracePeriod(cfg);
-        livesOnRevive       = cfg.getInt("lives.on-revive", 1);
-        maxLives            = cfg.getInt("lives.max-lives", 5);
-
-        sendToLimboDelayTicks = cfg.getInt("main.send-to-limbo-delay-ticks", 60);
-        spectatorOnDeath    = cfg.getBoolean("main.spectator-on-death", true);
-        detectHrmRevive     = cfg.getBoolean("main.detect-hrm-revive", true);
-        deathMode           = cfg.getString("main.death-mode", MODE_HYBRID);
-        hybridTimeoutSeconds = cfg.getInt("main.hybrid-timeout-seconds", 300);
-        reviveCooldownSeconds = cfg.getInt("lives.revive-cooldown-seconds", 30);
-        extraLifeEnabled    = cfg.getBoolean("extra-life.enabled", true);
-        hardcoreHearts      = cfg.getBoolean("hardcore-hearts", true);
-        limboOpSecurityEnabled = cfg.getBoolean("limbo-op-security-check", true);
-        limboTrustedAdmins  = ConcurrentHashMap.newKeySet();
-        // Normalize whitelist entries: trim whitespace and lowercase non-UUID entries (usernames)
-        for (String entry : cfg.getStringList("limbo-trusted-admins")) {
-            String trimmed = entry.trim();
-            // Keep UUIDs in original case (they contain dashes), lowercase usernames for case-insensitive matching
-            if (trimmed.contains("-")) {
-                limboTrustedAdmins.add(trimmed); // UUID format, keep as-is
-            } else {
-                limboTrustedAdmins.add(trimmed.toLowerCase()); // Username, normalize to lowercase
+    /**
+     * re-reads config.yml and publishes it as a new {@link PluginSettings} snapshot.
+     *
+     * @return false if the new values were rejected and the previous ones kept
+     */
+    public boolean loadConfigValues() {
+        // check the file before it goes live, components still read getConfig() directly
+        FileConfiguration cfg = readConfigFile();
+        if (cfg == null) {
+            if (settings != null) {
+                getLogger().warning("Keeping the previous config until config.yml is fixed.");
+                return false;
             }
+            cfg = new YamlConfiguration();
+            cfg.setDefaults(defaultConfig());
         }
 
-        for (World world : getServer().getWorlds()) {
-            boolean original = originalWorldHardcore.getOrDefault(world.getName(), false);
-            world.setHardcore(hardcoreHearts || original);
+        PluginSettings loaded = PluginSettings.load(cfg, getLogger());
+        List<String> problems = loaded.validate();
+        for (String problem : problems) {
+            getLogger().log(Level.WARNING, "Invalid config: {0}", problem);
         }
+        if (!problems.isEmpty() && settings != null) {
+            getLogger().warning("Keeping the previous config until config.yml is fixed.");
+            return false;
+        }
+        // at startup there is nothing to fall back to, so run with it and the warnings above
+        liveConfig = cfg;
+        settings = loaded;
 
-        hrmEnabled            = cfg.getBoolean("hrm.enabled", true);
-        hrmDropHeads          = cfg.getBoolean("hrm.drop-heads", true);
-        hrmDeathLocationMsg   = cfg.getBoolean("hrm.death-location-message", true);
-        hrmStructureRevive    = cfg.getBoolean("hrm.structure-revive", true);
-        hrmLeaveStructureBase = cfg.getBoolean("hrm.leave-structure-base", true);
-        hrmHeadEffects        = cfg.getBoolean("hrm.head-wearing-effects", true);
-        hrmReviveSkullRecipe  = cfg.getBoolean("hrm.revive-skull-recipe", true);
-        hrmHeadPlaceAsBlock   = cfg.getBoolean("hrm.head-place-as-block", true);
-        hrmHeadNoDespawn      = cfg.getBoolean("hrm.head-no-despawn", true);
-        hrmHeadFireproof      = cfg.getBoolean("hrm.head-fireproof", true);
-
-        if (isLimboServer) {
-            loadLimboSpawn();
+        for (World world : getServer().getWorlds()) {
+            boolean original = originalWorldHardcore.getOrDefault(world.getName(), false);
+            world.setHardcore(loaded.hardcoreHearts() || original);
         }
 
         MessageUtil.loadMessages(cfg);
-        
-        // Refresh cached config values in listeners after config reload
-        if (mainServerListener != null) {
-            mainServerListener.refreshConfigCache();
+
+        // Refresh components that derive state from the config
+        if (limboSpawnPool != null) {
+            limboSpawnPool.refreshSettings();
         }
-        if (limboServerListener != null) {
-            limboServerListener.refreshLimboSpawnCache();
+        if (tickScheduler != null) {
+            tickScheduler.refreshSettings();
         }
-    }
-
-    private long loadGracePeriod(FileConfiguration cfg) {
-        // Try new string format first (e.g., "1h30m")
-        String gracePeriodStr = cfg.getString("lives.grace-period");
-        if (gracePeriodStr != null) {
-            long millis = TimeUtil.parseTimeToMillis(gracePeriodStr);
-            if (millis >= 0) {
-                return millis;
-            }
-            getLogger().log(Level.WARNING, "Invalid grace-period format: {0}. Using default of 24h.", gracePeriodStr);
+        if (databaseManager != null) {
+            databaseManager.getMainThreadGuard().refreshSettings();
         }
-
-        // Fall back to old format (hours as integer) for backward compatibility
-        int hours = cfg.getInt("lives.grace-period-hours", -1);
-        if (hours >= 0) {
-            return hours * 3600_000L;
+        return true;
+    }
+
+    /**
+     * config.yml from disk with the jar's copy as defaults, or null when it does not parse.
+     */
+    private FileConfiguration readConfigFile() {
+        YamlConfiguration cfg = new YamlConfiguration();
+        try {
+            cfg.load(new File(getDataFolder(), "config.yml"));
+        } catch (FileNotFoundException e) {
+            // nothing saved yet, the defaults below apply
+        } catch (IOException | InvalidConfigurationException e) {
+            getLogger().log(Level.WARNING, "Could not read config.yml: {0}", e.getMessage());
+            return null;
         }
-
-        // Default to 24 hours
-        return 24 * 3600_000L;
+        cfg.setDefaults(defaultConfig());
+        return cfg;
     }
 
-    private void loadLimboSpawn() {
-        FileConfiguration cfg = getConfig();
-        String worldName = cfg.getString("limbo.spawn.world", DEFAULT_WORLD);
-
-        if (worldName == null) {
-            worldName = DEFAULT_WORLD;
-        }
+    private YamlConfiguration defaultConfig() {
+        InputStream in = getResource("config.yml");
+        return in == null ? new YamlConfiguration()
+                : YamlConfiguration.loadConfiguration(new InputStreamReader(in, StandardCharsets.UTF_8));
+    }
 
-        final String resolvedWorldName = worldName;
-        World world = Bukkit.getWorld(resolvedWorldName);
+    /**
+     * the last config.yml that passed validation, so direct readers never see a rejected file.
+     */
+    @Override
+    public FileConfiguration getConfig() {
+        FileConfiguration cfg = liveConfig;
+        return cfg != null ? cfg : super.getConfig();
+    }
 
-        if (world == null) { // world not loaded yet, defer
-            Bukkit.getScheduler().runTaskLater(this, () -> {
-                World limboWorld = Bukkit.getWorld(resolvedWorldName);
-                if (limboWorld != null) {
-                    limboSpawn = buildSpawnLocation(limboWorld, cfg);
-                    debug("Limbo spawn loaded: " + limboSpawn);
-                } else {
-                    getLogger().log(Level.WARNING, "Limbo spawn world ''{0}'' not found!", resolvedWorldName);
-                }
-            }, 20L);
-        } else {
-            limboSpawn = buildSpawnLocation(world, cfg);
-        }
-    }
-
-    private Location buildSpawnLocation(World world, FileConfiguration cfg) {
-        return new Location(world,
-                cfg.getDouble(CFG_SPAWN_X, 0.5),
-                cfg.getDouble(CFG_SPAWN_Y, 65.0),
-                cfg.getDouble(CFG_SPAWN_Z, 0.5),
-                (float) cfg.getDouble(CFG_SPAWN_YAW, 0.0),
-                (float) cfg.getDouble(CFG_SPAWN_PITCH, 0.0));
-    }
-
-    public void saveLimboSpawn(Location loc) {
-        this.limboSpawn = loc;
-        FileConfiguration cfg = getConfig();
-        World world = loc.getWorld();
-        cfg.set("limbo.spawn.world", world != null ? world.getName() : DEFAULT_WORLD);
-        cfg.set(CFG_SPAWN_X, loc.getX());
-        cfg.set(CFG_SPAWN_Y, loc.getY());
-        cfg.set(CFG_SPAWN_Z, loc.getZ());
-        cfg.set(CFG_SPAWN_YAW, (double) loc.getYaw());
-        cfg.set(CFG_SPAWN_PITCH, (double) loc.getPitch());
-        saveConfig();
-        
-        // Refresh cached limbo spawn in listener
-        if (limboServerListener != null) {
-            limboServerListener.refreshLimboSpawnCache();
-        }
+    /**
+     * the config currently in effect; replaced whole on reload, never changed in place.
+     */
+    public PluginSettings getSettings() {
+        return settings;
     }
 
     @EventHandler
     public void onWorldLoad(WorldLoadEvent event) {
         World world = event.getWorld();
         originalWorldHardcore.putIfAbsent(world.getName(), world.isHardcore());
-        if (hardcoreHearts) {
+        if (settings.hardcoreHearts()) {
             world.setHardcore(true);
         }
     }
 
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerRevived(PlayerRevivedEvent event) {
+        // Remove any dropped player head items from all worlds
+        removeDroppedHeads(event.getPlayerUuid());
+    }
+
+    @Override
     public void debug(String message) {
-        if (debugMode && getLogger().isLoggable(Level.INFO)) {
+        if (settings.debug() && getLogger().isLoggable(Level.INFO)) {
             getLogger().log(Level.INFO, "[DEBUG] {0}", message);
         }
     }
 
+    @Override
     public boolean isDebugMode() {
-        return debugMode;
+        return settings.debug();
     }
 
     public static SSoggySouls getInstance() {
         return instance;
     }
 
+    public PerfProfiler getProfiler() {
+        return profiler;
+    }
+
     public DatabaseManager getDatabaseManager() {
         return databaseManager;
     }
@@ -454,59 +541,79 @@ public final class SSoggySouls extends JavaPlugin implements Listener {
     }
 
     public boolean isLimboServer() {
-        return isLimboServer;
+        return settings.limboServer();
     }
 
     public String getMainServerName() {
-        return mainServerName;
+        return settings.mainServerName();
     }
 
     public String getLimboServerName() {
-        return limboServerName;
+        return settings.limboServerName();
     }
 
+    @Override
     public int getDefaultLives() {
-        return defaultLives;
+        return settings.defaultLives();
     }
 
     public long getGracePeriodMillis() {
-        return gracePeriodMillis;
+        return settings.gracePeriodMillis();
     }
 
     public int getLivesOnRevive() {
-        return livesOnRevive;
+        return settings.livesOnRevive();
     }
 
     public int getMaxLives() {
-        return maxLives;
+        return settings.maxLives();
     }
 
     public int getSendToLimboDelayTicks() {
-        return sendToLimboDelayTicks;
+        return settings.sendToLimboDelayTicks();
     }
 
     public boolean isSpectatorOnDeath() {
-        return spectatorOnDeath;
+        return settings.spectatorOnDeath();
     }
 
     public boolean isDetectHrmRevive() {
-        return detectHrmRevive;
+        return settings.detectHrmRevive();
     }
 
     public String getDeathMode() {
-        return deathMode;
+        return settings.deathMode();
     }
 
     public int getHybridTimeoutSeconds() {
-        return hybridTimeoutSeconds;
+        return settings.hybridTimeoutSeconds();
     }
 
     public int getReviveCooldownSeconds() {
-        return reviveCooldownSeconds;
+        return settings.reviveCooldownSeconds();
+    }
+
+    public int getLimboAdmissionPerTick() {
+        return settings.limboAdmissionPerTick();
+    }
+
+    public LimboAdmissionQueue getLimboAdmissionQueue() {
+        return limboServerListener != null ? limboServerListener.getAdmissionQueue() : null;
+    }
+
+    public LimboSpawnPool getLimboSpawnPool() {
+        return limboSpawnPool;
+    }
+
+    /**
+     * the death inventory vault, or null on the limbo server or when disabled.
+     */
+    public DeathInventoryVault getDeathVault() {
+        return deathVault;
     }
 
-    public Location getLimboSpawn() {
-        return limboSpawn;
+    public boolean isDeathVaultRestoreOnRevive() {
+        return settings.deathVaultRestoreOnRevive();
     }
 
     public Set<UUID> getLimboDeadPlayers() {
@@ -514,56 +621,122 @@ public final class SSoggySouls extends JavaPlugin implements Listener {
     }
 
     public boolean isHrmEnabled() {
-        return hrmEnabled;
+        return settings.hrmEnabled();
     }
 
     public boolean isHrmDropHeads() {
-        return hrmEnabled && hrmDropHeads;
+        PluginSettings s = settings;
+        return s.hrmEnabled() && s.hrmDropHeads();
     }
 
     public boolean isHrmDeathLocationMsg() {
-        return hrmEnabled && hrmDeathLocationMsg;
+        PluginSettings s = settings;
+        return s.hrmEnabled() && s.hrmDeathLocationMsg();
     }
 
     public boolean isHrmStructureRevive() {
-        return hrmEnabled && hrmStructureRevive;
+        PluginSettings s = settings;
+        return s.hrmEnabled() && s.hrmStructureRevive();
     }
 
     public boolean isHrmLeaveStructureBase() {
-        return hrmLeaveStructureBase;
+        return settings.hrmLeaveStructureBase();
+    }
+
+    public List<RitualPattern> getRitualPatterns() {
+        return settings.ritualPatterns();
     }
 
     public boolean isHrmHeadEffects() {
-        return hrmEnabled && hrmHeadEffects;
+        PluginSettings s = settings;
+        return s.hrmEnabled() && s.hrmHeadEffects();
     }
 
     public boolean isHrmReviveSkullRecipe() {
-        return hrmEnabled && hrmReviveSkullRecipe;
+        PluginSettings s = settings;
+        return s.hrmEnabled() && s.hrmReviveSkullRecipe();
     }
 
     public boolean isHrmHeadPlaceAsBlock() {
-        return hrmHeadPlaceAsBlock;
+        return settings.hrmHeadPlaceAsBlock();
     }
 
     public boolean isHrmHeadNoDespawn() {
-        return hrmHeadNoDespawn;
+        return settings.hrmHeadNoDespawn();
     }
 
     public boolean isHrmHeadFireproof() {
-        return hrmHeadFireproof;
+        return settings.hrmHeadFireproof();
+    }
+
+    public boolean isHrmHeadCleanupFullScan() {
+        return settings.hrmHeadCleanupFullScan();
+    }
+
+    public long getHeadTombstoneExpiryMillis() {
+        return settings.headTombstoneExpiryMillis();
+    }
+
+    public double getTickBudgetInitialMs() {
+        return settings.tickBudgetInitialMs();
+    }
+
+    public double getTickBudgetMinMs() {
+        return settings.tickBudgetMinMs();
+    }
+
+    public double getTickBudgetMaxMs() {
+        return settings.tickBudgetMaxMs();
+    }
+
+    /**
+     * shared scheduler for sliced main-thread work, see {@link TickBudgetScheduler}.
+     */
+    public TickBudgetScheduler getTickScheduler() {
+        return tickScheduler;
+    }
+
+    public long getHeadCleanupMergeWindowTicks() {
+        return settings.headCleanupMergeWindowTicks();
+    }
+
+    public HeadCleanupCoordinator getHeadCleanupCoordinator() {
+        return headDropListener != null ? headDropListener.getCleanupCoordinator() : null;
+    }
+
+    public HeadPlacementSearch getHeadPlacementSearch() {
+        return headDropListener != null ? headDropListener.getPlacementSearch() : null;
+    }
+
+    public HeadTextures getHeadTextures() {
+        return headTextures;
+    }
+
+    public long getHeadTextureTtlMillis() {
+        return settings.headTextureTtlMillis();
+    }
+
+    public HeadTombstones getHeadTombstones() {
+        return headTombstones;
     }
 
     public boolean isLimboOpSecurityEnabled() {
-        return limboOpSecurityEnabled;
+        return settings.limboOpSecurityEnabled();
     }
 
     public Set<String> getLimboTrustedAdmins() {
-        return Collections.unmodifiableSet(limboTrustedAdmins);
+        return settings.limboTrustedAdmins();
     }
 
     public void removeDroppedHeads(UUID ownerUuid) {
+        PluginSettings s = settings;
         if (headDropListener != null) {
             headDropListener.removeDroppedHeads(ownerUuid);
+        } else if (s.hrmEnabled() && s.limboServer()) {
+            // heads live on the main server, leave a tombstone for it to pick up
+            long expiresAt = System.currentTimeMillis() + s.headTombstoneExpiryMillis();
+            getServer().getScheduler().runTaskAsynchronously(this, () ->
+                    databaseManager.saveHeadTombstone(ownerUuid, expiresAt));
         }
     }
 
@@ -571,8 +744,8 @@ public final class SSoggySouls extends JavaPlugin implements Listener {
     private void checkVersionCompatibility() {
         String currentVersion = getDescription().getVersion();
         // Use different keys for main and limbo servers to properly track each
-        String versionKey = isLimboServer ? "limbo_version" : "main_version";
-        String otherVersionKey = isLimboServer ? "main_version" : "limbo_version";
+        String versionKey = settings.limboServer() ? "limbo_version" : "main_version";
+        String otherVersionKey = settings.limboServer() ? "main_version" : "limbo_version";
 
         String storedVersion = databaseManager.getPluginVersion(versionKey);
         String otherServerVersion = databaseManager.getPluginVersion(otherVersionKey);
@@ -585,13 +758,13 @@ public final class SSoggySouls extends JavaPlugin implements Listener {
                     new Object[]{storedVersion, currentVersion});
         } else if (storedVersion == null) {
             getLogger().log(Level.INFO, "Plugin version {0} registered in database for {1} server.",
-                    new Object[]{currentVersion, isLimboServer ? "Limbo" : "Main"});
+                    new Object[]{currentVersion, settings.limboServer() ? "Limbo" : "Main"});
         }
 
         // Check if the other server (Main vs Limbo) has a different version
         if (otherServerVersion != null && !currentVersion.equals(otherServerVersion)) {
-            String ourRole = isLimboServer ? "Limbo" : "Main";
-            String otherRole = isLimboServer ? "Main" : "Limbo";
+            String ourRole = settings.limboServer() ? "Limbo" : "Main";
+            String otherRole = settings.limboServer() ? "Main" : "Limbo";
             getLogger().warning("╔════════════════════════════════════════╗");
             getLogger().warning("║  ⚠️  VERSION MISMATCH DETECTED!       ║");
             getLogger().warning("╠════════════════════════════════════════╣");
@@ -1,6 +1,7 @@
 package org.ssoggy.ssoggysouls.command;
 
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
@@ -26,7 +27,21 @@ import net.md_5.bungee.api.chat.hover.content.Text;
 
 import org.ssoggy.ssoggysouls.SSoggySouls;
 import org.ssoggy.ssoggysouls.database.DatabaseManager;
+import org.ssoggy.ssoggysouls.database.MainThreadGuard;
+import org.ssoggy.ssoggysouls.database.PlayerNameIndex;
+import org.ssoggy.ssoggysouls.database.PlayerSelector;
+import org.ssoggy.ssoggysouls.database.PlayerSort;
+import org.ssoggy.ssoggysouls.event.PlayerRevivedEvent;
+import org.ssoggy.ssoggysouls.event.SentToLimboEvent;
+import org.ssoggy.ssoggysouls.hrm.HeadCleanupCoordinator;
+import org.ssoggy.ssoggysouls.hrm.HeadPlacementSearch;
+import org.ssoggy.ssoggysouls.hrm.HeadTextures;
+import org.ssoggy.ssoggysouls.hrm.HeadTombstones;
+import org.ssoggy.ssoggysouls.limbo.LimboAdmissionQueue;
+import org.ssoggy.ssoggysouls.model.PlayerChange;
 import org.ssoggy.ssoggysouls.model.PlayerData;
+import org.ssoggy.ssoggysouls.perf.PerfProfiler;
+import org.ssoggy.ssoggysouls.task.TickBudgetScheduler;
 import org.ssoggy.ssoggysouls.util.CommandUtil;
 import org.ssoggy.ssoggysouls.util.MessageUtil;
 import org.ssoggy.ssoggysouls.util.PermissionUtil;
@@ -34,6 +49,7 @@ import org.ssoggy.ssoggysouls.util.PlayerRevivalUtil;
 import org.ssoggy.ssoggysouls.util.ServerTransferUtil;
 import org.ssoggy.ssoggysouls.util.TabCompleteUtil;
 import org.ssoggy.ssoggysouls.util.TimeUtil;
+import org.ssoggy.ssoggysouls.vault.DeathInventoryVault;
 
 public class AdminCommand implements CommandExecutor, TabCompleter {
 
@@ -46,10 +62,19 @@ public class AdminCommand implements CommandExecutor, TabCompleter {
     private static final String ERR_NUMBER = "&cInvalid number: ";
 
     private static final List<String> SUB_COMMANDS = Arrays.asList(
-            SUB_LIVES, SUB_GRACE, "kill", SUB_REVIVE, "reset", "info", "reload", "confirm");
+            SUB_LIVES, SUB_GRACE, "kill", SUB_REVIVE, "reset", "info", "list", "reload", "confirm", "stats", "perf", "restore");
     private static final List<String> LIVES_ACTIONS = Arrays.asList("set", "give", "take");
     private static final List<String> GRACE_ACTIONS = Arrays.asList("set", "remove");
-    private static final List<String> CONFIRM_ACTIONS = Arrays.asList("overwrite", "stack", "cancel");
+    private static final List<String> CONFIRM_ACTIONS = Arrays.asList("overwrite", "stack", "cancel", "bulk");
+    private static final List<String> SELECTOR_SUGGESTIONS = Arrays.asList("@all", "@alive", "@dead");
+    private static final List<String> LIST_OPTIONS = Arrays.asList(
+            "@all", "@alive", "@dead", "sort:name", "sort:lastdeath", "sort:lives", "reverse", "limit:");
+    private static final int LIST_PAGE_SIZE = 10;
+    private static final int LIST_MAX_PAGE_SIZE_PLAYER = 100;
+    private static final int LIST_MAX_PAGE_SIZE_CONSOLE = 1000;
+    private static final List<String> PERF_WINDOWS = Arrays.asList("1m", "5m", "15m");
+    private static final List<String> RESTORE_OPTIONS = Collections.singletonList("--force");
+    private static final int PERF_TOP = 10;
 
     private final SSoggySouls plugin;
     private final DatabaseManager databaseManager;
@@ -68,6 +93,20 @@ public class AdminCommand implements CommandExecutor, TabCompleter {
      */
     private record PendingGrace(UUID targetUuid, String targetName, long requestedMillis, long existingGraceUntil, long createdAt) {}
 
+    // bulk changes shown as a dry run, waiting for /psadmin confirm bulk (same keys as above)
+    private final Map<String, PendingBulk> pendingBulkConfirmations = new ConcurrentHashMap<>();
+
+    /**
+     * a bulk change that was counted but not applied yet.
+     *
+     * @param selector the players it applies to
+     * @param action revive, or the lives action (set, give, take)
+     * @param amount the lives to revive with, set, give or take
+     * @param matched how many players the dry run matched
+     * @param createdAt when the dry run ran (for expiry)
+     */
+    private record PendingBulk(PlayerSelector selector, String action, int amount, int matched, long createdAt) {}
+
     public AdminCommand(SSoggySouls plugin) {
         this.plugin = plugin;
         this.databaseManager = plugin.getDatabaseManager();
@@ -96,6 +135,7 @@ public class AdminCommand implements CommandExecutor, TabCompleter {
         long now = System.currentTimeMillis();
         long fiveMinutes = 5 * 60 * 1000L;
         pendingGraceConfirmations.entrySet().removeIf(entry -> (now - entry.getValue().createdAt()) > fiveMinutes);
+        pendingBulkConfirmations.entrySet().removeIf(entry -> (now - entry.getValue().createdAt()) > fiveMinutes);
     }
 
     @Override
@@ -126,8 +166,12 @@ public class AdminCommand implements CommandExecutor, TabCompleter {
             case SUB_REVIVE -> handleRevive(sender, args);
             case "reset"    -> handleReset(sender, args);
             case "info"     -> handleInfo(sender, args);
+            case "list"     -> handleList(sender, args);
             case "reload"   -> handleReload(sender);
-            case "confirm"  -> handleGraceConfirm(sender, args);
+            case "confirm"  -> handleConfirm(sender, args);
+            case "stats"    -> handleStats(sender);
+            case "perf"     -> handlePerf(sender, args);
+            case "restore"  -> handleRestore(sender, args);
             default -> sender.sendMessage(MessageUtil.colorize(
                     "&cUsage: /psadmin <subcommand> [args]"));
         }
@@ -145,6 +189,16 @@ public class AdminCommand implements CommandExecutor, TabCompleter {
         int amount = parseIntOrError(sender, args[3]);
         if (amount < 0) return;
 
+        if (PlayerSelector.isSelector(targetName)) {
+            if (!LIVES_ACTIONS.contains(action)) {
+                sender.sendMessage(MessageUtil.colorize(
+                        "&cUsage: /psadmin lives <set|give|take> <selector> <amount>"));
+                return;
+            }
+            prepareBulk(sender, targetName, action, amount);
+            return;
+        }
+
         Bukkit.getScheduler().runTaskAsynchronously(plugin, () ->
                 executeLivesChange(sender, targetName, action, amount));
     }
@@ -306,6 +360,14 @@ public class AdminCommand implements CommandExecutor, TabCompleter {
         }
     }
 
+    private void handleConfirm(CommandSender sender, String[] args) {
+        if (args.length >= 2 && "bulk".equalsIgnoreCase(args[1])) {
+            handleBulkConfirm(sender);
+        } else {
+            handleGraceConfirm(sender, args);
+        }
+    }
+
     private void handleGraceConfirm(CommandSender sender, String[] args) {
         if (args.length < 2) {
             sender.sendMessage(MessageUtil.colorize(
@@ -349,7 +411,7 @@ public class AdminCommand implements CommandExecutor, TabCompleter {
                 String message = MessageUtil.colorize(
                         "&aGrace period overwritten for &e" + pending.targetName()
                         + "&a (" + formattedTime + " from now).");
-                Bukkit.getScheduler().runTask(plugin, () -> sender.sendMessage(message));
+                Bukkit.getScheduler().runTask(plugin, plugin.getProfiler().wrap(() -> sender.sendMessage(message)));
             }
             case "stack" -> {
                 // If existing grace expired, stack from now; otherwise add to existing end time
@@ -364,12 +426,12 @@ public class AdminCommand implements CommandExecutor, TabCompleter {
                 String message = MessageUtil.colorize(
                         "&aGrace period stacked for &e" + pending.targetName()
                         + "&a (total remaining: " + totalRemaining + ").");
-                Bukkit.getScheduler().runTask(plugin, () -> sender.sendMessage(message));
+                Bukkit.getScheduler().runTask(plugin, plugin.getProfiler().wrap(() -> sender.sendMessage(message)));
             }
             case "cancel" -> {
                 // Build message before scheduling to reduce work on main thread
                 String message = MessageUtil.colorize("&7Grace period operation cancelled.");
-                Bukkit.getScheduler().runTask(plugin, () -> sender.sendMessage(message));
+                Bukkit.getScheduler().runTask(plugin, plugin.getProfiler().wrap(() -> sender.sendMessage(message)));
             }
             default -> {
                 // Invalid choice, re-add the pending confirmation with updated timestamp
@@ -385,7 +447,7 @@ public class AdminCommand implements CommandExecutor, TabCompleter {
                 // Build message before scheduling to reduce work on main thread
                 String message = MessageUtil.colorize(
                         "&cInvalid option. Use: /psadmin confirm <overwrite|stack|cancel>");
-                Bukkit.getScheduler().runTask(plugin, () -> sender.sendMessage(message));
+                Bukkit.getScheduler().runTask(plugin, plugin.getProfiler().wrap(() -> sender.sendMessage(message)));
             }
         }
     }
@@ -415,6 +477,8 @@ public class AdminCommand implements CommandExecutor, TabCompleter {
         }
 
         databaseManager.setLives(playerData.getUuid(), 0);
+        playerData.setLives(0);
+        playerData.setDead(true);
 
         plugin.getLogger().log(Level.INFO, "{0} force-killed {1}",
                 new Object[]{sender.getName(), playerData.getUsername()});
@@ -423,12 +487,12 @@ public class AdminCommand implements CommandExecutor, TabCompleter {
 
         Player target = Bukkit.getPlayer(playerData.getUuid());
         if (target != null && target.isOnline()) {
-            Bukkit.getScheduler().runTask(plugin, () ->
-                    applyDeathTransition(target));
+            Bukkit.getScheduler().runTask(plugin, plugin.getProfiler().wrap(() ->
+                    applyDeathTransition(target, playerData)));
         }
     }
 
-    private void applyDeathTransition(Player target) {
+    private void applyDeathTransition(Player target, PlayerData data) {
         if (!target.isOnline()) return;
 
         String deathMode = plugin.getDeathMode();
@@ -447,25 +511,27 @@ public class AdminCommand implements CommandExecutor, TabCompleter {
 
                 // Schedule the hybrid timeout and register it for proper cancellation
                 UUID targetUuid = target.getUniqueId();
-                BukkitTask task = Bukkit.getScheduler().runTaskLater(plugin, () -> {
+                BukkitTask task = Bukkit.getScheduler().runTaskLater(plugin, plugin.getProfiler().wrap(() -> {
                     // Remove from tracking when task executes
                     plugin.getMainServerListener().cancelHybridTransfer(targetUuid);
                     if (target.isOnline()) {
                         target.sendMessage(MessageUtil.get("death-sent-to-limbo"));
+                        Bukkit.getPluginManager().callEvent(new SentToLimboEvent(data));
                         ServerTransferUtil.sendToLimbo(target);
                     }
-                }, plugin.getHybridTimeoutSeconds() * 20L);
+                }), plugin.getHybridTimeoutSeconds() * 20L);
 
                 // Register task with MainServerListener so it can be cancelled if player is revived
                 plugin.getMainServerListener().registerHybridTransfer(targetUuid, task);
             }
             default -> {
                 target.sendMessage(MessageUtil.get("death-sent-to-limbo"));
-                Bukkit.getScheduler().runTaskLater(plugin, () -> {
+                Bukkit.getScheduler().runTaskLater(plugin, plugin.getProfiler().wrap(() -> {
                     if (target.isOnline()) {
+                        Bukkit.getPluginManager().callEvent(new SentToLimboEvent(data));
                         ServerTransferUtil.sendToLimbo(target);
                     }
-                }, plugin.getSendToLimboDelayTicks());
+                }), plugin.getSendToLimboDelayTicks());
             }
         }
     }
@@ -493,6 +559,11 @@ public class AdminCommand implements CommandExecutor, TabCompleter {
                 : plugin.getLivesOnRevive();
         if (livesToRestore < 0) return;
 
+        if (PlayerSelector.isSelector(targetName)) {
+            prepareBulk(sender, targetName, SUB_REVIVE, livesToRestore);
+            return;
+        }
+
         final int lives = livesToRestore;
         Bukkit.getScheduler().runTaskAsynchronously(plugin, () ->
                 executeRevive(sender, targetName, lives));
@@ -518,16 +589,116 @@ public class AdminCommand implements CommandExecutor, TabCompleter {
             sender.sendMessage(MessageUtil.get("revive-admin-success",
                     KEY_PLAYER, playerData.getUsername(),
                     KEY_LIVES, livesToRestore));
-            restoreOnlineSpectator(playerData);
-
-            // Remove any dropped player head items from all worlds
-            plugin.removeDroppedHeads(playerData.getUuid());
+            PlayerRevivalUtil.completeRevive(plugin, playerData, livesToRestore, PlayerRevivedEvent.Cause.ADMIN);
         } else {
             sender.sendMessage(MessageUtil.colorize(
                     "&cFailed to revive " + playerData.getUsername()));
         }
     }
 
+    /**
+     * dry run of a bulk change: counts the players the selector matches and holds the
+     * change until the sender runs /psadmin confirm bulk.
+     */
+    private void prepareBulk(CommandSender sender, String selectorText, String action, int amount) {
+        PlayerSelector selector;
+        try {
+            selector = PlayerSelector.parse(selectorText, System.currentTimeMillis());
+        } catch (IllegalArgumentException e) {
+            sender.sendMessage(MessageUtil.colorize("&cInvalid selector: " + e.getMessage()));
+            return;
+        }
+
+        boolean revive = SUB_REVIVE.equals(action);
+        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+            int matched = databaseManager.countSelected(selector, revive);
+            if (matched < 0) {
+                sender.sendMessage(MessageUtil.colorize("&cFailed to count players. Check console for errors."));
+                return;
+            }
+            if (matched == 0) {
+                sender.sendMessage(MessageUtil.colorize("&7No " + (revive ? "dead " : "")
+                        + "players match &f" + selector + "&7."));
+                return;
+            }
+
+            pendingBulkConfirmations.put(getConfirmationKey(sender),
+                    new PendingBulk(selector, action, amount, matched, System.currentTimeMillis()));
+            sender.sendMessage(MessageUtil.colorize("&eDry run: &f" + matched + " &eplayer(s) match &f"
+                    + selector + "&e."));
+            sender.sendMessage(MessageUtil.colorize("&7Confirm within 2 minutes to "
+                    + describeBulk(action, amount) + ":"));
+            sendBulkConfirmOption(sender);
+        });
+    }
+
+    private static String describeBulk(String action, int amount) {
+        return switch (action) {
+            case SUB_REVIVE -> "revive them with " + amount + " live(s)";
+            case "give" -> "give each of them " + amount + " live(s)";
+            case "take" -> "take " + amount + " live(s) from each of them";
+            default -> "set their lives to " + amount;
+        };
+    }
+
+    private static void sendBulkConfirmOption(CommandSender sender) {
+        if (sender instanceof Player player) {
+            TextComponent confirm = new TextComponent(MessageUtil.colorize("  &a[&lConfirm&a]"));
+            confirm.setClickEvent(new ClickEvent(ClickEvent.Action.RUN_COMMAND, "/psadmin confirm bulk"));
+            confirm.setHoverEvent(new HoverEvent(HoverEvent.Action.SHOW_TEXT,
+                    new Text(MessageUtil.colorize("&7Apply the change to every matching player"))));
+            player.spigot().sendMessage(confirm);
+        } else {
+            sender.sendMessage(MessageUtil.colorize("  &a/psadmin confirm bulk &7- Apply the change"));
+        }
+    }
+
+    private void handleBulkConfirm(CommandSender sender) {
+        PendingBulk pending = pendingBulkConfirmations.remove(getConfirmationKey(sender));
+        if (pending == null) {
+            sender.sendMessage(MessageUtil.colorize(
+                    "&cNo pending bulk change found. Run the command with a selector first."));
+            return;
+        }
+        long twoMinutesMillis = 2 * 60 * 1000L;
+        if (System.currentTimeMillis() - pending.createdAt() > twoMinutesMillis) {
+            sender.sendMessage(MessageUtil.colorize(
+                    "&cBulk confirmation expired. Please run the command again."));
+            return;
+        }
+
+        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> executeBulk(sender, pending));
+    }
+
+    private void executeBulk(CommandSender sender, PendingBulk pending) {
+        long start = System.nanoTime();
+        List<PlayerChange> changes;
+        if (SUB_REVIVE.equals(pending.action())) {
+            changes = databaseManager.reviveSelected(pending.selector(), pending.amount());
+            List<PlayerData> revived = changes.stream().map(PlayerChange::before).toList();
+            PlayerRevivalUtil.completeRevives(plugin, revived, pending.amount(), PlayerRevivedEvent.Cause.ADMIN);
+        } else {
+            changes = databaseManager.changeLivesSelected(pending.selector(), pending.action(),
+                    pending.amount(), plugin.getMaxLives());
+            List<PlayerData> revived = changes.stream()
+                    .filter(PlayerChange::revived)
+                    .map(PlayerChange::after)
+                    .toList();
+            PlayerRevivalUtil.restoreOnlineSpectators(plugin, revived);
+        }
+        long millis = (System.nanoTime() - start) / 1_000_000L;
+
+        plugin.getLogger().log(Level.INFO, "{0} ran bulk {1} {2} on {3}: {4} player(s) in {5}ms",
+                new Object[]{sender.getName(), pending.action(), pending.amount(), pending.selector(),
+                        changes.size(), millis});
+        sender.sendMessage(MessageUtil.colorize("&aUpdated &e" + changes.size() + " &aplayer(s) matching &f"
+                + pending.selector() + " &7(" + millis + "ms)."));
+        if (changes.size() != pending.matched()) {
+            sender.sendMessage(MessageUtil.colorize("&7The dry run matched " + pending.matched()
+                    + "; players changed in between."));
+        }
+    }
+
     private void handleReset(CommandSender sender, String[] args) {
         if (args.length < 2) {
             sender.sendMessage(MessageUtil.colorize("&cUsage: /psadmin reset <player>"));
@@ -583,6 +754,131 @@ public class AdminCommand implements CommandExecutor, TabCompleter {
         sender.sendMessage(MessageUtil.colorize("&6&l═══════════════"));
     }
 
+    /**
+     * /psadmin list [selector] [sort:name|lastdeath|lives] [reverse] [limit:n] [after:cursor].
+     * each page is one keyset query streamed straight to the sender; the next-page command
+     * carries the last row's sort value and uuid as its cursor.
+     */
+    private void handleList(CommandSender sender, String[] args) {
+        String selectorText = "@all";
+        PlayerSort sort = PlayerSort.NAME;
+        boolean reverse = false;
+        int limit = LIST_PAGE_SIZE;
+        String after = null;
+        List<String> baseArgs = new ArrayList<>();
+
+        for (int i = 1; i < args.length; i++) {
+            String arg = args[i];
+            String lower = arg.toLowerCase();
+            if (lower.startsWith("after:")) {
+                after = arg.substring("after:".length());
+                continue;
+            }
+            baseArgs.add(arg);
+            if (lower.startsWith("sort:")) {
+                sort = PlayerSort.fromName(lower.substring("sort:".length()));
+                if (sort == null) {
+                    sender.sendMessage(MessageUtil.colorize("&cUnknown sort: " + arg + " (use name, lastdeath or lives)"));
+                    return;
+                }
+            } else if (lower.startsWith("limit:")) {
+                limit = parseIntOrError(sender, arg.substring("limit:".length()));
+                if (limit < 0) return;
+            } else if ("reverse".equals(lower)) {
+                reverse = true;
+            } else if (PlayerSelector.isSelector(arg)) {
+                selectorText = arg;
+            } else {
+                sender.sendMessage(MessageUtil.colorize(
+                        "&cUsage: /psadmin list [selector] [sort:name|lastdeath|lives] [reverse] [limit:n]"));
+                return;
+            }
+        }
+
+        PlayerSelector selector;
+        try {
+            selector = PlayerSelector.parse(selectorText, System.currentTimeMillis());
+        } catch (IllegalArgumentException e) {
+            sender.sendMessage(MessageUtil.colorize("&cInvalid selector: " + e.getMessage()));
+            return;
+        }
+
+        String afterValue = null;
+        String afterUuid = null;
+        if (after != null) {
+            int comma = after.lastIndexOf(',');
+            if (comma <= 0) {
+                sender.sendMessage(MessageUtil.colorize("&cInvalid page cursor: " + after));
+                return;
+            }
+            afterValue = after.substring(0, comma);
+            afterUuid = after.substring(comma + 1);
+        }
+
+        int maxLimit = sender instanceof Player ? LIST_MAX_PAGE_SIZE_PLAYER : LIST_MAX_PAGE_SIZE_CONSOLE;
+        int pageSize = Math.max(1, Math.min(limit, maxLimit));
+        // newest deaths first reads better, the others go up
+        boolean descending = (sort == PlayerSort.LAST_DEATH) != reverse;
+
+        PlayerSort order = sort;
+        String cursorValue = afterValue;
+        String cursorUuid = afterUuid;
+        Bukkit.getScheduler().runTaskAsynchronously(plugin, () ->
+                executeList(sender, selector, order, descending, cursorValue, cursorUuid, pageSize, baseArgs));
+    }
+
+    private void executeList(CommandSender sender, PlayerSelector selector, PlayerSort sort, boolean descending,
+                             String afterValue, String afterUuid, int pageSize, List<String> baseArgs) {
+        sender.sendMessage(MessageUtil.colorize("&6&l══ Players &7(" + selector + ", by "
+                + sort.name().toLowerCase().replace('_', ' ') + (descending ? ", descending" : "") + ") &6&l══"));
+
+        PlayerData[] last = new PlayerData[1];
+        int[] shown = new int[1];
+        // one extra row tells whether there is a next page
+        int read = databaseManager.streamPlayers(selector, sort, descending, afterValue, afterUuid,
+                pageSize + 1, data -> {
+                    if (shown[0] >= pageSize) return;
+                    sender.sendMessage(formatListLine(data));
+                    last[0] = data;
+                    shown[0]++;
+                });
+
+        if (read < 0) {
+            sender.sendMessage(MessageUtil.colorize("&cFailed to list players. Check console for errors."));
+            return;
+        }
+        if (read == 0) {
+            sender.sendMessage(MessageUtil.colorize("&7No players match."));
+            return;
+        }
+        if (read > pageSize) {
+            String next = "/psadmin list " + String.join(" ", baseArgs)
+                    + (baseArgs.isEmpty() ? "" : " ") + "after:" + sort.valueOf(last[0]) + "," + last[0].getUuid();
+            sendNextPage(sender, next);
+        } else {
+            sender.sendMessage(MessageUtil.colorize("&7End of list."));
+        }
+    }
+
+    private static String formatListLine(PlayerData data) {
+        return MessageUtil.colorize("&f" + data.getUsername()
+                + " &7| &e" + data.getLives() + " &7lives | " + (data.isDead() ? "&4Dead" : "&aAlive")
+                + " &7| died &f" + (data.getLastDeath() == 0 ? "never" : formatTimestamp(data.getLastDeath()))
+                + " &7| seen &f" + formatTimestamp(data.getLastSeen()));
+    }
+
+    private static void sendNextPage(CommandSender sender, String command) {
+        if (sender instanceof Player player) {
+            TextComponent next = new TextComponent(MessageUtil.colorize("  &e[&lNext Page&e]"));
+            next.setClickEvent(new ClickEvent(ClickEvent.Action.RUN_COMMAND, command));
+            next.setHoverEvent(new HoverEvent(HoverEvent.Action.SHOW_TEXT,
+                    new Text(MessageUtil.colorize("&7Show the next page"))));
+            player.spigot().sendMessage(next);
+        } else {
+            sender.sendMessage(MessageUtil.colorize("&7Next page: &f" + command));
+        }
+    }
+
     private void sendInfoHeader(CommandSender sender, PlayerData data) {
         sender.sendMessage(MessageUtil.colorize("&6&l══ Player Info ══"));
         sender.sendMessage(MessageUtil.colorize("&7Player: &f" + data.getUsername()));
@@ -626,11 +922,134 @@ public class AdminCommand implements CommandExecutor, TabCompleter {
     }
 
     private void handleReload(CommandSender sender) {
-        plugin.loadConfigValues();
+        if (!plugin.loadConfigValues()) {
+            sender.sendMessage(MessageUtil.colorize(
+                    "&cconfig.yml has invalid values, keeping the previous config. See the console for details."));
+            return;
+        }
         sender.sendMessage(MessageUtil.get("reload-success"));
         plugin.getLogger().log(Level.INFO, "{0} reloaded SSoggySouls config.", sender.getName());
     }
 
+    private void handleRestore(CommandSender sender, String[] args) {
+        if (args.length < 2) {
+            sender.sendMessage(MessageUtil.colorize("&cUsage: /psadmin restore <player> [--force]"));
+            return;
+        }
+        boolean force = args.length > 2 && "--force".equalsIgnoreCase(args[2]);
+
+        DeathInventoryVault vault = plugin.getDeathVault();
+        if (vault == null) {
+            sender.sendMessage(MessageUtil.get("death-vault-disabled"));
+            return;
+        }
+
+        Player target = Bukkit.getPlayerExact(args[1]);
+        if (target == null || !target.isOnline()) {
+            sender.sendMessage(MessageUtil.get("death-vault-not-online", KEY_PLAYER, args[1]));
+            return;
+        }
+
+        vault.restore(target, force, result -> {
+            switch (result) {
+                case RESTORED -> {
+                    sender.sendMessage(MessageUtil.get("death-vault-admin-restored", KEY_PLAYER, target.getName()));
+                    target.sendMessage(MessageUtil.get("death-vault-restored"));
+                    plugin.getLogger().log(Level.INFO, "{0} restored the death inventory of {1}",
+                            new Object[]{sender.getName(), target.getName()});
+                }
+                case NOTHING_STORED ->
+                    sender.sendMessage(MessageUtil.get("death-vault-empty", KEY_PLAYER, target.getName()));
+                case ALREADY_RESTORED ->
+                    sender.sendMessage(MessageUtil.get("death-vault-already-restored", KEY_PLAYER, target.getName()));
+                case FAILED ->
+                    sender.sendMessage(MessageUtil.get("death-vault-failed", KEY_PLAYER, target.getName()));
+            }
+        });
+    }
+
+    private void handleStats(CommandSender sender) {
+        sender.sendMessage(MessageUtil.colorize("&6&l══ SSoggySouls Stats ══"));
+
+        LimboAdmissionQueue queue = plugin.getLimboAdmissionQueue();
+        if (queue != null) {
+            sender.sendMessage(MessageUtil.colorize("&eLimbo admission queue"));
+            sender.sendMessage(MessageUtil.colorize("&7  Depth: &f" + queue.getDepth()
+                    + " &7(peak &f" + queue.getMaxDepth() + "&7, "
+                    + plugin.getLimboAdmissionPerTick() + "/tick)"));
+            sender.sendMessage(MessageUtil.colorize("&7  Oldest waiting: &f" + queue.getOldestWaitMillis() + "ms"));
+            sender.sendMessage(MessageUtil.colorize("&7  Admitted: &f" + queue.getTotalAdmitted()
+                    + " &7- avg wait &f" + queue.getAverageWaitMillis()
+                    + "ms&7, max &f" + queue.getMaxWaitMillis() + "ms"));
+        }
+
+        TickBudgetScheduler scheduler = plugin.getTickScheduler();
+        if (scheduler != null) {
+            sender.sendMessage(MessageUtil.colorize("&eTick budget scheduler"));
+            sender.sendMessage(MessageUtil.colorize("&7  MSPT: &f" + String.format("%.1f", scheduler.getMspt())
+                    + (scheduler.isUsingServerMspt() ? "" : " &7(measured)")
+                    + " &7- budget &f" + scheduler.getBudgetMicros() + "µs"
+                    + " &7(last tick used &f" + scheduler.getLastUsedMicros() + "µs&7)"));
+            sender.sendMessage(MessageUtil.colorize("&7  Jobs queued: &f" + scheduler.getQueuedJobs()
+                    + " &7- completed &f" + scheduler.getCompletedJobs()
+                    + " &7- steps &f" + scheduler.getTotalSteps()));
+        }
+
+        MainThreadGuard guard = databaseManager.getMainThreadGuard();
+        if (guard.isEnabled()) {
+            sender.sendMessage(MessageUtil.colorize("&eMain-thread database access"));
+            sender.sendMessage(MessageUtil.colorize("&7  Total: " + (guard.getTotalCalls() == 0 ? "&a0" : "&c" + guard.getTotalCalls())));
+            for (MainThreadGuard.CallSite site : guard.getTopCallSites(5)) {
+                sender.sendMessage(MessageUtil.colorize("&7  &f" + site.getCount() + "x &7" + site.getLocation()
+                        + " &8(avg " + String.format("%.2f", site.getAverageMillis())
+                        + "ms, max " + String.format("%.2f", site.getMaxMillis()) + "ms)"));
+            }
+        }
+
+        HeadCleanupCoordinator cleanup = plugin.getHeadCleanupCoordinator();
+        if (cleanup != null) {
+            sender.sendMessage(MessageUtil.colorize("&eHead cleanup passes"
+                    + (cleanup.isScanRunning() ? " &a(running)" : "")));
+            sender.sendMessage(MessageUtil.colorize("&7  Passes: &f" + cleanup.getPasses()
+                    + " &7- avg owners/pass &f" + String.format("%.1f", cleanup.getAverageOwnersPerPass())
+                    + " &7- joined mid-scan &f" + cleanup.getJoinedRunning()));
+            sender.sendMessage(MessageUtil.colorize("&7  Last pass: &f" + cleanup.getLastPassOwners()
+                    + " owner(s)&7, &f" + cleanup.getLastPassWallMillis() + "ms &7wall, &f"
+                    + cleanup.getLastPassBusyMicros() + "µs &7main thread (total &f"
+                    + (cleanup.getTotalBusyMicros() / 1000) + "ms&7)"));
+        }
+
+        HeadPlacementSearch placement = plugin.getHeadPlacementSearch();
+        if (placement != null && placement.getSearches() > 0) {
+            sender.sendMessage(MessageUtil.colorize("&eHead block placement"));
+            sender.sendMessage(MessageUtil.colorize("&7  Searches: &f" + placement.getSearches()
+                    + " &7- avg &f" + placement.getAverageSearchMicros() + "µs &7off-thread"));
+            sender.sendMessage(MessageUtil.colorize("&7  Placements: &f" + placement.getPlacements()
+                    + " &7- avg &f" + placement.getAveragePlaceMicros() + "µs&7, max &f"
+                    + placement.getMaxPlaceMicros() + "µs &7main thread"));
+            sender.sendMessage(MessageUtil.colorize("&7  Recheck misses: &f" + placement.getRecheckMisses()
+                    + " &7- dropped as item &f" + placement.getItemFallbacks()));
+        }
+
+        HeadTombstones tombstones = plugin.getHeadTombstones();
+        if (tombstones != null) {
+            sender.sendMessage(MessageUtil.colorize("&eHead tombstones"));
+            sender.sendMessage(MessageUtil.colorize("&7  Active: &f" + tombstones.getActiveCount()
+                    + " &7- chunks queued &f" + tombstones.getPendingChunks()));
+            sender.sendMessage(MessageUtil.colorize("&7  Chunks checked: &f" + tombstones.getChunksChecked()
+                    + " &7- heads removed &f" + tombstones.getHeadsRemoved()));
+        }
+
+        HeadTextures textures = plugin.getHeadTextures();
+        if (textures != null) {
+            sender.sendMessage(MessageUtil.colorize("&eHead textures"));
+            sender.sendMessage(MessageUtil.colorize("&7  Cached: &f" + textures.getCachedCount()
+                    + " &7- hits &f" + textures.getHits() + " &7- misses &f" + textures.getMisses()));
+        }
+
+        sender.sendMessage(MessageUtil.colorize("&6&l═══════════════════════"));
+    }
+
     private static void sendHelp(CommandSender sender) {
         sender.sendMessage(MessageUtil.colorize("&6&l══ SSoggySouls Admin ══"));
         sender.sendMessage(MessageUtil.colorize("&e/psadmin lives set <player> <n>  &7- Set lives"));
@@ -641,9 +1060,15 @@ public class AdminCommand implements CommandExecutor, TabCompleter {
         sender.sendMessage(MessageUtil.colorize("&e/psadmin confirm <overwrite|stack|cancel> &7- Confirm grace operation"));
         sender.sendMessage(MessageUtil.colorize("&e/psadmin kill <player>           &7- Force-kill"));
         sender.sendMessage(MessageUtil.colorize("&e/psadmin revive <player> [lives] &7- Revive"));
+        sender.sendMessage(MessageUtil.colorize("&e/psadmin lives|revive <selector> ... &7- Bulk change (e.g., @alive, lives<2, inactive>30d)"));
+        sender.sendMessage(MessageUtil.colorize("&e/psadmin confirm bulk            &7- Apply a bulk change after its dry run"));
         sender.sendMessage(MessageUtil.colorize("&e/psadmin reset <player>          &7- Reset to defaults"));
         sender.sendMessage(MessageUtil.colorize("&e/psadmin info <player>           &7- Detailed info"));
+        sender.sendMessage(MessageUtil.colorize("&e/psadmin list [selector] [sort:name|lastdeath|lives] &7- List players"));
+        sender.sendMessage(MessageUtil.colorize("&e/psadmin restore <player> [--force] &7- Restore death inventory"));
         sender.sendMessage(MessageUtil.colorize("&e/psadmin reload                  &7- Reload config"));
+        sender.sendMessage(MessageUtil.colorize("&e/psadmin stats                   &7- Runtime stats"));
+        sender.sendMessage(MessageUtil.colorize("&e/psadmin perf [1m|15m]           &7- Slowest handlers and tasks"));
         sender.sendMessage(MessageUtil.colorize("&6&l═══════════════════════"));
     }
 
@@ -670,6 +1095,47 @@ public class AdminCommand implements CommandExecutor, TabCompleter {
         return sdf.format(new Date(millis));
     }
 
+    /**
+     * /psadmin perf [1m|15m]: the plugin's most expensive handlers and callbacks.
+     */
+    private void handlePerf(CommandSender sender, String[] args) {
+        PerfProfiler profiler = plugin.getProfiler();
+        if (!profiler.isEnabled()) {
+            sender.sendMessage(MessageUtil.colorize(
+                    "&cThe profiler is off. Set &fperformance.profiler.enabled: true &cand restart the server."));
+            return;
+        }
+
+        int minutes = 1;
+        if (args.length > 1) {
+            long millis = TimeUtil.parseTimeToMillis(args[1]);
+            if (millis < 60_000L || millis > 15 * 60_000L) {
+                sender.sendMessage(MessageUtil.colorize("&cUsage: /psadmin perf [1m|15m] (1 to 15 minutes)"));
+                return;
+            }
+            minutes = (int) (millis / 60_000L);
+        }
+
+        List<PerfProfiler.Sample> samples = profiler.top(minutes, PERF_TOP);
+        int covered = profiler.coveredMinutes(minutes);
+        double tickNanos = profiler.coveredTicks(minutes) * 50_000_000.0;
+        sender.sendMessage(MessageUtil.colorize("&6&l══ SSoggySouls Perf &7(" + (covered == 0
+                ? "current minute" : "last " + covered + "m") + ")&6&l ══"));
+        if (samples.isEmpty()) {
+            sender.sendMessage(MessageUtil.colorize("&7Nothing timed yet."));
+            return;
+        }
+        for (PerfProfiler.Sample sample : samples) {
+            sender.sendMessage(MessageUtil.colorize("&e" + sample.name()));
+            sender.sendMessage(MessageUtil.colorize("&7  &f" + sample.calls() + "x &7total &f"
+                    + String.format("%.1f", sample.totalNanos() / 1_000_000.0) + "ms &7("
+                    + String.format("%.2f", sample.totalNanos() * 100 / tickNanos) + "% of ticks) avg &f"
+                    + (sample.totalNanos() / sample.calls() / 1000) + "µs &7max &f"
+                    + (sample.maxNanos() / 1000) + "µs &7worst tick &f"
+                    + (sample.worstTickNanos() / 1000) + "µs"));
+        }
+    }
+
     @Override
     public List<String> onTabComplete(CommandSender sender, Command command,
                                        String alias, String[] args) {
@@ -687,25 +1153,37 @@ public class AdminCommand implements CommandExecutor, TabCompleter {
         };
     }
 
-    private static List<String> completeArgTwo(String sub, String partial) {
+    private List<String> completeArgTwo(String sub, String partial) {
         return switch (sub) {
+            case "list" -> filterStartsWith(LIST_OPTIONS, partial);
+            case "perf" -> filterStartsWith(PERF_WINDOWS, partial);
             case SUB_LIVES -> filterStartsWith(LIVES_ACTIONS, partial);
             case SUB_GRACE -> filterStartsWith(GRACE_ACTIONS, partial);
             case "confirm" -> filterStartsWith(CONFIRM_ACTIONS, partial);
-            default -> playerNames(partial);
+            case "kill" -> playerNames(partial, PlayerNameIndex.Filter.ALIVE);
+            case SUB_REVIVE -> partial.startsWith("@")
+                    ? filterStartsWith(SELECTOR_SUGGESTIONS, partial)
+                    : playerNames(partial, PlayerNameIndex.Filter.DEAD);
+            default -> playerNames(partial, PlayerNameIndex.Filter.ANY);
         };
     }
 
-    private static List<String> completeArgThree(String sub, String[] args) {
+    private List<String> completeArgThree(String sub, String[] args) {
         return switch (sub) {
-            case SUB_LIVES, SUB_GRACE -> playerNames(args[2]);
+            case "list" -> filterStartsWith(LIST_OPTIONS, args[2]);
+            case SUB_LIVES -> args[2].startsWith("@")
+                    ? filterStartsWith(SELECTOR_SUGGESTIONS, args[2])
+                    : playerNames(args[2], PlayerNameIndex.Filter.ANY);
+            case SUB_GRACE -> playerNames(args[2], PlayerNameIndex.Filter.ANY);
             case SUB_REVIVE -> Arrays.asList("1", "2", "3");
+            case "restore" -> filterStartsWith(RESTORE_OPTIONS, args[2]);
             default -> Collections.emptyList();
         };
     }
 
     private static List<String> completeArgFour(String sub, String[] args) {
         return switch (sub) {
+            case "list" -> filterStartsWith(LIST_OPTIONS, args[3]);
             case SUB_LIVES -> Arrays.asList("1", "2", "3", "5");
             case SUB_GRACE -> "set".equalsIgnoreCase(args[1])
                     ? Arrays.asList("1h", "6h", "12h", "24h", "1h30m", "2h30m")
@@ -718,7 +1196,7 @@ public class AdminCommand implements CommandExecutor, TabCompleter {
         return TabCompleteUtil.filterStartsWith(options, prefix);
     }
 
-    private static List<String> playerNames(String prefix) {
-        return TabCompleteUtil.getOnlinePlayerNames(prefix);
+    private List<String> playerNames(String prefix, PlayerNameIndex.Filter filter) {
+        return TabCompleteUtil.getKnownPlayerNames(databaseManager.getNameIndex(), prefix, filter);
     }
 }
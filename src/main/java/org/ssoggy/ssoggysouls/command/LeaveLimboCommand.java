@@ -36,10 +36,10 @@ public class LeaveLimboCommand implements CommandExecutor {
         }
 
         player.sendMessage(MessageUtil.get("limbo-visit-leaving"));
-        Bukkit.getScheduler().runTaskLater(plugin, () -> {
+        Bukkit.getScheduler().runTaskLater(plugin, plugin.getProfiler().wrap(() -> {
             if (player.isOnline()) {
                 ServerTransferUtil.sendToMain(player);
             }
-        }, 20L);
+        }), 20L);
     }
 }
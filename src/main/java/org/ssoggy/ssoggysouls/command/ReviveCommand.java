@@ -12,6 +12,8 @@ import org.bukkit.command.TabCompleter;
 
 import org.ssoggy.ssoggysouls.SSoggySouls;
 import org.ssoggy.ssoggysouls.database.DatabaseManager;
+import org.ssoggy.ssoggysouls.database.PlayerNameIndex;
+import org.ssoggy.ssoggysouls.event.PlayerRevivedEvent;
 import org.ssoggy.ssoggysouls.model.PlayerData;
 import org.ssoggy.ssoggysouls.util.CommandUtil;
 import org.ssoggy.ssoggysouls.util.MessageUtil;
@@ -74,10 +76,7 @@ public class ReviveCommand implements CommandExecutor, TabCompleter {
                 sender.sendMessage(MessageUtil.get("revive-admin-success",
                         KEY_PLAYER, data.getUsername(),
                         "lives", livesToRestore));
-                restoreOnlineSpectator(data);
-
-                // Remove any dropped player head items from all worlds
-                plugin.removeDroppedHeads(data.getUuid());
+                PlayerRevivalUtil.completeRevive(plugin, data, livesToRestore, PlayerRevivedEvent.Cause.COMMAND);
             } else {
                 sender.sendMessage(MessageUtil.colorize(
                         "&cFailed to revive " + data.getUsername() + ". Check console for errors."));
@@ -87,15 +86,11 @@ public class ReviveCommand implements CommandExecutor, TabCompleter {
         return true;
     }
 
-    private void restoreOnlineSpectator(PlayerData data) {
-        PlayerRevivalUtil.restoreOnlineSpectator(plugin, data);
-    }
-
     @Override
     public List<String> onTabComplete(CommandSender sender, Command command,
                                        String alias, String[] args) {
         if (args.length == 1) {
-            return TabCompleteUtil.getOnlinePlayerNames(args[0]);
+            return TabCompleteUtil.getKnownPlayerNames(db.getNameIndex(), args[0], PlayerNameIndex.Filter.DEAD);
         }
         return Collections.emptyList();
     }
@@ -1,5 +1,8 @@
 package org.ssoggy.ssoggysouls.command;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.logging.Level;
 
 import org.bukkit.Location;
@@ -7,13 +10,18 @@ import org.bukkit.World;
 import org.bukkit.command.Command;
 import org.bukkit.command.CommandExecutor;
 import org.bukkit.command.CommandSender;
+import org.bukkit.command.TabCompleter;
 import org.bukkit.entity.Player;
 
 import org.ssoggy.ssoggysouls.SSoggySouls;
+import org.ssoggy.ssoggysouls.limbo.LimboSpawnPool;
 import org.ssoggy.ssoggysouls.util.CommandUtil;
 import org.ssoggy.ssoggysouls.util.MessageUtil;
+import org.ssoggy.ssoggysouls.util.TabCompleteUtil;
 
-public class SetLimboSpawnCommand implements CommandExecutor {
+public class SetLimboSpawnCommand implements CommandExecutor, TabCompleter {
+
+    private static final List<String> ACTIONS = Arrays.asList("set", "add", "remove", "list");
 
     private final SSoggySouls plugin;
 
@@ -30,6 +38,27 @@ public class SetLimboSpawnCommand implements CommandExecutor {
             return true;
         }
 
+        LimboSpawnPool pool = plugin.getLimboSpawnPool();
+        String action = args.length >= 1 ? args[0].toLowerCase() : "set";
+
+        switch (action) {
+            case "list" -> {
+                sendList(sender, pool);
+                return true;
+            }
+            case "remove" -> {
+                return handleRemove(sender, pool, args);
+            }
+            case "set", "add" -> {
+                // both need a location, below
+            }
+            default -> {
+                // a typo must not fall through to "set", which replaces every spawn point
+                sender.sendMessage(MessageUtil.colorize("&cUsage: /setlimbospawn [set|add|remove <number>|list]"));
+                return true;
+            }
+        }
+
         if (!(sender instanceof Player player)) {
             String msg = MessageUtil.colorize("&cThis command can only be used in-game.");
             if (msg != null) {
@@ -43,19 +72,66 @@ public class SetLimboSpawnCommand implements CommandExecutor {
             return false;
         }
 
-        plugin.saveLimboSpawn(loc);
-        player.sendMessage(MessageUtil.get("limbo-spawn-set"));
+        if ("add".equals(action)) {
+            int count = pool.add(loc);
+            player.sendMessage(MessageUtil.colorize(
+                    "&aAdded limbo spawn point &e#" + count + "&a at your current location."));
+        } else {
+            pool.setSingle(loc);
+            player.sendMessage(MessageUtil.get("limbo-spawn-set"));
+        }
 
         World world = loc.getWorld();
         String worldName = world != null ? world.getName() : "unknown";
 
-        plugin.getLogger().log(Level.INFO, "{0} set the limbo spawn to {1} in {2}",
+        plugin.getLogger().log(Level.INFO, "{0} {1} a limbo spawn at {2} in {3}",
                 new Object[]{
                         player.getName(),
+                        "add".equals(action) ? "added" : "set",
                         String.format("%.1f, %.1f, %.1f", loc.getX(), loc.getY(), loc.getZ()),
                         worldName
                 });
 
         return true;
     }
-}
\ No newline at end of file
+
+    private static boolean handleRemove(CommandSender sender, LimboSpawnPool pool, String[] args) {
+        if (args.length < 2) {
+            sender.sendMessage(MessageUtil.colorize("&cUsage: /setlimbospawn remove <number>"));
+            return false;
+        }
+        int number;
+        try {
+            number = Integer.parseInt(args[1]);
+        } catch (NumberFormatException e) {
+            sender.sendMessage(MessageUtil.colorize("&cInvalid number: " + args[1]));
+            return false;
+        }
+        if (!pool.remove(number - 1)) {
+            sender.sendMessage(MessageUtil.colorize(
+                    "&cNo spawn point #" + number + " (the last point cannot be removed)."));
+            return false;
+        }
+        sender.sendMessage(MessageUtil.colorize("&aRemoved limbo spawn point &e#" + number + "&a."));
+        return true;
+    }
+
+    private static void sendList(CommandSender sender, LimboSpawnPool pool) {
+        List<LimboSpawnPool.SpawnPoint> points = pool.getPoints();
+        sender.sendMessage(MessageUtil.colorize("&6&l══ Limbo Spawns (" + pool.getSelectionMode() + ") ══"));
+        for (int i = 0; i < points.size(); i++) {
+            LimboSpawnPool.SpawnPoint point = points.get(i);
+            sender.sendMessage(MessageUtil.colorize("&e#" + (i + 1) + " &f" + point.describe()
+                    + " &7- " + point.getOccupants() + " player(s)"));
+        }
+    }
+
+    @Override
+    public List<String> onTabComplete(CommandSender sender, Command command,
+                                       String alias, String[] args) {
+        if (args.length == 1) {
+            return TabCompleteUtil.filterStartsWith(ACTIONS, args[0]);
+        }
+        return Collections.emptyList();
+    }
+}
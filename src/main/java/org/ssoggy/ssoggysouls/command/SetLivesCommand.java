@@ -13,6 +13,7 @@ import org.bukkit.command.TabCompleter;
 
 import org.ssoggy.ssoggysouls.SSoggySouls;
 import org.ssoggy.ssoggysouls.database.DatabaseManager;
+import org.ssoggy.ssoggysouls.database.PlayerNameIndex;
 import org.ssoggy.ssoggysouls.model.PlayerData;
 import org.ssoggy.ssoggysouls.util.CommandUtil;
 import org.ssoggy.ssoggysouls.util.MessageUtil;
@@ -92,7 +93,7 @@ public class SetLivesCommand implements CommandExecutor, TabCompleter {
     public List<String> onTabComplete(CommandSender sender, Command command,
                                        String alias, String[] args) {
         if (args.length == 1) {
-            return TabCompleteUtil.getOnlinePlayerNames(args[0]);
+            return TabCompleteUtil.getKnownPlayerNames(db.getNameIndex(), args[0], PlayerNameIndex.Filter.ANY);
         }
         if (args.length == 2) {
             return Arrays.asList("1", "2", "3", "5");
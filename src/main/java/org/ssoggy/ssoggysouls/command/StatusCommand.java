@@ -11,6 +11,7 @@ import org.bukkit.command.TabCompleter;
 
 import org.ssoggy.ssoggysouls.SSoggySouls;
 import org.ssoggy.ssoggysouls.database.DatabaseManager;
+import org.ssoggy.ssoggysouls.database.PlayerNameIndex;
 import org.ssoggy.ssoggysouls.model.PlayerData;
 import org.ssoggy.ssoggysouls.util.MessageUtil;
 import org.ssoggy.ssoggysouls.util.TabCompleteUtil;
@@ -81,7 +82,7 @@ public class StatusCommand implements CommandExecutor, TabCompleter {
     public List<String> onTabComplete(CommandSender sender, Command command,
                                        String alias, String[] args) {
         if (args.length == 1) {
-            return TabCompleteUtil.getOnlinePlayerNames(args[0]);
+            return TabCompleteUtil.getKnownPlayerNames(db.getNameIndex(), args[0], PlayerNameIndex.Filter.ANY);
         }
         return Collections.emptyList();
     }
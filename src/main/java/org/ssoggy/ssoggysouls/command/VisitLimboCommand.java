@@ -33,20 +33,20 @@ public class VisitLimboCommand implements CommandExecutor {
         Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
             boolean isDead = plugin.getDatabaseManager().isPlayerDead(player.getUniqueId());
 
-            Bukkit.getScheduler().runTask(plugin, () -> {
+            Bukkit.getScheduler().runTask(plugin, plugin.getProfiler().wrap(() -> {
                 if (!player.isOnline()) return;
 
                 if (isDead) {
                     player.sendMessage(MessageUtil.get("limbo-visit-already-dead"));
                 } else {
                     player.sendMessage(MessageUtil.get("limbo-visit-going"));
-                    Bukkit.getScheduler().runTaskLater(plugin, () -> {
+                    Bukkit.getScheduler().runTaskLater(plugin, plugin.getProfiler().wrap(() -> {
                         if (player.isOnline()) {
                             ServerTransferUtil.sendToLimbo(player);
                         }
-                    }, 20L);
+                    }), 20L);
                 }
-            });
+            }));
         });
     }
 }
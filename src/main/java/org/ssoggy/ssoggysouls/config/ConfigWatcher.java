@@ -0,0 +1,130 @@
+package org.ssoggy.ssoggysouls.config;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+
+import org.bukkit.Bukkit;
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import org.ssoggy.ssoggysouls.SSoggySouls;
+
+/**
+ * reloads config.yml when it changes on disk.
+ *
+ * <p>a daemon thread waits on a WatchService for the plugin folder. editors often save in
+ * several writes (truncate, write, rename), so after the first event it waits until the
+ * folder has been quiet for a second before looking at the file. unchanged content is
+ * ignored, and a file that isn't valid YAML is reported and skipped instead of being
+ * loaded as an empty config. otherwise the reload runs on the main thread through
+ * {@link SSoggySouls#loadConfigValues()}, which validates the values before swapping.
+ */
+public class ConfigWatcher {
+
+    private static final long QUIET_MILLIS = 1000L;
+    private static final String FILE_NAME = "config.yml";
+
+    private final SSoggySouls plugin;
+    private final Path file;
+    private WatchService watchService;
+    private Thread thread;
+    private String lastContent;
+
+    public ConfigWatcher(SSoggySouls plugin) {
+        this.plugin = plugin;
+        this.file = plugin.getDataFolder().toPath().resolve(FILE_NAME);
+    }
+
+    public void start() {
+        try {
+            lastContent = read();
+            watchService = FileSystems.getDefault().newWatchService();
+            file.getParent().register(watchService,
+                    StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        } catch (IOException e) {
+            plugin.getLogger().log(Level.WARNING, "Could not watch config.yml for changes: {0}", e.getMessage());
+            return;
+        }
+        thread = new Thread(this::run, "SSoggySouls-ConfigWatcher");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    public void shutdown() {
+        if (watchService == null) return;
+        try {
+            watchService.close();
+        } catch (IOException ignored) {
+            // closing only wakes the thread up
+        }
+        thread.interrupt();
+    }
+
+    private void run() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                if (!touchesConfig(watchService.take())) continue;
+                WatchKey key;
+                while ((key = watchService.poll(QUIET_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+                    touchesConfig(key);
+                }
+                checkFile();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException ignored) {
+            // plugin disabled
+        }
+    }
+
+    private static boolean touchesConfig(WatchKey key) {
+        boolean touched = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.context() instanceof Path changed && changed.toString().equals(FILE_NAME)) {
+                touched = true;
+            }
+        }
+        key.reset();
+        return touched;
+    }
+
+    private void checkFile() {
+        String content;
+        try {
+            content = read();
+        } catch (IOException e) {
+            plugin.getLogger().log(Level.WARNING, "Could not read config.yml after it changed: {0}", e.getMessage());
+            return;
+        }
+        if (content.equals(lastContent)) return;
+
+        try {
+            new YamlConfiguration().loadFromString(content);
+        } catch (InvalidConfigurationException e) {
+            plugin.getLogger().log(Level.WARNING, "config.yml changed but is not valid YAML, not reloading: {0}",
+                    e.getMessage());
+            return;
+        }
+        lastContent = content;
+
+        Bukkit.getScheduler().runTask(plugin, plugin.getProfiler().wrap(() -> {
+            if (plugin.loadConfigValues()) {
+                plugin.getLogger().info("Reloaded config.yml after it changed on disk.");
+            }
+        }));
+    }
+
+    private String read() throws IOException {
+        return Files.exists(file) ? Files.readString(file, StandardCharsets.UTF_8) : "";
+    }
+}
@@ -0,0 +1,224 @@
+package org.ssoggy.ssoggysouls.config;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.FileConfiguration;
+
+import org.ssoggy.ssoggysouls.SSoggySouls;
+import org.ssoggy.ssoggysouls.hrm.RitualPattern;
+import org.ssoggy.ssoggysouls.util.TimeUtil;
+
+/**
+ * every config.yml value the plugin reads while running, as one immutable snapshot.
+ *
+ * <p>a reload builds a new snapshot and publishes it through a single volatile field, so
+ * async tasks see either the old config or the new one, never a mix, and a read is one
+ * field load with no lock. settings read once at startup (database, profiler) stay with
+ * the code that uses them.
+ */
+public record PluginSettings(
+        boolean limboServer,
+        boolean debug,
+        String mainServerName,
+        String limboServerName,
+
+        int defaultLives,
+        long gracePeriodMillis,
+        int livesOnRevive,
+        int maxLives,
+
+        int sendToLimboDelayTicks,
+        boolean spectatorOnDeath,
+        boolean detectHrmRevive,
+        String deathMode,
+        int hybridTimeoutSeconds,
+        int reviveCooldownSeconds,
+        int limboAdmissionPerTick,
+        boolean extraLifeEnabled,
+        boolean deathVaultEnabled,
+        boolean deathVaultRestoreOnRevive,
+        boolean hardcoreHearts,
+        boolean limboOpSecurityEnabled,
+        Set<String> limboTrustedAdmins,
+
+        boolean hrmEnabled,
+        boolean hrmDropHeads,
+        boolean hrmDeathLocationMsg,
+        boolean hrmStructureRevive,
+        boolean hrmLeaveStructureBase,
+        boolean hrmHeadEffects,
+        boolean hrmReviveSkullRecipe,
+        boolean hrmHeadPlaceAsBlock,
+        boolean hrmHeadNoDespawn,
+        boolean hrmHeadFireproof,
+        boolean hrmHeadCleanupFullScan,
+        long headTombstoneExpiryMillis,
+        long headCleanupMergeWindowTicks,
+        List<RitualPattern> ritualPatterns,
+        long headTextureTtlMillis,
+
+        double tickBudgetInitialMs,
+        double tickBudgetMinMs,
+        double tickBudgetMaxMs) {
+
+    /**
+     * reads a snapshot, falling back to defaults (with a warning) for values that can't be
+     * parsed. use {@link #validate} to find values that are readable but unusable.
+     */
+    public static PluginSettings load(FileConfiguration cfg, Logger logger) {
+        boolean debug = cfg.getBoolean("debug", false);
+        double tickBudgetMinMs = Math.max(0.05, cfg.getDouble("performance.tick-budget.min-ms", 0.5));
+        return new PluginSettings(
+                cfg.getBoolean("is-limbo-server", false),
+                debug,
+                cfg.getString("main-server-name", "main"),
+                cfg.getString("limbo-server-name", SSoggySouls.MODE_LIMBO),
+
+                cfg.getInt("lives.default", 2),
+                loadGracePeriod(cfg, logger),
+                cfg.getInt("lives.on-revive", 1),
+                cfg.getInt("lives.max-lives", 5),
+
+                cfg.getInt("main.send-to-limbo-delay-ticks", 60),
+                cfg.getBoolean("main.spectator-on-death", true),
+                cfg.getBoolean("main.detect-hrm-revive", true),
+                cfg.getString("main.death-mode", SSoggySouls.MODE_HYBRID),
+                cfg.getInt("main.hybrid-timeout-seconds", 300),
+                cfg.getInt("lives.revive-cooldown-seconds", 30),
+                Math.max(1, cfg.getInt("limbo.admission.players-per-tick", 2)),
+                cfg.getBoolean("extra-life.enabled", true),
+                cfg.getBoolean("death-vault.enabled", false),
+                cfg.getBoolean("death-vault.restore-on-revive", false),
+                cfg.getBoolean("hardcore-hearts", true),
+                cfg.getBoolean("limbo-op-security-check", true),
+                loadTrustedAdmins(cfg),
+
+                cfg.getBoolean("hrm.enabled", true),
+                cfg.getBoolean("hrm.drop-heads", true),
+                cfg.getBoolean("hrm.death-location-message", true),
+                cfg.getBoolean("hrm.structure-revive", true),
+                cfg.getBoolean("hrm.leave-structure-base", true),
+                cfg.getBoolean("hrm.head-wearing-effects", true),
+                cfg.getBoolean("hrm.revive-skull-recipe", true),
+                cfg.getBoolean("hrm.head-place-as-block", true),
+                cfg.getBoolean("hrm.head-no-despawn", true),
+                cfg.getBoolean("hrm.head-fireproof", true),
+                cfg.getBoolean("hrm.head-cleanup.full-scan", false),
+                loadDuration(cfg, "hrm.head-cleanup.tombstone-expiry", logger),
+                Math.max(1L, cfg.getLong("hrm.head-cleanup.merge-window-ticks", 40L)),
+                loadRitualPatterns(cfg, logger, debug),
+                loadDuration(cfg, "hrm.texture-cache.ttl", logger),
+
+                Math.max(0.05, cfg.getDouble("performance.tick-budget.initial-ms", 2.0)),
+                tickBudgetMinMs,
+                Math.max(tickBudgetMinMs, cfg.getDouble("performance.tick-budget.max-ms", 10.0)));
+    }
+
+    /**
+     * values that parsed but would break the plugin, one readable line each; empty if the
+     * snapshot is safe to use.
+     */
+    public List<String> validate() {
+        List<String> problems = new ArrayList<>();
+        boolean knownMode = SSoggySouls.MODE_LIMBO.equals(deathMode)
+                || SSoggySouls.MODE_SPECTATOR.equals(deathMode)
+                || SSoggySouls.MODE_HYBRID.equals(deathMode);
+        if (!knownMode) {
+            problems.add("main.death-mode must be limbo, spectator or hybrid (got '" + deathMode + "')");
+        }
+        if (defaultLives < 1) {
+            problems.add("lives.default must be at least 1 (got " + defaultLives + ")");
+        }
+        if (livesOnRevive < 1) {
+            problems.add("lives.on-revive must be at least 1 (got " + livesOnRevive + ")");
+        }
+        if (mainServerName == null || mainServerName.isBlank()) {
+            problems.add("main-server-name is empty");
+        }
+        if (limboServerName == null || limboServerName.isBlank()) {
+            problems.add("limbo-server-name is empty");
+        }
+        if (sendToLimboDelayTicks < 0 || hybridTimeoutSeconds < 0 || reviveCooldownSeconds < 0) {
+            problems.add("delays, timeouts and cooldowns can't be negative");
+        }
+        return problems;
+    }
+
+    private static long loadGracePeriod(FileConfiguration cfg, Logger logger) {
+        // Try new string format first (e.g., "1h30m")
+        String gracePeriodStr = cfg.getString("lives.grace-period");
+        if (gracePeriodStr != null) {
+            long millis = TimeUtil.parseTimeToMillis(gracePeriodStr);
+            if (millis >= 0) {
+                return millis;
+            }
+            logger.log(Level.WARNING, "Invalid grace-period format: {0}. Using default of 24h.", gracePeriodStr);
+        }
+
+        // Fall back to old format (hours as integer) for backward compatibility
+        int hours = cfg.getInt("lives.grace-period-hours", -1);
+        if (hours >= 0) {
+            return hours * 3600_000L;
+        }
+
+        // Default to 24 hours
+        return 24 * 3600_000L;
+    }
+
+    // both duration settings default to a week
+    private static long loadDuration(FileConfiguration cfg, String path, Logger logger) {
+        String value = cfg.getString(path, "168h");
+        long millis = TimeUtil.parseTimeToMillis(value);
+        if (millis > 0) {
+            return millis;
+        }
+        logger.log(Level.WARNING, "Invalid {0}: {1}. Using default of 168h.", new Object[]{path, value});
+        return 168 * 3600_000L;
+    }
+
+    private static Set<String> loadTrustedAdmins(FileConfiguration cfg) {
+        Set<String> admins = new HashSet<>();
+        // Normalize whitelist entries: trim whitespace and lowercase non-UUID entries (usernames)
+        for (String entry : cfg.getStringList("limbo-trusted-admins")) {
+            String trimmed = entry.trim();
+            // Keep UUIDs in original case (they contain dashes), lowercase usernames for case-insensitive matching
+            if (trimmed.contains("-")) {
+                admins.add(trimmed); // UUID format, keep as-is
+            } else {
+                admins.add(trimmed.toLowerCase()); // Username, normalize to lowercase
+            }
+        }
+        return Set.copyOf(admins);
+    }
+
+    private static List<RitualPattern> loadRitualPatterns(FileConfiguration cfg, Logger logger, boolean debug) {
+        ConfigurationSection section = cfg.getConfigurationSection("hrm.ritual-patterns");
+        List<RitualPattern> patterns = new ArrayList<>();
+        if (section != null) {
+            for (String name : section.getKeys(false)) {
+                ConfigurationSection patternSection = section.getConfigurationSection(name);
+                if (patternSection == null) continue;
+                try {
+                    RitualPattern pattern = RitualPattern.fromConfig(name, patternSection);
+                    patterns.add(pattern);
+                    if (debug) {
+                        logger.log(Level.INFO, "[DEBUG] Loaded ritual pattern {0} ({1} rotation(s))",
+                                new Object[]{name, pattern.getRotationCount()});
+                    }
+                } catch (IllegalArgumentException e) {
+                    logger.log(Level.WARNING, "Invalid ritual pattern {0}: {1}", new Object[]{name, e.getMessage()});
+                }
+            }
+        }
+        if (patterns.isEmpty()) {
+            patterns.add(RitualPattern.classic());
+        }
+        return List.copyOf(patterns);
+    }
+}
@@ -6,13 +6,19 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.UUID;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 import java.util.logging.Level;
 
-import org.ssoggy.ssoggysouls.SSoggySouls;
+import org.ssoggy.ssoggysouls.model.DeathInventoryRecord;
+import org.ssoggy.ssoggysouls.model.HeadArtifact;
+import org.ssoggy.ssoggysouls.model.HeadTexture;
+import org.ssoggy.ssoggysouls.model.PlayerChange;
 import org.ssoggy.ssoggysouls.model.PlayerData;
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
@@ -23,14 +29,23 @@ public class DatabaseManager {
     private static final String SELECT_ALL = "SELECT uuid, username, lives, is_dead, first_join, last_death, last_seen, grace_until FROM ";
     private static final String UPDATE = "UPDATE ";
     private static final int MYSQL_DUPLICATE_COLUMN = 1060;
+    private static final int MYSQL_DUPLICATE_KEY_NAME = 1061;
+    private static final int BULK_CHUNK_SIZE = 500;
     
     // Simple cache for death status with TTL to reduce DB queries
     private static final long CACHE_TTL_MS = 2000; // 2 second cache
     private final Map<UUID, CachedDeathStatus> deathStatusCache = new ConcurrentHashMap<>();
 
-    private final SSoggySouls plugin;
-    private HikariDataSource dataSource;
+    private final StorageContext plugin;
+    // set once connect() succeeds, from the startup thread
+    private volatile HikariDataSource dataSource;
     private String tableName;
+    private String vaultTableName;
+    private String headIndexTableName;
+    private String tombstoneTableName;
+    private String textureTableName;
+    private final MainThreadGuard mainThreadGuard;
+    private final PlayerNameIndex nameIndex = new PlayerNameIndex();
     
     private static class CachedDeathStatus {
         final boolean isDead;
@@ -46,48 +61,93 @@ public class DatabaseManager {
         }
     }
 
-    public DatabaseManager(SSoggySouls plugin) {
+    public DatabaseManager(StorageContext plugin) {
         this.plugin = plugin;
+        this.mainThreadGuard = new MainThreadGuard(plugin);
+        tableName          = plugin.getConfig().getString("database.table-name", "hardcore_players");
+        vaultTableName     = tableName + "_death_vault";
+        headIndexTableName = tableName + "_head_index";
+        tombstoneTableName = tableName + "_head_tombstones";
+        textureTableName   = tableName + "_head_textures";
     }
 
-    public boolean initialize() {
+    // every query goes through here so the main-thread guard sees it
+    private Connection getConnection() throws SQLException {
+        HikariDataSource ds = dataSource;
+        if (ds == null) {
+            throw new SQLException("Database is not connected yet");
+        }
+        return mainThreadGuard.track(ds.getConnection());
+    }
+
+    public MainThreadGuard getMainThreadGuard() {
+        return mainThreadGuard;
+    }
+
+    public PlayerNameIndex getNameIndex() {
+        return nameIndex;
+    }
+
+    /**
+     * opens the connection pool. waits up to the connection timeout when the database is
+     * unreachable, so it runs off the main thread during startup.
+     */
+    public boolean connect() {
+        String host   = plugin.getConfig().getString("database.host", "localhost");
+        int port      = plugin.getConfig().getInt("database.port", 3306);
+        String dbName = plugin.getConfig().getString("database.name", "minecraft");
+        String user   = plugin.getConfig().getString("database.username", "minecraft");
+        String pass   = plugin.getConfig().getString("database.password", "changeme");
+        int poolSize  = plugin.getConfig().getInt("database.pool-size", 5);
+
+        String jdbcUrl = "jdbc:mysql://" + host + ":" + port + "/" + dbName
+                + "?useSSL=false&allowPublicKeyRetrieval=true&autoReconnect=true"
+                + "&characterEncoding=UTF-8&useUnicode=true";
+
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl(jdbcUrl);
+        config.setUsername(user);
+        config.setPassword(pass);
+        config.setMaximumPoolSize(poolSize);
+        config.setMinimumIdle(1);
+        config.setConnectionTimeout(10_000);
+        config.setIdleTimeout(300_000);
+        config.setMaxLifetime(600_000);
+        config.setPoolName("SSoggySouls-Pool");
+
+        config.addDataSourceProperty("cachePrepStmts", "true");
+        config.addDataSourceProperty("prepStmtCacheSize", "64");
+        config.addDataSourceProperty("prepStmtCacheSqlLimit", "2048");
+
+        HikariDataSource ds;
         try {
-            String host   = plugin.getConfig().getString("database.host", "localhost");
-            int port      = plugin.getConfig().getInt("database.port", 3306);
-            String dbName = plugin.getConfig().getString("database.name", "minecraft");
-            String user   = plugin.getConfig().getString("database.username", "minecraft");
-            String pass   = plugin.getConfig().getString("database.password", "changeme");
-            int poolSize  = plugin.getConfig().getInt("database.pool-size", 5);
-            tableName     = plugin.getConfig().getString("database.table-name", "hardcore_players");
-
-            String jdbcUrl = "jdbc:mysql://" + host + ":" + port + "/" + dbName
-                    + "?useSSL=false&allowPublicKeyRetrieval=true&autoReconnect=true"
-                    + "&characterEncoding=UTF-8&useUnicode=true";
-
-            HikariConfig config = new HikariConfig();
-            config.setJdbcUrl(jdbcUrl);
-            config.setUsername(user);
-            config.setPassword(pass);
-            config.setMaximumPoolSize(poolSize);
-            config.setMinimumIdle(1);
-            config.setConnectionTimeout(10_000);
-            config.setIdleTimeout(300_000);
-            config.setMaxLifetime(600_000);
-            config.setPoolName("SSoggySouls-Pool");
-
-            config.addDataSourceProperty("cachePrepStmts", "true");
-            config.addDataSourceProperty("prepStmtCacheSize", "64");
-            config.addDataSourceProperty("prepStmtCacheSqlLimit", "2048");
-
-            dataSource = new HikariDataSource(config);
-            createTable();
+            ds = new HikariDataSource(config);
+        } catch (RuntimeException e) {
+            // hikari reports an unreachable database as PoolInitializationException
+            plugin.getLogger().log(Level.SEVERE, "MySQL initialization failed!", e);
+            return false;
+        }
+        if (!plugin.isEnabled()) {
+            // the server shut down while we were connecting
+            ds.close();
+            return false;
+        }
+        dataSource = ds;
 
-            plugin.getLogger().log(Level.INFO, "MySQL connection established ({0}:{1}/{2})",
-                    new Object[]{host, port, dbName});
-            return true;
+        plugin.getLogger().log(Level.INFO, "MySQL connection established ({0}:{1}/{2})",
+                new Object[]{host, port, dbName});
+        return true;
+    }
 
+    /**
+     * creates missing tables, columns and indexes. call after {@link #connect()}.
+     */
+    public boolean migrate() {
+        try {
+            createTable();
+            return true;
         } catch (SQLException e) {
-            plugin.getLogger().log(Level.SEVERE, "MySQL initialization failed!", e);
+            plugin.getLogger().log(Level.SEVERE, "MySQL schema setup failed!", e);
             return false;
         }
     }
@@ -111,15 +171,78 @@ public class DatabaseManager {
                 + "grace_until BIGINT NOT NULL DEFAULT 0"
                 + ") ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;";
 
-        try (Connection conn = dataSource.getConnection();
+        try (Connection conn = getConnection();
               Statement stmt = conn.createStatement()) {
             stmt.executeUpdate(sql);
             ensureLastSeenColumn(conn);
             ensureGraceUntilColumn(conn);
+            // the revive menu pages dead players by name, /psadmin list sorts by any of these
+            ensureIndex(conn, "idx_dead_name", "is_dead, username, uuid");
+            ensureIndex(conn, "idx_name", "username, uuid");
+            ensureIndex(conn, "idx_last_death", "last_death, uuid");
+            ensureIndex(conn, "idx_lives", "lives, uuid");
             plugin.debug("Table '" + tableName + "' verified/created.");
+            createVaultTable(stmt);
+            createHeadIndexTable(stmt);
+            createTombstoneTable(stmt);
+            createTextureTable(stmt);
         }
     }
 
+    // death inventories live in their own table so big blobs never bloat the player rows
+    private void createVaultTable(Statement stmt) throws SQLException {
+        String sql = "CREATE TABLE IF NOT EXISTS " + vaultTableName + " ("
+                + "uuid VARCHAR(36) NOT NULL PRIMARY KEY, "
+                + "death_time BIGINT NOT NULL, "
+                + "data MEDIUMBLOB NOT NULL, "
+                + "restored BOOLEAN NOT NULL DEFAULT FALSE"
+                + ") ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;";
+        stmt.executeUpdate(sql);
+        plugin.debug("Table '" + vaultTableName + "' verified/created.");
+    }
+
+    // one row per placed head block / dropped head item, keyed by position or entity uuid
+    private void createHeadIndexTable(Statement stmt) throws SQLException {
+        String sql = "CREATE TABLE IF NOT EXISTS " + headIndexTableName + " ("
+                + "artifact_key VARCHAR(128) NOT NULL PRIMARY KEY, "
+                + "owner_uuid VARCHAR(36) NOT NULL, "
+                + "kind VARCHAR(8) NOT NULL, "
+                + "world VARCHAR(64) NOT NULL, "
+                + "x INT NOT NULL, "
+                + "y INT NOT NULL, "
+                + "z INT NOT NULL, "
+                + "entity_uuid VARCHAR(36) NULL, "
+                + "created_at BIGINT NOT NULL, "
+                + "INDEX idx_owner (owner_uuid)"
+                + ") ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;";
+        stmt.executeUpdate(sql);
+        plugin.debug("Table '" + headIndexTableName + "' verified/created.");
+    }
+
+    // revived owners whose leftover heads get removed lazily when their chunk loads
+    private void createTombstoneTable(Statement stmt) throws SQLException {
+        String sql = "CREATE TABLE IF NOT EXISTS " + tombstoneTableName + " ("
+                + "owner_uuid VARCHAR(36) NOT NULL PRIMARY KEY, "
+                + "expires_at BIGINT NOT NULL, "
+                + "INDEX idx_expires (expires_at)"
+                + ") ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;";
+        stmt.executeUpdate(sql);
+        plugin.debug("Table '" + tombstoneTableName + "' verified/created.");
+    }
+
+    // last known skin per player so heads can be built without a profile lookup
+    private void createTextureTable(Statement stmt) throws SQLException {
+        String sql = "CREATE TABLE IF NOT EXISTS " + textureTableName + " ("
+                + "uuid VARCHAR(36) NOT NULL PRIMARY KEY, "
+                + "name VARCHAR(16) NOT NULL, "
+                + "skin_url VARCHAR(255) NOT NULL, "
+                + "slim BOOLEAN NOT NULL DEFAULT FALSE, "
+                + "updated_at BIGINT NOT NULL"
+                + ") ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;";
+        stmt.executeUpdate(sql);
+        plugin.debug("Table '" + textureTableName + "' verified/created.");
+    }
+
     private void ensureLastSeenColumn(Connection conn) {
         ensureColumn(conn, "last_seen", "BIGINT NOT NULL DEFAULT 0");
     }
@@ -128,6 +251,21 @@ public class DatabaseManager {
         ensureColumn(conn, "grace_until", "BIGINT NOT NULL DEFAULT 0");
     }
 
+    /**
+     * ensures an index exists on the table, ignoring duplicate-key-name errors.
+     */
+    private void ensureIndex(Connection conn, String indexName, String columns) {
+        String sql = "ALTER TABLE " + tableName + " ADD INDEX " + indexName + " (" + columns + ")";
+        try (Statement stmt = conn.createStatement()) {
+            stmt.executeUpdate(sql);
+            plugin.debug("Added " + indexName + " index to '" + tableName + "'.");
+        } catch (SQLException e) {
+            if (e.getErrorCode() != MYSQL_DUPLICATE_KEY_NAME) {
+                plugin.getLogger().log(Level.WARNING, "Failed to ensure " + indexName + " index", e);
+            }
+        }
+    }
+
     /**
      * ensures a column exists in the table, ignoring duplicate-column errors.
      *
@@ -166,13 +304,15 @@ public class DatabaseManager {
     public PlayerData getPlayer(UUID uuid) {
         String sql = SELECT_ALL + tableName + " WHERE uuid = ?";
 
-        try (Connection conn = dataSource.getConnection();
+        try (Connection conn = getConnection();
              PreparedStatement ps = conn.prepareStatement(sql)) {
 
             ps.setString(1, uuid.toString());
             try (ResultSet rs = ps.executeQuery()) {
                 if (rs.next()) {
-                    return mapResultSet(rs);
+                    PlayerData data = mapResultSet(rs);
+                    nameIndex.put(data.getUuid(), data.getUsername(), data.isDead());
+                    return data;
                 }
             }
         } catch (SQLException e) {
@@ -181,16 +321,30 @@ public class DatabaseManager {
         return null;
     }
 
+    /**
+     * looks a player up by name (case-insensitive). names in the index are resolved to a
+     * primary key lookup; only unknown names fall back to scanning the table by name.
+     */
     public PlayerData getPlayerByName(String username) {
+        PlayerNameIndex.Entry known = nameIndex.find(username);
+        if (known != null) {
+            PlayerData data = getPlayer(known.uuid());
+            if (data != null && data.getUsername().equalsIgnoreCase(username)) {
+                return data;
+            }
+        }
+
         String sql = SELECT_ALL + tableName + " WHERE LOWER(username) = LOWER(?)";
 
-        try (Connection conn = dataSource.getConnection();
+        try (Connection conn = getConnection();
              PreparedStatement ps = conn.prepareStatement(sql)) {
 
             ps.setString(1, username);
             try (ResultSet rs = ps.executeQuery()) {
                 if (rs.next()) {
-                    return mapResultSet(rs);
+                    PlayerData data = mapResultSet(rs);
+                    nameIndex.put(data.getUuid(), data.getUsername(), data.isDead());
+                    return data;
                 }
             }
         } catch (SQLException e) {
@@ -211,7 +365,7 @@ public class DatabaseManager {
                 + "last_seen = VALUES(last_seen), "
                 + "grace_until = VALUES(grace_until)";
 
-        try (Connection conn = dataSource.getConnection();
+        try (Connection conn = getConnection();
              PreparedStatement ps = conn.prepareStatement(sql)) {
 
             ps.setString(1, data.getUuid().toString());
@@ -227,6 +381,7 @@ public class DatabaseManager {
 
             // Always invalidate cache after save to ensure consistency
             deathStatusCache.remove(data.getUuid());
+            nameIndex.put(data.getUuid(), data.getUsername(), data.isDead());
 
             // Avoid string concatenation overhead unless debug is enabled
             if (plugin.isDebugMode()) {
@@ -240,6 +395,14 @@ public class DatabaseManager {
         }
     }
 
+    /**
+     * cached death status without touching the database, null when unknown or expired.
+     */
+    public Boolean getCachedDeathStatus(UUID uuid) {
+        CachedDeathStatus cached = deathStatusCache.get(uuid);
+        return cached != null && !cached.isExpired() ? cached.isDead : null;
+    }
+
     public boolean isPlayerDead(UUID uuid) {
         // Check cache first
         CachedDeathStatus cached = deathStatusCache.get(uuid);
@@ -250,7 +413,7 @@ public class DatabaseManager {
         // Cache miss or expired, query database
         String sql = "SELECT is_dead FROM " + tableName + " WHERE uuid = ?";
 
-        try (Connection conn = dataSource.getConnection();
+        try (Connection conn = getConnection();
              PreparedStatement ps = conn.prepareStatement(sql)) {
 
             ps.setString(1, uuid.toString());
@@ -272,7 +435,7 @@ public class DatabaseManager {
         String sql = UPDATE + tableName
                 + " SET is_dead = FALSE, lives = ? WHERE uuid = ? AND is_dead = TRUE";
 
-        try (Connection conn = dataSource.getConnection();
+        try (Connection conn = getConnection();
              PreparedStatement ps = conn.prepareStatement(sql)) {
 
             ps.setInt(1, livesToRestore);
@@ -283,6 +446,7 @@ public class DatabaseManager {
             // Invalidate cache on death status change
             if (rows > 0) {
                 deathStatusCache.remove(uuid);
+                nameIndex.setDead(uuid, false);
             }
             
             // Avoid string concatenation overhead unless debug is enabled
@@ -300,7 +464,7 @@ public class DatabaseManager {
     public void setLives(UUID uuid, int lives) {
         String sql = UPDATE + tableName + " SET lives = ?, is_dead = ? WHERE uuid = ?";
 
-        try (Connection conn = dataSource.getConnection();
+        try (Connection conn = getConnection();
              PreparedStatement ps = conn.prepareStatement(sql)) {
 
             boolean dead = lives <= 0;
@@ -312,6 +476,7 @@ public class DatabaseManager {
             
             // Invalidate cache on death status change
             deathStatusCache.remove(uuid);
+            nameIndex.setDead(uuid, dead);
         } catch (SQLException e) {
             plugin.getLogger().log(Level.WARNING, () -> "Failed to set lives for " + uuid);
         }
@@ -320,7 +485,7 @@ public class DatabaseManager {
     public void setFirstJoin(UUID uuid, long firstJoin) {
         String sql = UPDATE + tableName + " SET first_join = ? WHERE uuid = ?";
 
-        try (Connection conn = dataSource.getConnection();
+        try (Connection conn = getConnection();
              PreparedStatement ps = conn.prepareStatement(sql)) {
 
             ps.setLong(1, firstJoin);
@@ -334,7 +499,7 @@ public class DatabaseManager {
     public void setLastSeen(UUID uuid, long lastSeen) {
         String sql = UPDATE + tableName + " SET last_seen = ? WHERE uuid = ?";
 
-        try (Connection conn = dataSource.getConnection();
+        try (Connection conn = getConnection();
              PreparedStatement ps = conn.prepareStatement(sql)) {
 
             ps.setLong(1, lastSeen);
@@ -348,7 +513,7 @@ public class DatabaseManager {
     public void setGraceUntil(UUID uuid, long graceUntil) {
         String sql = UPDATE + tableName + " SET grace_until = ? WHERE uuid = ?";
 
-        try (Connection conn = dataSource.getConnection();
+        try (Connection conn = getConnection();
              PreparedStatement ps = conn.prepareStatement(sql)) {
 
             ps.setLong(1, graceUntil);
@@ -359,6 +524,214 @@ public class DatabaseManager {
         }
     }
 
+    /**
+     * streams one page of the players a selector matches to the consumer, row by row, in
+     * the given order. keyset paging: the page continues after the given sort value and
+     * uuid, so every page is a single range read on the sort column's index.
+     *
+     * @param afterValue sort value of the last row of the previous page, null for the first page
+     * @param afterUuid uuid of the last row of the previous page
+     * @param limit maximum number of rows
+     * @return number of rows streamed, -1 if the query failed
+     */
+    public int streamPlayers(PlayerSelector selector, PlayerSort sort, boolean descending,
+                             String afterValue, String afterUuid, int limit, Consumer<PlayerData> consumer) {
+        String column = sort.getColumn();
+        String cmp = descending ? "<" : ">";
+        String dir = descending ? " DESC" : "";
+        StringBuilder sql = new StringBuilder(SELECT_ALL).append(tableName)
+                .append(" WHERE (").append(selector.getCondition()).append(")");
+        if (afterValue != null) {
+            sql.append(" AND (").append(column).append(' ').append(cmp).append(" ? OR (")
+                    .append(column).append(" = ? AND uuid ").append(cmp).append(" ?))");
+        }
+        sql.append(" ORDER BY ").append(column).append(dir).append(", uuid").append(dir).append(" LIMIT ?");
+
+        int count = 0;
+        try (Connection conn = getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql.toString(),
+                     ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+
+            int i = selector.bind(ps, 1);
+            if (afterValue != null) {
+                sort.bind(ps, i++, afterValue);
+                sort.bind(ps, i++, afterValue);
+                ps.setString(i++, afterUuid);
+            }
+            ps.setInt(i, limit);
+            // same as loadNameIndex: rows come off the socket one by one instead of being
+            // buffered, a positive fetch size is ignored without useCursorFetch
+            ps.setFetchSize(Integer.MIN_VALUE);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    consumer.accept(mapResultSet(rs));
+                    count++;
+                }
+            }
+        } catch (SQLException | IllegalArgumentException e) {
+            plugin.getLogger().log(Level.WARNING, "Failed to list players for selector " + selector, e);
+            return -1;
+        }
+        return count;
+    }
+
+    /**
+     * how many players a selector matches, for the dry run before a bulk change.
+     *
+     * @param deadOnly count only dead players, as a bulk revive would
+     * @return the count, -1 if the query failed
+     */
+    public int countSelected(PlayerSelector selector, boolean deadOnly) {
+        PlayerSelector effective = deadOnly ? selector.and("is_dead = TRUE") : selector;
+        String sql = "SELECT COUNT(*) FROM " + tableName + " WHERE " + effective.getCondition();
+
+        try (Connection conn = getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+
+            effective.bind(ps, 1);
+            try (ResultSet rs = ps.executeQuery()) {
+                return rs.next() ? rs.getInt(1) : 0;
+            }
+        } catch (SQLException e) {
+            plugin.getLogger().log(Level.WARNING, "Failed to count players for selector " + selector, e);
+            return -1;
+        }
+    }
+
+    /**
+     * revives every dead player the selector matches.
+     *
+     * @return the revived players as they were before the revive
+     */
+    public List<PlayerChange> reviveSelected(PlayerSelector selector, int livesToRestore) {
+        return updateSelected(selector.and("is_dead = TRUE"),
+                "is_dead = FALSE, lives = ?", livesToRestore);
+    }
+
+    /**
+     * changes the lives of every player the selector matches, capped at maxLives when it
+     * is above zero. players left with 0 lives are marked dead, others alive.
+     *
+     * @param action set, give or take
+     */
+    public List<PlayerChange> changeLivesSelected(PlayerSelector selector, String action, int amount, int maxLives) {
+        String newLives = switch (action) {
+            case "give" -> "lives + ?";
+            case "take" -> "lives - ?";
+            default -> "?";
+        };
+        String capped = maxLives > 0
+                ? "GREATEST(0, LEAST(" + maxLives + ", " + newLives + "))"
+                : "GREATEST(0, " + newLives + ")";
+        // MySQL applies single-table SET assignments left to right, so is_dead sees the new lives
+        return updateSelected(selector, "lives = " + capped + ", is_dead = (lives <= 0)", amount);
+    }
+
+    /**
+     * one set-based UPDATE per chunk of matching rows, walking the table in uuid order.
+     * each chunk is locked, updated and re-read in its own transaction, so a failure
+     * only loses the chunk it happened in; chunks already committed are still returned.
+     */
+    private List<PlayerChange> updateSelected(PlayerSelector selector, String assignments, long value) {
+        String select = SELECT_ALL + tableName + " WHERE (" + selector.getCondition() + ") AND uuid > ? "
+                + "ORDER BY uuid LIMIT " + BULK_CHUNK_SIZE + " FOR UPDATE";
+        List<PlayerChange> changes = new ArrayList<>();
+
+        try (Connection conn = getConnection()) {
+            conn.setAutoCommit(false);
+            try {
+                String after = "";
+                while (true) {
+                    List<PlayerData> before = new ArrayList<>();
+                    try (PreparedStatement ps = conn.prepareStatement(select)) {
+                        ps.setString(selector.bind(ps, 1), after);
+                        try (ResultSet rs = ps.executeQuery()) {
+                            while (rs.next()) {
+                                before.add(mapResultSet(rs));
+                            }
+                        }
+                    }
+                    if (before.isEmpty()) break;
+
+                    String in = String.join(", ", Collections.nCopies(before.size(), "?"));
+                    try (PreparedStatement ps = conn.prepareStatement(
+                            UPDATE + tableName + " SET " + assignments + " WHERE uuid IN (" + in + ")")) {
+                        ps.setLong(1, value);
+                        for (int i = 0; i < before.size(); i++) {
+                            ps.setString(i + 2, before.get(i).getUuid().toString());
+                        }
+                        ps.executeUpdate();
+                    }
+
+                    Map<UUID, PlayerData> written = new HashMap<>();
+                    try (PreparedStatement ps = conn.prepareStatement(
+                            SELECT_ALL + tableName + " WHERE uuid IN (" + in + ")")) {
+                        for (int i = 0; i < before.size(); i++) {
+                            ps.setString(i + 1, before.get(i).getUuid().toString());
+                        }
+                        try (ResultSet rs = ps.executeQuery()) {
+                            while (rs.next()) {
+                                PlayerData data = mapResultSet(rs);
+                                written.put(data.getUuid(), data);
+                            }
+                        }
+                    }
+                    conn.commit();
+
+                    for (PlayerData old : before) {
+                        PlayerData now = written.get(old.getUuid());
+                        if (now == null) continue;
+                        changes.add(new PlayerChange(old, now));
+                        deathStatusCache.remove(now.getUuid());
+                        nameIndex.setDead(now.getUuid(), now.isDead());
+                    }
+                    after = before.get(before.size() - 1).getUuid().toString();
+                    if (before.size() < BULK_CHUNK_SIZE) break;
+                }
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            plugin.getLogger().log(Level.WARNING, "Bulk update for selector " + selector
+                    + " stopped after " + changes.size() + " player(s)", e);
+        }
+        return changes;
+    }
+
+    /**
+     * streams every player's name and death status into the name index. runs at startup
+     * and periodically to pick up players and deaths written by the other server.
+     *
+     * @return number of players read, -1 if the query failed
+     */
+    public int loadNameIndex() {
+        String sql = "SELECT uuid, username, is_dead FROM " + tableName;
+
+        int count = 0;
+        try (Connection conn = getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql,
+                     ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+
+            // tells the MySQL driver to stream rows instead of buffering the whole table
+            ps.setFetchSize(Integer.MIN_VALUE);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    nameIndex.put(UUID.fromString(rs.getString("uuid")), rs.getString("username"),
+                            rs.getBoolean(COL_IS_DEAD));
+                    count++;
+                }
+            }
+            nameIndex.markLoaded();
+        } catch (SQLException | IllegalArgumentException e) {
+            plugin.getLogger().log(Level.WARNING, "Failed to load player names", e);
+            return -1;
+        }
+        return count;
+    }
+
     /**
      * manually invalidates a player's death status cache entry.
      * use this when external changes bypass savePlayer(), revivePlayer(), or setLives().
@@ -371,7 +744,7 @@ public class DatabaseManager {
         String sql = SELECT_ALL + tableName + " WHERE is_dead = TRUE ORDER BY username";
 
         List<PlayerData> result = new ArrayList<>();
-        try (Connection conn = dataSource.getConnection();
+        try (Connection conn = getConnection();
              PreparedStatement ps = conn.prepareStatement(sql);
              ResultSet rs = ps.executeQuery()) {
             while (rs.next()) {
@@ -383,11 +756,322 @@ public class DatabaseManager {
         return result;
     }
 
+    /**
+     * one page of dead players ordered by name, continuing after the given name and uuid.
+     *
+     * @param prefix only names starting with this (case-insensitive), null for all
+     * @param afterName name of the last row of the previous page, null for the first page
+     * @param afterUuid uuid of the last row of the previous page, breaks ties between equal names
+     * @param limit maximum number of rows
+     */
+    public List<PlayerData> getDeadPlayersPage(String prefix, String afterName, String afterUuid, int limit) {
+        StringBuilder sql = new StringBuilder(SELECT_ALL).append(tableName).append(" WHERE is_dead = TRUE");
+        if (prefix != null) {
+            sql.append(" AND username LIKE ?");
+        }
+        if (afterName != null) {
+            sql.append(" AND (username > ? OR (username = ? AND uuid > ?))");
+        }
+        sql.append(" ORDER BY username, uuid LIMIT ?");
+
+        List<PlayerData> result = new ArrayList<>();
+        try (Connection conn = getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql.toString())) {
+
+            int i = 1;
+            if (prefix != null) {
+                ps.setString(i++, escapeLike(prefix) + "%");
+            }
+            if (afterName != null) {
+                ps.setString(i++, afterName);
+                ps.setString(i++, afterName);
+                ps.setString(i++, afterUuid);
+            }
+            ps.setInt(i, limit);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    result.add(mapResultSet(rs));
+                }
+            }
+        } catch (SQLException e) {
+            plugin.getLogger().log(Level.WARNING, "Failed to get a page of dead players", e);
+        }
+        return result;
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    /**
+     * stores the compressed inventory captured at a player's final death,
+     * replacing any older entry for that player.
+     *
+     * @return false when the write failed
+     */
+    public boolean saveDeathInventory(UUID uuid, long deathTime, byte[] data) {
+        String sql = "INSERT INTO " + vaultTableName + " (uuid, death_time, data, restored) "
+                + "VALUES (?, ?, ?, FALSE) "
+                + "ON DUPLICATE KEY UPDATE "
+                + "death_time = VALUES(death_time), "
+                + "data = VALUES(data), "
+                + "restored = FALSE";
+
+        try (Connection conn = getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+
+            ps.setString(1, uuid.toString());
+            ps.setLong(2, deathTime);
+            ps.setBytes(3, data);
+            ps.executeUpdate();
+
+            if (plugin.isDebugMode()) {
+                plugin.debug("Stored death inventory for " + uuid + " (" + data.length + " bytes)");
+            }
+            return true;
+        } catch (SQLException e) {
+            plugin.getLogger().log(Level.WARNING, () -> "Failed to store death inventory for " + uuid);
+            return false;
+        }
+    }
+
+    public DeathInventoryRecord getDeathInventory(UUID uuid) {
+        String sql = "SELECT death_time, data, restored FROM " + vaultTableName + " WHERE uuid = ?";
+
+        try (Connection conn = getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+
+            ps.setString(1, uuid.toString());
+            try (ResultSet rs = ps.executeQuery()) {
+                if (rs.next()) {
+                    return new DeathInventoryRecord(uuid, rs.getLong("death_time"),
+                            rs.getBytes("data"), rs.getBoolean("restored"));
+                }
+            }
+        } catch (SQLException e) {
+            plugin.getLogger().log(Level.WARNING, () -> "Failed to load death inventory for " + uuid);
+        }
+        return null;
+    }
+
+    /**
+     * marks a stored death inventory as restored so it is not handed out twice.
+     *
+     * @return true when an unrestored entry was flipped
+     */
+    public boolean markDeathInventoryRestored(UUID uuid, long deathTime) {
+        String sql = UPDATE + vaultTableName
+                + " SET restored = TRUE WHERE uuid = ? AND death_time = ? AND restored = FALSE";
+
+        try (Connection conn = getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+
+            ps.setString(1, uuid.toString());
+            ps.setLong(2, deathTime);
+            return ps.executeUpdate() > 0;
+        } catch (SQLException e) {
+            plugin.getLogger().log(Level.WARNING, () -> "Failed to mark death inventory restored for " + uuid);
+            return false;
+        }
+    }
+
+    /**
+     * clears the restored flag of one stored death inventory, leaving its items and any
+     * newer death alone.
+     */
+    public void unmarkDeathInventoryRestored(UUID uuid, long deathTime) {
+        String sql = UPDATE + vaultTableName
+                + " SET restored = FALSE WHERE uuid = ? AND death_time = ?";
+
+        try (Connection conn = getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+
+            ps.setString(1, uuid.toString());
+            ps.setLong(2, deathTime);
+            ps.executeUpdate();
+        } catch (SQLException e) {
+            plugin.getLogger().log(Level.WARNING, () -> "Failed to unmark death inventory restored for " + uuid);
+        }
+    }
+
+    public void saveHeadArtifact(HeadArtifact artifact) {
+        String sql = "INSERT INTO " + headIndexTableName
+                + " (artifact_key, owner_uuid, kind, world, x, y, z, entity_uuid, created_at) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?) "
+                + "ON DUPLICATE KEY UPDATE "
+                + "owner_uuid = VALUES(owner_uuid), "
+                + "created_at = VALUES(created_at)";
+
+        try (Connection conn = getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+
+            ps.setString(1, artifact.key());
+            ps.setString(2, artifact.owner().toString());
+            ps.setString(3, artifact.kind().name());
+            ps.setString(4, artifact.world());
+            ps.setInt(5, artifact.x());
+            ps.setInt(6, artifact.y());
+            ps.setInt(7, artifact.z());
+            ps.setString(8, artifact.entityId() != null ? artifact.entityId().toString() : null);
+            ps.setLong(9, System.currentTimeMillis());
+            ps.executeUpdate();
+        } catch (SQLException e) {
+            plugin.getLogger().log(Level.WARNING, () -> "Failed to index head artifact " + artifact.key());
+        }
+    }
+
+    public List<HeadArtifact> getHeadArtifacts(UUID owner) {
+        List<HeadArtifact> result = new ArrayList<>();
+        String sql = "SELECT kind, world, x, y, z, entity_uuid FROM " + headIndexTableName
+                + " WHERE owner_uuid = ?";
+
+        try (Connection conn = getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+
+            ps.setString(1, owner.toString());
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    String entity = rs.getString("entity_uuid");
+                    result.add(new HeadArtifact(owner,
+                            HeadArtifact.Kind.valueOf(rs.getString("kind")),
+                            rs.getString("world"),
+                            rs.getInt("x"), rs.getInt("y"), rs.getInt("z"),
+                            entity != null ? UUID.fromString(entity) : null));
+                }
+            }
+        } catch (SQLException | IllegalArgumentException e) {
+            plugin.getLogger().log(Level.WARNING, () -> "Failed to load head index for " + owner);
+        }
+        return result;
+    }
+
+    public void deleteHeadArtifact(String key) {
+        String sql = "DELETE FROM " + headIndexTableName + " WHERE artifact_key = ?";
+
+        try (Connection conn = getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+
+            ps.setString(1, key);
+            ps.executeUpdate();
+        } catch (SQLException e) {
+            plugin.getLogger().log(Level.WARNING, () -> "Failed to remove head artifact " + key);
+        }
+    }
+
+    public void deleteHeadArtifacts(UUID owner) {
+        String sql = "DELETE FROM " + headIndexTableName + " WHERE owner_uuid = ?";
+
+        try (Connection conn = getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+
+            ps.setString(1, owner.toString());
+            ps.executeUpdate();
+        } catch (SQLException e) {
+            plugin.getLogger().log(Level.WARNING, () -> "Failed to clear head index for " + owner);
+        }
+    }
+
+    public void saveHeadTombstone(UUID owner, long expiresAt) {
+        String sql = "INSERT INTO " + tombstoneTableName + " (owner_uuid, expires_at) VALUES (?, ?) "
+                + "ON DUPLICATE KEY UPDATE expires_at = VALUES(expires_at)";
+
+        try (Connection conn = getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+
+            ps.setString(1, owner.toString());
+            ps.setLong(2, expiresAt);
+            ps.executeUpdate();
+        } catch (SQLException e) {
+            plugin.getLogger().log(Level.WARNING, () -> "Failed to save head tombstone for " + owner);
+        }
+    }
+
+    public void deleteHeadTombstone(UUID owner) {
+        String sql = "DELETE FROM " + tombstoneTableName + " WHERE owner_uuid = ?";
+
+        try (Connection conn = getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+
+            ps.setString(1, owner.toString());
+            ps.executeUpdate();
+        } catch (SQLException e) {
+            plugin.getLogger().log(Level.WARNING, () -> "Failed to delete head tombstone for " + owner);
+        }
+    }
+
+    /**
+     * purges expired tombstones and returns the remaining ones (owner -> expiry millis).
+     */
+    public Map<UUID, Long> loadActiveHeadTombstones(long now) {
+        Map<UUID, Long> result = new HashMap<>();
+        String purge = "DELETE FROM " + tombstoneTableName + " WHERE expires_at <= ?";
+        String select = "SELECT owner_uuid, expires_at FROM " + tombstoneTableName;
+
+        try (Connection conn = getConnection()) {
+            try (PreparedStatement ps = conn.prepareStatement(purge)) {
+                ps.setLong(1, now);
+                ps.executeUpdate();
+            }
+            try (PreparedStatement ps = conn.prepareStatement(select);
+                 ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    result.put(UUID.fromString(rs.getString("owner_uuid")), rs.getLong("expires_at"));
+                }
+            }
+        } catch (SQLException | IllegalArgumentException e) {
+            plugin.getLogger().log(Level.WARNING, "Failed to load head tombstones", e);
+        }
+        return result;
+    }
+
+    public void saveHeadTexture(HeadTexture texture) {
+        String sql = "INSERT INTO " + textureTableName + " (uuid, name, skin_url, slim, updated_at) "
+                + "VALUES (?, ?, ?, ?, ?) ON DUPLICATE KEY UPDATE name = VALUES(name), "
+                + "skin_url = VALUES(skin_url), slim = VALUES(slim), updated_at = VALUES(updated_at)";
+
+        try (Connection conn = getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+
+            ps.setString(1, texture.uuid().toString());
+            ps.setString(2, texture.name());
+            ps.setString(3, texture.skinUrl());
+            ps.setBoolean(4, texture.slim());
+            ps.setLong(5, texture.updatedAt());
+            ps.executeUpdate();
+        } catch (SQLException e) {
+            plugin.getLogger().log(Level.WARNING, () -> "Failed to save head texture for " + texture.uuid());
+        }
+    }
+
+    /**
+     * every cached skin updated at or after the given time (0 for all).
+     */
+    public List<HeadTexture> loadHeadTextures(long updatedSince) {
+        List<HeadTexture> result = new ArrayList<>();
+        String sql = "SELECT uuid, name, skin_url, slim, updated_at FROM " + textureTableName
+                + " WHERE updated_at >= ?";
+
+        try (Connection conn = getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+
+            ps.setLong(1, updatedSince);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    result.add(new HeadTexture(UUID.fromString(rs.getString("uuid")), rs.getString("name"),
+                            rs.getString("skin_url"), rs.getBoolean("slim"), rs.getLong("updated_at")));
+                }
+            }
+        } catch (SQLException | IllegalArgumentException e) {
+            plugin.getLogger().log(Level.WARNING, "Failed to load head textures", e);
+        }
+        return result;
+    }
+
     // gets plugin version from db, returns null if first time running
     // The key parameter allows tracking different versions per server role (main/limbo)
     public String getPluginVersion(String key) {
         String metaTable = "ssoggysouls_meta";
-        try (Connection conn = dataSource.getConnection()) {
+        try (Connection conn = getConnection()) {
             // Check if metadata table exists (and create if needed)
             createMetadataTableIfNeeded(conn, metaTable);
 
@@ -408,7 +1092,7 @@ public class DatabaseManager {
 
     public void savePluginVersion(String key, String version) {
         String metaTable = "ssoggysouls_meta";
-        try (Connection conn = dataSource.getConnection()) {
+        try (Connection conn = getConnection()) {
             createMetadataTableIfNeeded(conn, metaTable);
 
             String sql = "INSERT INTO " + metaTable + " (key_, version) VALUES (?, ?) "
@@ -0,0 +1,150 @@
+package org.ssoggy.ssoggysouls.database;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.stream.Collectors;
+
+import org.bukkit.Bukkit;
+
+/**
+ * detects database connections opened on the primary server thread.
+ *
+ * <p>opt-in (database.main-thread-guard). every connection acquired on the main thread is
+ * attributed to the first plugin frame outside this package, counted, and timed from
+ * acquisition until close through a thin connection proxy. the first hit of each call site
+ * and every Nth after that logs a stack trace; strict mode throws instead, meant for
+ * development servers. startup work is not recorded until {@link #arm()} is called.
+ */
+public class MainThreadGuard {
+
+    private static final String DB_PACKAGE = MainThreadGuard.class.getPackageName();
+    private static final StackWalker WALKER = StackWalker.getInstance();
+
+    private final StorageContext plugin;
+    private final Map<String, CallSite> callSites = new ConcurrentHashMap<>();
+    private final LongAdder totalCalls = new LongAdder();
+    private volatile boolean enabled;
+    private volatile boolean strict;
+    private volatile int sampleEvery;
+    private volatile boolean armed;
+
+    /**
+     * counters for one offending call site.
+     */
+    public static final class CallSite {
+        private final String location;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+
+        private CallSite(String location) {
+            this.location = location;
+        }
+
+        public String getLocation() {
+            return location;
+        }
+
+        public long getCount() {
+            return count.sum();
+        }
+
+        public double getAverageMillis() {
+            long n = count.sum();
+            return n == 0 ? 0 : totalNanos.sum() / (double) n / 1_000_000.0;
+        }
+
+        public double getMaxMillis() {
+            return maxNanos.get() / 1_000_000.0;
+        }
+    }
+
+    public MainThreadGuard(StorageContext plugin) {
+        this.plugin = plugin;
+        refreshSettings();
+    }
+
+    public void refreshSettings() {
+        enabled = plugin.getConfig().getBoolean("database.main-thread-guard.enabled", false);
+        strict = plugin.getConfig().getBoolean("database.main-thread-guard.strict", false);
+        sampleEvery = Math.max(1, plugin.getConfig().getInt("database.main-thread-guard.sample-every", 100));
+    }
+
+    /**
+     * starts recording, call once startup is done.
+     */
+    public void arm() {
+        armed = true;
+    }
+
+    /**
+     * wraps a freshly acquired connection if it was taken on the main thread.
+     */
+    Connection track(Connection conn) throws SQLException {
+        if (!enabled || !armed || !Bukkit.isPrimaryThread()) return conn;
+
+        String location = WALKER.walk(frames -> frames
+                .filter(f -> !f.getClassName().startsWith(DB_PACKAGE))
+                .findFirst()
+                .map(f -> f.getClassName() + "." + f.getMethodName() + ":" + f.getLineNumber())
+                .orElse("unknown"));
+        CallSite site = callSites.computeIfAbsent(location, CallSite::new);
+        site.count.increment();
+        totalCalls.increment();
+
+        long n = site.count.sum();
+        if (strict) {
+            conn.close();
+            throw new IllegalStateException("Database access on the main thread from " + location);
+        }
+        if (n == 1 || n % sampleEvery == 0) {
+            plugin.getLogger().log(Level.WARNING, "Database access on the main thread from " + location
+                    + " (" + n + " time(s))", new Throwable("call site sample"));
+        }
+
+        long acquiredAt = System.nanoTime();
+        AtomicBoolean closed = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+                    if ("close".equals(method.getName()) && closed.compareAndSet(false, true)) {
+                        long elapsed = System.nanoTime() - acquiredAt;
+                        site.totalNanos.add(elapsed);
+                        site.maxNanos.accumulateAndGet(elapsed, Math::max);
+                    }
+                    try {
+                        return method.invoke(conn, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public long getTotalCalls() {
+        return totalCalls.sum();
+    }
+
+    /**
+     * call sites ordered by how often they hit the main thread.
+     */
+    public List<CallSite> getTopCallSites(int limit) {
+        return new ArrayList<>(callSites.values()).stream()
+                .sorted(Comparator.comparingLong(CallSite::getCount).reversed())
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,110 @@
+package org.ssoggy.ssoggysouls.database;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * every player name in the table, sorted case-insensitively, with its uuid and death status.
+ *
+ * <p>filled by streaming the player table at startup and reloaded now and then so names and
+ * deaths written by the other server show up. writes made through this server's
+ * DatabaseManager update it straight away. prefix completion and exact lookups are a skip
+ * list walk with no database access and are safe from any thread, including async tab
+ * completion.
+ */
+public class PlayerNameIndex {
+
+    /**
+     * one known player under their latest name.
+     */
+    public record Entry(UUID uuid, String name, boolean dead) {}
+
+    /**
+     * which players a completion should offer.
+     */
+    public enum Filter {
+        ANY, DEAD, ALIVE;
+
+        boolean accepts(Entry entry) {
+            return this == ANY || entry.dead() == (this == DEAD);
+        }
+    }
+
+    // lowercase name -> entry; a name taken over by another account points to the newer one
+    private final ConcurrentNavigableMap<String, Entry> byName = new ConcurrentSkipListMap<>();
+    private final Map<UUID, String> keyByUuid = new ConcurrentHashMap<>();
+    private volatile boolean loaded;
+
+    /**
+     * records a player's current name and status, dropping their previous name if it changed.
+     */
+    public void put(UUID uuid, String name, boolean dead) {
+        String key = key(name);
+        String previous = keyByUuid.put(uuid, key);
+        if (previous != null && !previous.equals(key)) {
+            byName.computeIfPresent(previous, (k, entry) -> entry.uuid().equals(uuid) ? null : entry);
+        }
+        byName.put(key, new Entry(uuid, name, dead));
+    }
+
+    /**
+     * updates the death status of a player already in the index.
+     */
+    public void setDead(UUID uuid, boolean dead) {
+        String key = keyByUuid.get(uuid);
+        if (key == null) return;
+        byName.computeIfPresent(key, (k, entry) ->
+                entry.uuid().equals(uuid) && entry.dead() != dead ? new Entry(uuid, entry.name(), dead) : entry);
+    }
+
+    /**
+     * the player currently using this name (case-insensitive), null if unknown.
+     */
+    public Entry find(String name) {
+        return byName.get(key(name));
+    }
+
+    /**
+     * names starting with the prefix (case-insensitive) in alphabetical order.
+     *
+     * @param limit stop after this many names
+     */
+    public List<String> complete(String prefix, Filter filter, int limit) {
+        String from = key(prefix);
+        Map<String, Entry> range = from.isEmpty()
+                ? byName
+                : byName.subMap(from, true, from + Character.MAX_VALUE, false);
+        List<String> names = new ArrayList<>();
+        for (Entry entry : range.values()) {
+            if (!filter.accepts(entry)) continue;
+            names.add(entry.name());
+            if (names.size() >= limit) break;
+        }
+        return names;
+    }
+
+    /**
+     * whether the first full load finished; until then lookups may miss existing players.
+     */
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    void markLoaded() {
+        loaded = true;
+    }
+
+    public int size() {
+        return byName.size();
+    }
+
+    private static String key(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,167 @@
+package org.ssoggy.ssoggysouls.database;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.ssoggy.ssoggysouls.util.TimeUtil;
+
+/**
+ * a set of players picked by conditions instead of by name, compiled to a SQL condition.
+ *
+ * <p>terms are joined with commas and must all hold, e.g. {@code @alive,inactive>30d}:
+ * <ul>
+ *   <li>{@code @all}, {@code @dead}, {@code @alive}</li>
+ *   <li>{@code lives<N} (also {@code <=}, {@code >}, {@code >=}, {@code =})</li>
+ *   <li>{@code lastdeath<T} / {@code lastdeath>T}, T as 2024-05-01, 2024-05-01T18:30 or epoch millis</li>
+ *   <li>{@code inactive>30d} / {@code inactive<12h}, time since last seen</li>
+ * </ul>
+ * column names come from a fixed list and every value is a bound parameter.
+ */
+public final class PlayerSelector {
+
+    private static final Pattern TERM = Pattern.compile("([a-z]+)(<=|>=|<|>|=)(.+)");
+
+    private final String source;
+    private final String condition;
+    private final List<Long> params;
+
+    private PlayerSelector(String source, String condition, List<Long> params) {
+        this.source = source;
+        this.condition = condition;
+        this.params = params;
+    }
+
+    /**
+     * whether a command argument is a selector rather than a player name.
+     */
+    public static boolean isSelector(String arg) {
+        return arg.startsWith("@") || arg.indexOf('<') >= 0 || arg.indexOf('>') >= 0 || arg.indexOf('=') >= 0;
+    }
+
+    /**
+     * compiles a selector.
+     *
+     * @param now reference time for relative terms such as inactive>30d
+     * @throws IllegalArgumentException with a readable reason if a term is invalid
+     */
+    public static PlayerSelector parse(String text, long now) {
+        List<String> conditions = new ArrayList<>();
+        List<Long> params = new ArrayList<>();
+        for (String rawTerm : text.toLowerCase(Locale.ROOT).split(",")) {
+            String term = rawTerm.trim();
+            if (term.isEmpty()) continue;
+            switch (term) {
+                case "@all" -> conditions.add("TRUE");
+                case "@dead" -> conditions.add("is_dead = TRUE");
+                case "@alive" -> conditions.add("is_dead = FALSE");
+                default -> compileComparison(term, now, conditions, params);
+            }
+        }
+        if (conditions.isEmpty()) {
+            throw new IllegalArgumentException("empty selector");
+        }
+        return new PlayerSelector(text, String.join(" AND ", conditions), List.copyOf(params));
+    }
+
+    private static void compileComparison(String term, long now, List<String> conditions, List<Long> params) {
+        Matcher m = TERM.matcher(term);
+        if (!m.matches()) {
+            throw new IllegalArgumentException("unknown term '" + term + "'");
+        }
+        String field = m.group(1);
+        String op = m.group(2);
+        String value = m.group(3);
+        switch (field) {
+            case "lives" -> {
+                conditions.add("lives " + op + " ?");
+                params.add(parseNumber(term, value));
+            }
+            case "lastdeath" -> {
+                // players who never died have last_death = 0 and never match
+                conditions.add("last_death > 0 AND last_death " + op + " ?");
+                params.add(parseTimestamp(term, value));
+            }
+            case "inactive" -> {
+                long millis = TimeUtil.parseTimeToMillis(value);
+                if (millis < 0) {
+                    throw new IllegalArgumentException("invalid duration in '" + term + "' (e.g. 30d, 12h)");
+                }
+                // inactive longer than X = last seen before now - X, so the comparison flips
+                conditions.add("last_seen > 0 AND last_seen " + flip(op) + " ?");
+                params.add(now - millis);
+            }
+            default -> throw new IllegalArgumentException("unknown field '" + field + "'");
+        }
+    }
+
+    private static String flip(String op) {
+        return switch (op) {
+            case "<" -> ">";
+            case "<=" -> ">=";
+            case ">" -> "<";
+            case ">=" -> "<=";
+            default -> op;
+        };
+    }
+
+    private static long parseNumber(String term, String value) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("invalid number in '" + term + "'");
+        }
+    }
+
+    private static long parseTimestamp(String term, String value) {
+        ZoneId zone = ZoneId.systemDefault();
+        try {
+            if (value.indexOf('t') > 0) {
+                return LocalDateTime.parse(value.toUpperCase(Locale.ROOT)).atZone(zone).toInstant().toEpochMilli();
+            }
+            if (value.indexOf('-') > 0) {
+                return LocalDate.parse(value).atStartOfDay(zone).toInstant().toEpochMilli();
+            }
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("invalid date in '" + term + "' (e.g. 2024-05-01 or 2024-05-01T18:30)");
+        }
+        return parseNumber(term, value);
+    }
+
+    /**
+     * this selector narrowed by one more condition, for operations that only make sense on
+     * some players (a revive only touches dead ones).
+     */
+    PlayerSelector and(String extraCondition) {
+        return new PlayerSelector(source, "(" + condition + ") AND " + extraCondition, params);
+    }
+
+    String getCondition() {
+        return condition;
+    }
+
+    /**
+     * binds the selector's parameters starting at the given index.
+     *
+     * @return the next free parameter index
+     */
+    int bind(PreparedStatement ps, int index) throws SQLException {
+        for (long param : params) {
+            ps.setLong(index++, param);
+        }
+        return index;
+    }
+
+    @Override
+    public String toString() {
+        return source;
+    }
+}
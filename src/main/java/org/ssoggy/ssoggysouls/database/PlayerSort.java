@@ -0,0 +1,63 @@
+package org.ssoggy.ssoggysouls.database;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Locale;
+
+import org.ssoggy.ssoggysouls.model.PlayerData;
+
+/**
+ * the orders /psadmin list can sort players in. each one is backed by a (column, uuid) index.
+ */
+public enum PlayerSort {
+
+    NAME("username", false),
+    LAST_DEATH("last_death", true),
+    LIVES("lives", true);
+
+    private final String column;
+    private final boolean numeric;
+
+    PlayerSort(String column, boolean numeric) {
+        this.column = column;
+        this.numeric = numeric;
+    }
+
+    /**
+     * the sort for a command argument such as name, lastdeath or lives, null if unknown.
+     */
+    public static PlayerSort fromName(String name) {
+        return switch (name.toLowerCase(Locale.ROOT)) {
+            case "name" -> NAME;
+            case "lastdeath" -> LAST_DEATH;
+            case "lives" -> LIVES;
+            default -> null;
+        };
+    }
+
+    String getColumn() {
+        return column;
+    }
+
+    /**
+     * the value of this sort's column for a player, as used in paging cursors.
+     */
+    public String valueOf(PlayerData data) {
+        return switch (this) {
+            case NAME -> data.getUsername();
+            case LAST_DEATH -> String.valueOf(data.getLastDeath());
+            case LIVES -> String.valueOf(data.getLives());
+        };
+    }
+
+    /**
+     * binds a cursor value, throwing IllegalArgumentException if it isn't valid for the column.
+     */
+    void bind(PreparedStatement ps, int index, String value) throws SQLException {
+        if (numeric) {
+            ps.setLong(index, Long.parseLong(value));
+        } else {
+            ps.setString(index, value);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package org.ssoggy.ssoggysouls.database;
+
+import java.util.logging.Logger;
+
+import org.bukkit.configuration.file.FileConfiguration;
+
+/**
+ * what the storage layer needs from its owner. the plugin implements it; benchmarks and
+ * tools can supply their own to run {@link DatabaseManager} without a server.
+ */
+public interface StorageContext {
+
+    Logger getLogger();
+
+    /**
+     * the database section is read from here (host, credentials, table name, guard settings).
+     */
+    FileConfiguration getConfig();
+
+    /**
+     * false once the owner shuts down, so a slow connect can give up its pool.
+     */
+    boolean isEnabled();
+
+    boolean isDebugMode();
+
+    void debug(String message);
+
+    /**
+     * lives a new row starts with, used as the column default.
+     */
+    int getDefaultLives();
+}
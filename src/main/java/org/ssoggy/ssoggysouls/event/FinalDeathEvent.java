@@ -0,0 +1,38 @@
+package org.ssoggy.ssoggysouls.event;
+
+import org.bukkit.Location;
+import org.bukkit.event.HandlerList;
+
+import org.ssoggy.ssoggysouls.model.PlayerData;
+
+/**
+ * a player lost their last life and is now dead. the data is already saved as dead,
+ * {@link PlayerData#getLastDeath()} identifies this death.
+ */
+public class FinalDeathEvent extends SoulsPlayerEvent {
+
+    private static final HandlerList HANDLERS = new HandlerList();
+
+    private final Location deathLocation;
+
+    public FinalDeathEvent(PlayerData data, Location deathLocation) {
+        super(data);
+        this.deathLocation = deathLocation;
+    }
+
+    /**
+     * where the player died.
+     */
+    public Location getDeathLocation() {
+        return deathLocation.clone();
+    }
+
+    @Override
+    public HandlerList getHandlers() {
+        return HANDLERS;
+    }
+
+    public static HandlerList getHandlerList() {
+        return HANDLERS;
+    }
+}
@@ -0,0 +1,26 @@
+package org.ssoggy.ssoggysouls.event;
+
+import org.bukkit.event.HandlerList;
+
+import org.ssoggy.ssoggysouls.model.PlayerData;
+
+/**
+ * a player died during their grace period and kept all their lives.
+ */
+public class GraceProtectedDeathEvent extends SoulsPlayerEvent {
+
+    private static final HandlerList HANDLERS = new HandlerList();
+
+    public GraceProtectedDeathEvent(PlayerData data) {
+        super(data);
+    }
+
+    @Override
+    public HandlerList getHandlers() {
+        return HANDLERS;
+    }
+
+    public static HandlerList getHandlerList() {
+        return HANDLERS;
+    }
+}
@@ -0,0 +1,30 @@
+package org.ssoggy.ssoggysouls.event;
+
+import org.bukkit.event.HandlerList;
+
+import org.ssoggy.ssoggysouls.model.PlayerData;
+
+/**
+ * a player died and lost a life but still has lives left.
+ */
+public class LifeLostEvent extends SoulsPlayerEvent {
+
+    private static final HandlerList HANDLERS = new HandlerList();
+
+    public LifeLostEvent(PlayerData data) {
+        super(data);
+    }
+
+    public int getRemainingLives() {
+        return getData().getLives();
+    }
+
+    @Override
+    public HandlerList getHandlers() {
+        return HANDLERS;
+    }
+
+    public static HandlerList getHandlerList() {
+        return HANDLERS;
+    }
+}
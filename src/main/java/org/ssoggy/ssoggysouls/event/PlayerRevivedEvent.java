@@ -0,0 +1,48 @@
+package org.ssoggy.ssoggysouls.event;
+
+import org.bukkit.event.HandlerList;
+
+import org.ssoggy.ssoggysouls.model.PlayerData;
+
+/**
+ * a dead player was revived in the database on this server. called once the revive is
+ * committed, whether or not the player is online.
+ */
+public class PlayerRevivedEvent extends SoulsPlayerEvent {
+
+    private static final HandlerList HANDLERS = new HandlerList();
+
+    /**
+     * what brought the player back.
+     */
+    public enum Cause {
+        /** /revive */
+        COMMAND,
+        /** /psadmin revive */
+        ADMIN,
+        /** a head placed on a ritual structure */
+        RITUAL,
+        /** a gamemode change made by another plugin, e.g. HRM */
+        EXTERNAL
+    }
+
+    private final Cause cause;
+
+    public PlayerRevivedEvent(PlayerData data, Cause cause) {
+        super(data);
+        this.cause = cause;
+    }
+
+    public Cause getCause() {
+        return cause;
+    }
+
+    @Override
+    public HandlerList getHandlers() {
+        return HANDLERS;
+    }
+
+    public static HandlerList getHandlerList() {
+        return HANDLERS;
+    }
+}
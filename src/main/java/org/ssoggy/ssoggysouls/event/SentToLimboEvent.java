@@ -0,0 +1,26 @@
+package org.ssoggy.ssoggysouls.event;
+
+import org.bukkit.event.HandlerList;
+
+import org.ssoggy.ssoggysouls.model.PlayerData;
+
+/**
+ * a dead player is about to be transferred to the limbo server.
+ */
+public class SentToLimboEvent extends SoulsPlayerEvent {
+
+    private static final HandlerList HANDLERS = new HandlerList();
+
+    public SentToLimboEvent(PlayerData data) {
+        super(data);
+    }
+
+    @Override
+    public HandlerList getHandlers() {
+        return HANDLERS;
+    }
+
+    public static HandlerList getHandlerList() {
+        return HANDLERS;
+    }
+}
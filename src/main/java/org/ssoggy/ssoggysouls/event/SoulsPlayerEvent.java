@@ -0,0 +1,40 @@
+package org.ssoggy.ssoggysouls.event;
+
+import java.util.UUID;
+
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.event.Event;
+
+import org.ssoggy.ssoggysouls.model.PlayerData;
+
+/**
+ * base for the plugin's lifecycle events.
+ *
+ * <p>every event carries the {@link PlayerData} the plugin resolved when the state changed,
+ * so listeners never have to go back to the database. events are always called on the
+ * main thread; the data is a snapshot and should not be modified.
+ */
+public abstract class SoulsPlayerEvent extends Event {
+
+    private final PlayerData data;
+
+    protected SoulsPlayerEvent(PlayerData data) {
+        this.data = data;
+    }
+
+    public PlayerData getData() {
+        return data;
+    }
+
+    public UUID getPlayerUuid() {
+        return data.getUuid();
+    }
+
+    /**
+     * the player if they are online on this server, otherwise null.
+     */
+    public Player getPlayer() {
+        return Bukkit.getPlayer(data.getUuid());
+    }
+}
@@ -134,16 +134,16 @@ public class ExtraLifeManager implements Listener {
         }
 
         if (data.isDead()) {
-            Bukkit.getScheduler().runTask(plugin, () ->
-                    player.sendMessage(MessageUtil.get("extra-life-dead")));
+            Bukkit.getScheduler().runTask(plugin, plugin.getProfiler().wrap(() ->
+                    player.sendMessage(MessageUtil.get("extra-life-dead"))));
             return;
         }
 
         int maxLives = plugin.getMaxLives();
         if (maxLives > 0 && data.getLives() >= maxLives) {
-            Bukkit.getScheduler().runTask(plugin, () ->
+            Bukkit.getScheduler().runTask(plugin, plugin.getProfiler().wrap(() ->
                     player.sendMessage(MessageUtil.get("extra-life-max",
-                            "max", maxLives)));
+                            "max", maxLives))));
             return;
         }
 
@@ -153,7 +153,7 @@ public class ExtraLifeManager implements Listener {
                 new Object[]{player.getName(), newLives});
 
         final int finalLives = newLives;
-        Bukkit.getScheduler().runTask(plugin, () -> {
+        Bukkit.getScheduler().runTask(plugin, plugin.getProfiler().wrap(() -> {
             if (item.getAmount() > 1) {
                 item.setAmount(item.getAmount() - 1);
             } else {
@@ -170,6 +170,6 @@ public class ExtraLifeManager implements Listener {
             }
             player.addPotionEffect(new PotionEffect(
                     PotionEffectType.GLOWING, 60, 0, false, true));
-        });
+        }));
     }
 }
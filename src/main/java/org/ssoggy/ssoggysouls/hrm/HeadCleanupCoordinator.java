@@ -0,0 +1,277 @@
+package org.ssoggy.ssoggysouls.hrm;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.logging.Level;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Chunk;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.block.BlockState;
+import org.bukkit.block.Skull;
+import org.bukkit.entity.Item;
+import org.bukkit.entity.ItemFrame;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.InventoryHolder;
+import org.bukkit.scheduler.BukkitTask;
+
+import org.ssoggy.ssoggysouls.SSoggySouls;
+import org.ssoggy.ssoggysouls.task.IncrementalJob;
+
+/**
+ * merges the fallback head scans of revives that arrive close together into one pass.
+ *
+ * <p>owners requested within the merge window start a single scan that tests every head
+ * against the whole owner set. an owner that arrives while a scan is running joins it
+ * at the next work unit (one world phase or the online players) and stays in the pass
+ * until it has seen every unit once, wrapping around the unit list if needed, so mass
+ * revives cost one scan instead of one per player. main thread only.
+ */
+public class HeadCleanupCoordinator {
+
+    private final SSoggySouls plugin;
+    private final Set<UUID> window = new LinkedHashSet<>();
+    private BukkitTask windowTask;
+    private ScanPass running;
+
+    private long passes;
+    private long ownersScanned;
+    private long joinedRunning;
+    private int lastPassOwners;
+    private long lastPassWallMillis;
+    private long lastPassBusyMicros;
+    private long totalBusyMicros;
+
+    public HeadCleanupCoordinator(SSoggySouls plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * asks for a fallback scan for one owner; merged with other requests nearby in time.
+     */
+    public void request(UUID owner) {
+        if (running != null) {
+            running.join(owner);
+            joinedRunning++;
+            return;
+        }
+        window.add(owner);
+        if (windowTask == null) {
+            windowTask = Bukkit.getScheduler().runTaskLater(plugin, plugin.getProfiler().wrap(this::flush),
+                    plugin.getHeadCleanupMergeWindowTicks());
+        }
+    }
+
+    private void flush() {
+        windowTask = null;
+        if (window.isEmpty()) return;
+
+        if (running != null) {
+            window.forEach(running::join);
+            joinedRunning += window.size();
+        } else {
+            running = new ScanPass(plugin.isHrmHeadCleanupFullScan(),
+                    plugin.isHrmHeadCleanupFullScan() && plugin.isHrmHeadPlaceAsBlock());
+            window.forEach(running::join);
+            plugin.getTickScheduler().submit(running);
+        }
+        window.clear();
+    }
+
+    private void complete(ScanPass pass) {
+        running = null;
+        passes++;
+        ownersScanned += pass.owners.size();
+        lastPassOwners = pass.owners.size();
+        lastPassWallMillis = (System.nanoTime() - pass.startedAt) / 1_000_000L;
+        lastPassBusyMicros = pass.busyNanos / 1_000L;
+        totalBusyMicros += lastPassBusyMicros;
+
+        if (pass.removedCount > 0) {
+            plugin.getLogger().log(Level.INFO, "Removed {0} player head(s) for {1} revived player(s)",
+                    new Object[]{pass.removedCount, pass.owners.size()});
+        }
+        if (plugin.isDebugMode()) {
+            plugin.debug("Head cleanup pass: " + lastPassOwners + " owner(s), "
+                    + lastPassWallMillis + "ms wall, " + lastPassBusyMicros + "µs main thread");
+        }
+    }
+
+    public long getPasses() {
+        return passes;
+    }
+
+    public double getAverageOwnersPerPass() {
+        return passes == 0 ? 0 : (double) ownersScanned / passes;
+    }
+
+    public long getJoinedRunning() {
+        return joinedRunning;
+    }
+
+    public int getLastPassOwners() {
+        return lastPassOwners;
+    }
+
+    public long getLastPassWallMillis() {
+        return lastPassWallMillis;
+    }
+
+    public long getLastPassBusyMicros() {
+        return lastPassBusyMicros;
+    }
+
+    public long getTotalBusyMicros() {
+        return totalBusyMicros;
+    }
+
+    public boolean isScanRunning() {
+        return running != null;
+    }
+
+    /**
+     * one cyclic walk over the work units, one object per step.
+     */
+    private final class ScanPass implements IncrementalJob {
+
+        private enum Kind { ITEM_ENTITIES, ITEM_FRAMES, CHUNKS, PLAYERS }
+
+        private record Unit(Kind kind, UUID worldId) {}
+
+        private final List<Unit> units = new ArrayList<>();
+        private final Set<UUID> owners = new HashSet<>();
+        // owners tested in the current unit -> units they still have to see
+        private final Map<UUID, Integer> active = new HashMap<>();
+        private final Set<UUID> joining = new LinkedHashSet<>();
+        private final long startedAt = System.nanoTime();
+
+        private int unitIndex = 0;
+        private List<?> current = null;
+        private int index = 0;
+        private int removedCount = 0;
+        private long busyNanos = 0;
+
+        ScanPass(boolean fullScan, boolean scanChunksForBlocks) {
+            if (fullScan) {
+                for (World world : Bukkit.getWorlds()) {
+                    units.add(new Unit(Kind.ITEM_ENTITIES, world.getUID()));
+                    units.add(new Unit(Kind.ITEM_FRAMES, world.getUID()));
+                    if (scanChunksForBlocks) {
+                        units.add(new Unit(Kind.CHUNKS, world.getUID()));
+                    }
+                }
+            }
+            units.add(new Unit(Kind.PLAYERS, null));
+        }
+
+        void join(UUID owner) {
+            if (owners.add(owner)) {
+                joining.add(owner);
+            }
+        }
+
+        @Override
+        public String name() {
+            return "head-cleanup";
+        }
+
+        @Override
+        public boolean step() {
+            long start = System.nanoTime();
+            try {
+                return doStep();
+            } finally {
+                busyNanos += System.nanoTime() - start;
+            }
+        }
+
+        private boolean doStep() {
+            if (current == null) {
+                // unit boundary: late owners start here and run one full cycle
+                for (UUID owner : joining) {
+                    active.put(owner, units.size());
+                }
+                joining.clear();
+                if (active.isEmpty()) {
+                    complete(this);
+                    return true;
+                }
+                current = collect(units.get(unitIndex));
+                index = 0;
+                return false;
+            }
+
+            if (index < current.size()) {
+                scan(current.get(index++), active.keySet());
+                return false;
+            }
+
+            // unit finished for every active owner
+            active.replaceAll((owner, left) -> left - 1);
+            active.values().removeIf(left -> left <= 0);
+            unitIndex = (unitIndex + 1) % units.size();
+            current = null;
+            if (active.isEmpty() && joining.isEmpty()) {
+                complete(this);
+                return true;
+            }
+            return false;
+        }
+
+        private List<?> collect(Unit unit) {
+            if (unit.kind() == Kind.PLAYERS) {
+                return new ArrayList<>(Bukkit.getOnlinePlayers());
+            }
+            World world = Bukkit.getWorld(unit.worldId());
+            if (world == null) return List.of();
+            return switch (unit.kind()) {
+                case ITEM_ENTITIES -> new ArrayList<>(world.getEntitiesByClass(Item.class));
+                case ITEM_FRAMES -> new ArrayList<>(world.getEntitiesByClass(ItemFrame.class));
+                default -> List.of(world.getLoadedChunks());
+            };
+        }
+
+        private void scan(Object object, Set<UUID> owners) {
+            if (object instanceof Item itemEntity) {
+                if (itemEntity.isValid() && HeadDropListener.isOwnedHead(itemEntity.getItemStack(), owners)) {
+                    itemEntity.remove();
+                    removedCount++;
+                }
+            } else if (object instanceof ItemFrame frame) {
+                if (frame.isValid() && HeadDropListener.isOwnedHead(frame.getItem(), owners)) {
+                    frame.setItem(null);
+                    removedCount++;
+                }
+            } else if (object instanceof Chunk chunk) {
+                if (chunk.isLoaded()) {
+                    scanChunk(chunk, owners);
+                }
+            } else if (object instanceof Player player && player.isOnline()) {
+                removedCount += HeadDropListener.removeFromInventory(player.getInventory(), owners);
+                removedCount += HeadDropListener.removeFromInventory(player.getEnderChest(), owners);
+            }
+        }
+
+        private void scanChunk(Chunk chunk, Set<UUID> owners) {
+            for (BlockState state : chunk.getTileEntities()) {
+                if (state instanceof InventoryHolder holder) {
+                    removedCount += HeadDropListener.removeFromInventory(holder.getInventory(), owners);
+                }
+                if (state instanceof Skull skull) {
+                    UUID skullOwner = HeadTags.getOwner(skull);
+                    if (skullOwner != null && owners.contains(skullOwner)) {
+                        skull.getBlock().setType(Material.AIR);
+                        removedCount++;
+                    }
+                }
+            }
+        }
+    }
+}
@@ -1,57 +1,66 @@
 package org.ssoggy.ssoggysouls.hrm;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicInteger;
 
 import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
-import org.bukkit.Chunk;
 import org.bukkit.Location;
 import org.bukkit.Material;
-import org.bukkit.OfflinePlayer;
 import org.bukkit.Tag;
 import org.bukkit.World;
 import org.bukkit.block.Block;
 import org.bukkit.block.BlockState;
 import org.bukkit.block.Skull;
+import org.bukkit.entity.Entity;
 import org.bukkit.entity.Item;
-import org.bukkit.entity.ItemFrame;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
+import org.bukkit.event.block.BlockBreakEvent;
+import org.bukkit.event.entity.EntityPickupItemEvent;
 import org.bukkit.event.entity.ItemDespawnEvent;
 import org.bukkit.event.entity.PlayerDeathEvent;
+import org.bukkit.event.inventory.InventoryPickupItemEvent;
 import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.InventoryHolder;
 import org.bukkit.inventory.ItemStack;
-import org.bukkit.inventory.PlayerInventory;
 import org.bukkit.inventory.meta.BlockStateMeta;
 import org.bukkit.inventory.meta.SkullMeta;
-import org.bukkit.scheduler.BukkitRunnable;
 
 import org.ssoggy.ssoggysouls.SSoggySouls;
 import org.ssoggy.ssoggysouls.database.DatabaseManager;
+import org.ssoggy.ssoggysouls.event.FinalDeathEvent;
+import org.ssoggy.ssoggysouls.model.HeadArtifact;
 import org.ssoggy.ssoggysouls.model.PlayerData;
 
 public class HeadDropListener implements Listener {
 
     private static final String PERM_BYPASS = "ssoggysouls.bypass";
-    private static final String SKIP_HEAD_DROP_MSG = "Skipping head drop for ";
 
     private final SSoggySouls plugin;
     private final DatabaseManager db;
-    // Tracks locations of skull blocks placed on death so cleanup can remove them
-    // directly, even if their chunk is unloaded at revive time.
-    private final Map<UUID, List<Location>> headBlockLocations = new ConcurrentHashMap<>();
+    private final HeadCleanupCoordinator cleanupCoordinator;
+    private final HeadPlacementSearch placementSearch = new HeadPlacementSearch();
+    // owner -> dead, filled when heads drop and lazily off-thread; read by the despawn check
+    private final Map<UUID, Boolean> headOwnerDead = new ConcurrentHashMap<>();
 
     public HeadDropListener(SSoggySouls plugin) {
         this.plugin = plugin;
         this.db = plugin.getDatabaseManager();
+        this.cleanupCoordinator = new HeadCleanupCoordinator(plugin);
+    }
+
+    public HeadCleanupCoordinator getCleanupCoordinator() {
+        return cleanupCoordinator;
+    }
+
+    public HeadPlacementSearch getPlacementSearch() {
+        return placementSearch;
     }
 
     @EventHandler(priority = EventPriority.MONITOR)
@@ -69,93 +78,139 @@ public class HeadDropListener implements Listener {
                     + deathLoc.getBlockY() + ", " + deathLoc.getBlockZ()
                     + " in " + world.getName());
         }
+    }
 
-        // only drop head if really dead (work pls)
-        if (plugin.isHrmDropHeads()) {
-            Bukkit.getScheduler().runTaskLaterAsynchronously(plugin, () -> {
-                PlayerData data = db.getPlayer(player.getUniqueId());
-                if (data == null) {
-                    if (plugin.isDebugMode()) {
-                        plugin.debug(SKIP_HEAD_DROP_MSG + player.getName() + " (no data).");
-                    }
-                    return;
-                }
-                if (!data.isDead()) {
-                    if (plugin.isDebugMode()) {
-                        plugin.debug(SKIP_HEAD_DROP_MSG + player.getName() + " (not dead).");
-                    }
-                    return;
-                }
-                if (data.isInGracePeriod(plugin.getGracePeriodMillis())) {
-                    if (plugin.isDebugMode()) {
-                        plugin.debug(SKIP_HEAD_DROP_MSG + player.getName() + " (grace period).");
-                    }
-                    return;
-                }
-                // Place / drop the head on the main thread
-                Bukkit.getScheduler().runTask(plugin, () -> {
-                    if (plugin.isHrmHeadPlaceAsBlock()) {
-                        // Place as a permanent block — never burns, never despawns
-                        Block block = findSuitableBlock(world, deathLoc);
-                        if (block != null) {
-                            block.setType(Material.PLAYER_HEAD, false);
-                            Skull skull = (Skull) block.getState();
-                            skull.setOwningPlayer(player);
-                            skull.update(true, false);
-                            // Remember this location so cleanup can find it even
-                            // if the chunk gets unloaded before the player is revived
-                            headBlockLocations
-                                    .computeIfAbsent(player.getUniqueId(), k -> new ArrayList<>())
-                                    .add(block.getLocation());
-                            if (plugin.isDebugMode()) {
-                                plugin.debug("Placed " + player.getName() + "'s head block at "
-                                        + block.getX() + ", " + block.getY() + ", " + block.getZ());
-                            }
-                        } else {
-                            // Fallback so the head is never lost when no block can be placed.
-                            dropHeadItem(world, deathLoc, player);
-                            if (plugin.isDebugMode()) {
-                                plugin.debug("No suitable block found to place " + player.getName()
-                                        + "'s head; fell back to item drop.");
-                            }
-                        }
-                    } else {
-                        // Drop as item entity
-                        dropHeadItem(world, deathLoc, player);
-                    }
-                });
-            }, 10L); // 0.5s delay because why not it would break otherwise
+    // only drop head if really dead (work pls) - the death handler has already resolved that
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onFinalDeath(FinalDeathEvent event) {
+        if (!plugin.isHrmDropHeads()) return;
+
+        PlayerData data = event.getData();
+        Location deathLoc = event.getDeathLocation();
+        World world = deathLoc.getWorld();
+        if (world == null) return;
+
+        UUID owner = data.getUuid();
+        String name = data.getUsername();
+        long deathId = data.getLastDeath();
+
+        // an old tombstone from a previous revive would eat the new head
+        plugin.getHeadTombstones().clear(data.getUuid());
+
+        if (!plugin.isHrmHeadPlaceAsBlock()) {
+            // Drop as item entity
+            dropHeadItem(world, deathLoc, owner, name, deathId);
+            return;
+        }
+
+        // snapshot the column now and walk the copy off the main thread
+        HeadPlacementSearch.Column column = HeadPlacementSearch.capture(deathLoc);
+        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+            int targetY = placementSearch.search(column);
+            Bukkit.getScheduler().runTask(plugin, plugin.getProfiler().wrap(() ->
+                    placeHeadBlock(world, deathLoc, column, targetY, owner, name, deathId)));
+        });
+    }
+
+    private void placeHeadBlock(World world, Location deathLoc, HeadPlacementSearch.Column column, int targetY,
+                                UUID owner, String name, long deathId) {
+        // Place as a permanent block — never burns, never despawns
+        long start = System.nanoTime();
+        Block block = placementSearch.resolve(world, column, targetY);
+        if (block != null) {
+            block.setType(Material.PLAYER_HEAD, false);
+            Skull skull = (Skull) block.getState();
+            plugin.getHeadTextures().apply(skull, owner, name);
+            HeadTags.stamp(skull.getPersistentDataContainer(), owner, deathId);
+            skull.update(true, false);
+            // Remember this location so cleanup can find it even
+            // if the chunk is unloaded or the server restarts before the revive
+            indexArtifact(HeadArtifact.block(owner, world.getName(),
+                    block.getX(), block.getY(), block.getZ()));
+            placementSearch.recordPlacement(System.nanoTime() - start, false);
+            if (plugin.isDebugMode()) {
+                plugin.debug("Placed " + name + "'s head block at "
+                        + block.getX() + ", " + block.getY() + ", " + block.getZ());
+            }
+        } else {
+            // Fallback so the head is never lost when no block can be placed.
+            dropHeadItem(world, deathLoc, owner, name, deathId);
+            placementSearch.recordPlacement(System.nanoTime() - start, true);
+            if (plugin.isDebugMode()) {
+                plugin.debug("No suitable block found to place " + name
+                        + "'s head; fell back to item drop.");
+            }
         }
     }
 
     @EventHandler
     public void onItemDespawn(ItemDespawnEvent event) {
         if (!plugin.isHrmDropHeads() || plugin.isHrmHeadPlaceAsBlock() || !plugin.isHrmHeadNoDespawn()) return;
-        UUID ownerUuid = getHeadOwnerUuid(event.getEntity().getItemStack());
+        UUID ownerUuid = HeadTags.getOwner(event.getEntity().getItemStack());
         if (ownerUuid == null) return;
 
-        PlayerData data = db.getPlayer(ownerUuid);
-        if (data != null && data.isDead()) {
+        Boolean dead = headOwnerDead.get(ownerUuid);
+        if (dead == null) {
+            dead = db.getCachedDeathStatus(ownerUuid);
+        }
+        if (dead == null) {
+            // unknown (e.g. after a restart): keep the head for now and look it up off-thread,
+            // the next despawn attempt will have the answer
+            event.setCancelled(true);
+            Bukkit.getScheduler().runTaskAsynchronously(plugin, () ->
+                    headOwnerDead.put(ownerUuid, db.isPlayerDead(ownerUuid)));
+            return;
+        }
+        if (dead) {
             event.setCancelled(true);
         }
     }
 
-    private UUID getHeadOwnerUuid(ItemStack stack) {
-        if (stack == null || stack.getType() != Material.PLAYER_HEAD) return null;
-        if (!(stack.getItemMeta() instanceof SkullMeta skullMeta)) return null;
-        OfflinePlayer owner = skullMeta.getOwningPlayer();
-        if (owner == null) return null;
-        return owner.getUniqueId();
+    // --- Head index upkeep: drop entries once the head is no longer where we recorded it ---
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onHeadBlockBreak(BlockBreakEvent event) {
+        Block block = event.getBlock();
+        Material type = block.getType();
+        if (type != Material.PLAYER_HEAD && type != Material.PLAYER_WALL_HEAD) return;
+        unindexArtifact(HeadArtifact.blockKey(block.getWorld().getName(),
+                block.getX(), block.getY(), block.getZ()));
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onHeadPickup(EntityPickupItemEvent event) {
+        unindexPickedUp(event.getItem());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onHeadHopperPickup(InventoryPickupItemEvent event) {
+        unindexPickedUp(event.getItem());
+    }
+
+    private void unindexPickedUp(Item item) {
+        if (item.getItemStack().getType() != Material.PLAYER_HEAD) return;
+        unindexArtifact(HeadArtifact.itemKey(item.getUniqueId()));
     }
 
-    private void dropHeadItem(World world, Location deathLoc, Player player) {
-        ItemStack head = createPlayerHead(player);
+    private void indexArtifact(HeadArtifact artifact) {
+        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> db.saveHeadArtifact(artifact));
+    }
+
+    private void unindexArtifact(String key) {
+        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> db.deleteHeadArtifact(key));
+    }
+
+    private void dropHeadItem(World world, Location deathLoc, UUID owner, String name, long deathId) {
+        headOwnerDead.put(owner, true);
+        ItemStack head = createPlayerHead(plugin.getHeadTextures(), owner, name, deathId);
         Item item = world.dropItemNaturally(deathLoc, head);
         if (plugin.isHrmHeadFireproof()) {
             item.setInvulnerable(true);
         }
+        indexArtifact(HeadArtifact.item(owner, world.getName(),
+                deathLoc.getBlockX(), deathLoc.getBlockY(), deathLoc.getBlockZ(), item.getUniqueId()));
         if (plugin.isDebugMode()) {
-            plugin.debug("Dropped " + player.getName() + "'s head at "
+            plugin.debug("Dropped " + name + "'s head at "
                     + deathLoc.getBlockX() + ", " + deathLoc.getBlockY()
                     + ", " + deathLoc.getBlockZ()
                     + (plugin.isHrmHeadFireproof() ? " (fireproof)" : "")
@@ -163,12 +218,16 @@ public class HeadDropListener implements Listener {
         }
     }
 
-    public static ItemStack createPlayerHead(Player player) {
+    /**
+     * a revival head for the owner, tagged with the death it came from.
+     */
+    public static ItemStack createPlayerHead(HeadTextures textures, UUID owner, String name, long deathId) {
         ItemStack head = new ItemStack(Material.PLAYER_HEAD);
         SkullMeta meta = (SkullMeta) head.getItemMeta();
         if (meta != null) {
-            meta.setOwningPlayer(player);
-            meta.setDisplayName(ChatColor.YELLOW + player.getName() + "'s Head");
+            textures.apply(meta, owner, name);
+            HeadTags.stamp(meta.getPersistentDataContainer(), owner, deathId);
+            meta.setDisplayName(ChatColor.YELLOW + name + "'s Head");
             meta.setLore(List.of(
                     ChatColor.DARK_RED.toString() + ChatColor.ITALIC + "A fallen player's head",
                     ChatColor.GRAY + "Place on a revival structure to revive"));
@@ -182,255 +241,111 @@ public class HeadDropListener implements Listener {
     //
     // Two-pass design:
     //
-    //  Pass 1 – Targeted removal (always O(n) with n = number of placed head blocks)
-    //   headBlockLocations stores the Location of every skull block placed at death.
-    //   On revive we look up those exact coords, force-load the chunk if necessary,
-    //   verify the block still belongs to this player, set it to AIR, then release
-    //   the chunk again if we had to load it.  This is instant and chunk-safe.
-    //   Limitation: the map is in-memory only.  If the server restarts between death
-    //   and revival the entries are lost and pass 2 acts as the safety net.
+    //  Pass 1 – Targeted removal from the head index (O(n) with n = heads recorded for the owner)
+    //   Every skull block placed and every head item dropped at death is written to the
+    //   head index table, so it survives restarts. On revive we load the owner's entries,
+    //   force-load each chunk if necessary, verify the block/entity still belongs to this
+    //   player, remove it, then release the chunk again if we had to load it.
+    //
+    //  Heads in chunks that are not loaded (and not indexed) are handled lazily by
+    //  HeadTombstones when the chunk loads.
     //
     //  Pass 2 – Tick-spread fallback scan
-    //   Catches anything pass 1 missed: item entities (item-entity mode), item frames,
-    //   player/ender-chest inventories, shulker boxes, and stale skull blocks left by
-    //   older plugin versions that lacked location tracking.
-    //   Work is spread across multiple server ticks to avoid lag spikes:
-    //     • Item entities  – 50 per tick
-    //     • Item frames    – 50 per tick
-    //     • Chunks (block scan, block-mode only) – 10 per tick
-    //     • Online players – 5 per tick
-    //   The chunk scan phase is skipped entirely when head-place-as-block is false
-    //   because in item-entity mode there are no skull blocks to find in chunks.
+    //   Heads picked up by online players (inventory and ender chest) are always checked,
+    //   that part is cheap. With hrm.head-cleanup.full-scan enabled it also walks item
+    //   entities, item frames and (block-mode only) every loaded chunk's tile entities to
+    //   catch heads moved into containers or left behind by older plugin versions that
+    //   lacked the index. The scan runs as an IncrementalJob on the shared TickBudgetScheduler:
+    //   one entity, frame, chunk or player per step, as many steps per tick as the adaptive
+    //   time budget allows. Revives close together share one pass, see HeadCleanupCoordinator.
     public void removeDroppedHeads(UUID ownerUuid) {
-        // --- Targeted removal for block-mode heads ---
-        // Remove known skull block locations first.  We force-load the chunk if
-        // needed so this works even when the chunk is currently unloaded.
-        List<Location> knownLocations = headBlockLocations.remove(ownerUuid);
-        if (knownLocations != null) {
-            Bukkit.getScheduler().runTask(plugin, () -> {
-                for (Location loc : knownLocations) {
-                    World w = loc.getWorld();
-                    if (w == null) continue;
-                    boolean wasLoaded = w.isChunkLoaded(loc.getBlockX() >> 4, loc.getBlockZ() >> 4);
-                    // getBlockAt force-loads the chunk if not already loaded
-                    Block b = w.getBlockAt(loc);
-                    if (b.getType() == Material.PLAYER_HEAD || b.getType() == Material.PLAYER_WALL_HEAD) {
-                        BlockState state = b.getState();
-                        if (state instanceof Skull skull) {
-                            OfflinePlayer owner = skull.getOwningPlayer();
-                            if (owner != null && owner.getUniqueId().equals(ownerUuid)) {
-                                b.setType(Material.AIR);
-                                if (plugin.isDebugMode()) {
-                                    plugin.debug("Removed tracked head block for " + ownerUuid
-                                            + " at " + b.getX() + ", " + b.getY() + ", " + b.getZ());
-                                }
-                            }
-                        }
-                    }
-                    // Unload the chunk again if we loaded it just for cleanup
-                    if (!wasLoaded) {
-                        w.unloadChunkRequest(loc.getBlockX() >> 4, loc.getBlockZ() >> 4);
-                    }
-                }
-            });
-        }
+        headOwnerDead.put(ownerUuid, false);
+        // whatever sits in chunks we can't reach now is removed when they load
+        plugin.getHeadTombstones().add(ownerUuid);
+
+        // index lookup is a DB call, callers may be on either thread
+        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+            List<HeadArtifact> known = db.getHeadArtifacts(ownerUuid);
+            if (!known.isEmpty()) {
+                db.deleteHeadArtifacts(ownerUuid);
+            }
+            Bukkit.getScheduler().runTask(plugin, plugin.getProfiler().wrap(() -> {
+                removeIndexedHeads(ownerUuid, known);
+                cleanupCoordinator.request(ownerUuid);
+            }));
+        });
+    }
 
-        // --- Pass 2: tick-spread fallback scan ---
-        // In block-mode the chunk scan is necessary as a safety net for stale blocks
-        // (server restart between death and revive loses the tracked location).
-        // In item-entity mode there are never any skull blocks to find, so we skip
-        // the whole chunk phase and save a significant amount of per-tick work.
-        final boolean scanChunksForBlocks = plugin.isHrmHeadPlaceAsBlock();
-        new BukkitRunnable() {
-            private final List<World> worlds = new ArrayList<>(Bukkit.getWorlds());
-            private final List<Player> players = new ArrayList<>(Bukkit.getOnlinePlayers());
-            private final AtomicInteger removedCount = new AtomicInteger(0);
-            private int worldIndex = 0;
-            private int playerIndex = 0;
-            private List<Item> currentItemEntities = null;
-            private List<ItemFrame> currentItemFrames = null;
-            private List<Chunk> currentChunks = null;
-            private int entityIndex = 0;
-            private int chunkIndex = 0;
-            private boolean processingItemEntities = true;
-            private boolean processingItemFrames = false;
-            private boolean processingChunks = false;
-            private boolean processingPlayers = false;
-
-            // Batch sizes to process per tick
-            private final int ENTITIES_PER_TICK = 50;
-            private final int CHUNKS_PER_TICK = 10;
-            private final int PLAYERS_PER_TICK = 5;
-
-            @Override
-            public void run() {
-                // Process item entities from worlds
-                if (processingItemEntities) {
-                    if (worldIndex >= worlds.size()) {
-                        // Done with item entities, move to item frames
-                        processingItemEntities = false;
-                        processingItemFrames = true;
-                        worldIndex = 0;
-                        return;
-                    }
-
-                    World world = worlds.get(worldIndex);
-                    if (currentItemEntities == null) {
-                        currentItemEntities = new ArrayList<>(world.getEntitiesByClass(Item.class));
-                        entityIndex = 0;
-                    }
-
-                    int processed = 0;
-                    while (entityIndex < currentItemEntities.size() && processed < ENTITIES_PER_TICK) {
-                        Item itemEntity = currentItemEntities.get(entityIndex);
-                        if (itemEntity.isValid() && isOwnedHead(itemEntity.getItemStack(), ownerUuid)) {
-                            itemEntity.remove();
-                            removedCount.incrementAndGet();
-                        }
-                        entityIndex++;
-                        processed++;
-                    }
-
-                    if (entityIndex >= currentItemEntities.size()) {
-                        // Done with this world, move to next
-                        currentItemEntities = null;
-                        worldIndex++;
-                    }
-                    return;
-                }
+    private void removeIndexedHeads(UUID ownerUuid, List<HeadArtifact> known) {
+        for (HeadArtifact artifact : known) {
+            World w = Bukkit.getWorld(artifact.world());
+            if (w == null) continue;
+            int chunkX = artifact.x() >> 4;
+            int chunkZ = artifact.z() >> 4;
+            boolean wasLoaded = w.isChunkLoaded(chunkX, chunkZ);
+
+            boolean removed = artifact.kind() == HeadArtifact.Kind.BLOCK
+                    ? removeIndexedBlock(w, artifact, ownerUuid)
+                    : removeIndexedItem(w, artifact, ownerUuid);
+            if (removed && plugin.isDebugMode()) {
+                plugin.debug("Removed indexed head " + artifact.kind() + " for " + ownerUuid
+                        + " at " + artifact.x() + ", " + artifact.y() + ", " + artifact.z());
+            }
 
-                // Process item frames from worlds
-                if (processingItemFrames) {
-                    if (worldIndex >= worlds.size()) {
-                        processingItemFrames = false;
-                        // Skip chunk scan entirely in item-entity mode — no skull blocks exist
-                        if (scanChunksForBlocks) {
-                            processingChunks = true;
-                        } else {
-                            processingPlayers = true;
-                        }
-                        worldIndex = 0;
-                        return;
-                    }
-
-                    World world = worlds.get(worldIndex);
-                    if (currentItemFrames == null) {
-                        currentItemFrames = new ArrayList<>(world.getEntitiesByClass(ItemFrame.class));
-                        entityIndex = 0;
-                    }
-
-                    int processed = 0;
-                    while (entityIndex < currentItemFrames.size() && processed < ENTITIES_PER_TICK) {
-                        ItemFrame frame = currentItemFrames.get(entityIndex);
-                        if (frame.isValid() && isOwnedHead(frame.getItem(), ownerUuid)) {
-                            frame.setItem(null);
-                            removedCount.incrementAndGet();
-                        }
-                        entityIndex++;
-                        processed++;
-                    }
-
-                    if (entityIndex >= currentItemFrames.size()) {
-                        // Done with this world, move to next
-                        currentItemFrames = null;
-                        worldIndex++;
-                    }
-                    return;
-                }
+            // Unload the chunk again if we loaded it just for cleanup
+            if (!wasLoaded) {
+                w.unloadChunkRequest(chunkX, chunkZ);
+            }
+        }
+    }
 
-                // Process chunks in worlds
-                if (processingChunks) {
-                    if (worldIndex >= worlds.size()) {
-                        // Done with chunks, move to players
-                        processingChunks = false;
-                        processingPlayers = true;
-                        return;
-                    }
-
-                    World world = worlds.get(worldIndex);
-                    if (currentChunks == null) {
-                        currentChunks = new ArrayList<>(List.of(world.getLoadedChunks()));
-                        chunkIndex = 0;
-                    }
-
-                    int processed = 0;
-                    while (chunkIndex < currentChunks.size() && processed < CHUNKS_PER_TICK) {
-                        Chunk chunk = currentChunks.get(chunkIndex);
-                        if (chunk.isLoaded()) {
-                            for (BlockState state : chunk.getTileEntities()) {
-                                if (state instanceof InventoryHolder holder) {
-                                    removedCount.addAndGet(removeFromInventory(holder.getInventory(), ownerUuid));
-                                }
-                                if (state instanceof Skull skull) {
-                                    OfflinePlayer skullOwner = skull.getOwningPlayer();
-                                    if (skullOwner != null && skullOwner.getUniqueId().equals(ownerUuid)) {
-                                        skull.getBlock().setType(Material.AIR);
-                                        removedCount.incrementAndGet();
-                                    }
-                                }
-                            }
-                        }
-                        chunkIndex++;
-                        processed++;
-                    }
-
-                    if (chunkIndex >= currentChunks.size()) {
-                        // Done with this world, move to next
-                        currentChunks = null;
-                        worldIndex++;
-                    }
-                    return;
-                }
+    private static boolean removeIndexedBlock(World w, HeadArtifact artifact, UUID ownerUuid) {
+        // getBlockAt force-loads the chunk if not already loaded
+        Block b = w.getBlockAt(artifact.x(), artifact.y(), artifact.z());
+        if (b.getType() != Material.PLAYER_HEAD && b.getType() != Material.PLAYER_WALL_HEAD) return false;
+        if (!(b.getState() instanceof Skull skull)) return false;
+        if (!ownerUuid.equals(HeadTags.getOwner(skull))) return false;
+        b.setType(Material.AIR);
+        return true;
+    }
 
-                // Process online players
-                if (processingPlayers) {
-                    int processed = 0;
-                    while (playerIndex < players.size() && processed < PLAYERS_PER_TICK) {
-                        Player player = players.get(playerIndex);
-                        if (player.isOnline()) {
-                            PlayerInventory inv = player.getInventory();
-                            for (int i = 0; i < inv.getSize(); i++) {
-                                if (isOwnedHead(inv.getItem(i), ownerUuid)) {
-                                    inv.setItem(i, null);
-                                    removedCount.incrementAndGet();
-                                }
-                            }
-                            removedCount.addAndGet(removeFromInventory(player.getEnderChest(), ownerUuid));
-                        }
-                        playerIndex++;
-                        processed++;
-                    }
-
-                    if (playerIndex >= players.size()) {
-                        // Done with all processing
-                        int total = removedCount.get();
-                        if (total > 0) {
-                            Bukkit.getLogger().info("Removed " + total + " player head(s) for UUID " + ownerUuid);
-                        }
-                        cancel();
-                    }
+    private static boolean removeIndexedItem(World w, HeadArtifact artifact, UUID ownerUuid) {
+        Entity entity = Bukkit.getEntity(artifact.entityId());
+        if (entity == null) {
+            // chunk.getEntities() loads the chunk and waits for its entities
+            for (Entity candidate : w.getChunkAt(artifact.x() >> 4, artifact.z() >> 4).getEntities()) {
+                if (candidate.getUniqueId().equals(artifact.entityId())) {
+                    entity = candidate;
+                    break;
                 }
             }
-        }.runTaskTimer(plugin, 0L, 1L); // Run every tick
+        }
+        if (!(entity instanceof Item item) || !item.isValid()) return false;
+        if (!isOwnedHead(item.getItemStack(), ownerUuid)) return false;
+        item.remove();
+        return true;
     }
 
-    private static int removeFromInventory(Inventory inv, UUID ownerUuid) {
+    /**
+     * clears heads of any of the given owners from an inventory, including inside shulker boxes.
+     */
+    static int removeFromInventory(Inventory inv, Set<UUID> owners) {
         int removedCount = 0;
         for (int i = 0; i < inv.getSize(); i++) {
             ItemStack item = inv.getItem(i);
             if (item == null) continue;
 
-            if (isOwnedHead(item, ownerUuid)) {
+            if (isOwnedHead(item, owners)) {
                 inv.setItem(i, null);
                 removedCount++;
             } else if (isShulkerBox(item.getType())) {
-                removedCount += removeFromShulkerItem(inv, i, item, ownerUuid);
+                removedCount += removeFromShulkerItem(inv, i, item, owners);
             }
         }
         return removedCount;
     }
 
-    private static int removeFromShulkerItem(Inventory inv, int slot, ItemStack item, UUID ownerUuid) {
+    private static int removeFromShulkerItem(Inventory inv, int slot, ItemStack item, Set<UUID> owners) {
         if (!item.hasItemMeta()) return 0;
         if (!(item.getItemMeta() instanceof BlockStateMeta bsm)) return 0;
         BlockState blockState = bsm.getBlockState();
@@ -440,7 +355,7 @@ public class HeadDropListener implements Listener {
         int removedCount = 0;
         boolean changed = false;
         for (int j = 0; j < shulkerInv.getSize(); j++) {
-            if (isOwnedHead(shulkerInv.getItem(j), ownerUuid)) {
+            if (isOwnedHead(shulkerInv.getItem(j), owners)) {
                 shulkerInv.setItem(j, null);
                 changed = true;
                 removedCount++;
@@ -458,43 +373,12 @@ public class HeadDropListener implements Listener {
         return Tag.SHULKER_BOXES.isTagged(type);
     }
 
-    private static Block findSuitableBlock(World world, Location loc) {
-        int x = loc.getBlockX();
-        int startY = loc.getBlockY();
-        int z = loc.getBlockZ();
-        int maxY = Math.min(startY + 64, world.getMaxHeight() - 1);
-
-        // Preferred: first air block sitting on top of a solid surface, scanning upward.
-        // This naturally rises above lava/water pools to the nearest accessible floor/surface.
-        for (int y = startY; y <= maxY; y++) {
-            Block candidate = world.getBlockAt(x, y, z);
-            if (!isAirBlock(candidate)) continue;
-            Block below = world.getBlockAt(x, y - 1, z);
-            if (below.getType().isSolid()) {
-                return candidate;
-            }
-        }
-
-        // Fallback: any air block going upward (e.g. open cave ceiling, or hovering above lava)
-        for (int y = startY; y <= maxY; y++) {
-            Block candidate = world.getBlockAt(x, y, z);
-            if (isAirBlock(candidate)) {
-                return candidate;
-            }
-        }
-
-        return null;
-    }
-
-    private static boolean isAirBlock(Block b) {
-        Material t = b.getType();
-        return t == Material.AIR || t == Material.CAVE_AIR || t == Material.VOID_AIR;
+    private static boolean isOwnedHead(ItemStack stack, UUID ownerUuid) {
+        return ownerUuid.equals(HeadTags.getOwner(stack));
     }
 
-    private static boolean isOwnedHead(ItemStack stack, UUID ownerUuid) {
-        if (stack == null || stack.getType() != Material.PLAYER_HEAD) return false;
-        if (!(stack.getItemMeta() instanceof SkullMeta skullMeta)) return false;
-        OfflinePlayer skullOwner = skullMeta.getOwningPlayer();
-        return skullOwner != null && skullOwner.getUniqueId().equals(ownerUuid);
+    static boolean isOwnedHead(ItemStack stack, Set<UUID> owners) {
+        UUID owner = HeadTags.getOwner(stack);
+        return owner != null && owners.contains(owner);
     }
 }
@@ -1,12 +1,26 @@
 package org.ssoggy.ssoggysouls.hrm;
 
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.Set;
 import java.util.UUID;
 
 import org.bukkit.Bukkit;
 import org.bukkit.Material;
 import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.block.Action;
+import org.bukkit.event.block.BlockDispenseArmorEvent;
+import org.bukkit.event.entity.PlayerDeathEvent;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.inventory.InventoryDragEvent;
+import org.bukkit.event.inventory.InventoryType;
+import org.bukkit.event.player.PlayerInteractEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.player.PlayerRespawnEvent;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.potion.PotionEffect;
 import org.bukkit.potion.PotionEffectType;
@@ -15,10 +29,15 @@ import org.bukkit.scheduler.BukkitRunnable;
 import org.ssoggy.ssoggysouls.SSoggySouls;
 
 // does that thingy with effects when you wear player head
-public class HeadEffectsTask extends BukkitRunnable {
+// helmet changes are picked up from events and checked on the next tick, when the
+// inventory has settled. the timer is only a slow sweep for changes no event reports
+// (other plugins, /item replace, ...), so idle servers do no per-player work.
+public class HeadEffectsTask extends BukkitRunnable implements Listener {
+
+    public static final long SWEEP_INTERVAL_TICKS = 600L; // 30 seconds
 
     private static final int INFINITE_DURATION = Integer.MAX_VALUE;
-    
+
     // Cache potion effects to avoid creating new instances every time
     private static final PotionEffect NAUSEA_EFFECT = new PotionEffect(
             PotionEffectType.NAUSEA, 200, 0, false, false);
@@ -31,39 +50,126 @@ public class HeadEffectsTask extends BukkitRunnable {
 
     private final SSoggySouls plugin;
     private final Set<UUID> wearingHead = new HashSet<>();
+    // players whose helmet may have changed this tick
+    private final Set<UUID> dirty = new LinkedHashSet<>();
+    private boolean flushScheduled;
 
     public HeadEffectsTask(SSoggySouls plugin) {
         this.plugin = plugin;
     }
 
+    // reconciliation sweep
     @Override
     public void run() {
+        Set<UUID> online = new HashSet<>();
         for (Player player : Bukkit.getOnlinePlayers()) {
-            UUID uuid = player.getUniqueId();
-            boolean wearing = isWearingPlayerHead(player);
-
-            if (wearing && !wearingHead.contains(uuid)) {
-                applyEffects(player);
-                wearingHead.add(uuid);
-                // Avoid string concatenation - only log if debug is enabled
-                if (plugin.isDebugMode()) {
-                    plugin.debug(player.getName() + " equipped a player head, applying effects.");
-                }
-            } else if (!wearing && wearingHead.remove(uuid)) {
-                removeEffects(player);
-                if (plugin.isDebugMode()) {
-                    plugin.debug(player.getName() + " removed player head, removing effects.");
-                }
+            online.add(player.getUniqueId());
+            update(player);
+        }
+        // quits clean up directly, this only catches anything that slipped through
+        wearingHead.retainAll(online);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onInventoryClick(InventoryClickEvent event) {
+        if (!(event.getWhoClicked() instanceof Player player)) return;
+        boolean armorSlot = event.getSlotType() == InventoryType.SlotType.ARMOR;
+        boolean shiftHead = event.isShiftClick() && isPlayerHead(event.getCurrentItem());
+        if (armorSlot || shiftHead) {
+            markDirty(player);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onInventoryDrag(InventoryDragEvent event) {
+        if (!(event.getWhoClicked() instanceof Player player)) return;
+        for (int rawSlot : event.getRawSlots()) {
+            if (event.getView().getSlotType(rawSlot) == InventoryType.SlotType.ARMOR) {
+                markDirty(player);
+                return;
+            }
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onDispenseArmor(BlockDispenseArmorEvent event) {
+        if (event.getTargetEntity() instanceof Player player && isPlayerHead(event.getItem())) {
+            markDirty(player);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onRightClickEquip(PlayerInteractEvent event) {
+        Action action = event.getAction();
+        if ((action == Action.RIGHT_CLICK_AIR || action == Action.RIGHT_CLICK_BLOCK)
+                && isPlayerHead(event.getItem())) {
+            markDirty(event.getPlayer());
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onDeath(PlayerDeathEvent event) {
+        // effects are gone after death, recheck after respawn
+        wearingHead.remove(event.getEntity().getUniqueId());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onRespawn(PlayerRespawnEvent event) {
+        markDirty(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onJoin(PlayerJoinEvent event) {
+        markDirty(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent event) {
+        UUID uuid = event.getPlayer().getUniqueId();
+        wearingHead.remove(uuid);
+        dirty.remove(uuid);
+    }
+
+    private void markDirty(Player player) {
+        dirty.add(player.getUniqueId());
+        if (!flushScheduled) {
+            flushScheduled = true;
+            Bukkit.getScheduler().runTask(plugin, plugin.getProfiler().wrap(this::flushDirty));
+        }
+    }
+
+    private void flushDirty() {
+        flushScheduled = false;
+        for (UUID uuid : dirty) {
+            Player player = Bukkit.getPlayer(uuid);
+            if (player != null) {
+                update(player);
             }
         }
+        dirty.clear();
+    }
 
-        // Clean up disconnected players from tracking set
-        wearingHead.removeIf(uuid -> Bukkit.getPlayer(uuid) == null);
+    private void update(Player player) {
+        UUID uuid = player.getUniqueId();
+        boolean wearing = isPlayerHead(player.getInventory().getHelmet());
+
+        if (wearing && !wearingHead.contains(uuid)) {
+            applyEffects(player);
+            wearingHead.add(uuid);
+            // Avoid string concatenation - only log if debug is enabled
+            if (plugin.isDebugMode()) {
+                plugin.debug(player.getName() + " equipped a player head, applying effects.");
+            }
+        } else if (!wearing && wearingHead.remove(uuid)) {
+            removeEffects(player);
+            if (plugin.isDebugMode()) {
+                plugin.debug(player.getName() + " removed player head, removing effects.");
+            }
+        }
     }
 
-    private static boolean isWearingPlayerHead(Player player) {
-        ItemStack helmet = player.getInventory().getHelmet();
-        return helmet != null && helmet.getType() == Material.PLAYER_HEAD;
+    private static boolean isPlayerHead(ItemStack item) {
+        return item != null && item.getType() == Material.PLAYER_HEAD;
     }
 
     private static void applyEffects(Player player) {
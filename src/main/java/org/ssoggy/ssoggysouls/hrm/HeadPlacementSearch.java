@@ -0,0 +1,164 @@
+package org.ssoggy.ssoggysouls.hrm;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.bukkit.ChunkSnapshot;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+
+/**
+ * finds where a head block goes without walking the death column on the main thread.
+ *
+ * <p>the chunk at the death location is snapshotted once on the main thread, the column is
+ * searched off-thread, and only the chosen block is looked at again on the main thread
+ * before placing. if the world changed in between (or the search found nothing) the old
+ * live search runs as a fallback. placement timings and fallback counts are kept for
+ * /psadmin stats.
+ */
+public class HeadPlacementSearch {
+
+    /** search result when no block in the column fits. */
+    public static final int NONE = Integer.MIN_VALUE;
+
+    private static final int SCAN_HEIGHT = 64;
+
+    private final LongAdder searches = new LongAdder();
+    private final LongAdder searchNanos = new LongAdder();
+    private final LongAdder placements = new LongAdder();
+    private final LongAdder placeNanos = new LongAdder();
+    private final AtomicLong maxPlaceNanos = new AtomicLong();
+    private final LongAdder recheckMisses = new LongAdder();
+    private final LongAdder itemFallbacks = new LongAdder();
+
+    /**
+     * the death column: a snapshot of its chunk plus the bounds to search.
+     */
+    public record Column(ChunkSnapshot snapshot, int x, int z, int startY, int minY, int maxY) {}
+
+    /**
+     * snapshots the chunk around the location, main thread only.
+     */
+    public static Column capture(Location loc) {
+        World world = loc.getWorld();
+        ChunkSnapshot snapshot = world.getChunkAt(loc).getChunkSnapshot(false, false, false);
+        int startY = loc.getBlockY();
+        int maxY = Math.min(startY + SCAN_HEIGHT, world.getMaxHeight() - 1);
+        return new Column(snapshot, loc.getBlockX(), loc.getBlockZ(), startY, world.getMinHeight(), maxY);
+    }
+
+    /**
+     * picks the y to place at from the snapshot, or {@link #NONE}. safe off the main thread.
+     */
+    public int search(Column column) {
+        long start = System.nanoTime();
+        try {
+            return searchSnapshot(column);
+        } finally {
+            searches.increment();
+            searchNanos.add(System.nanoTime() - start);
+        }
+    }
+
+    private static int searchSnapshot(Column c) {
+        ChunkSnapshot snap = c.snapshot();
+        int x = c.x() & 15;
+        int z = c.z() & 15;
+        int from = Math.max(c.startY(), c.minY());
+
+        // Preferred: first air block sitting on top of a solid surface, scanning upward.
+        for (int y = from; y <= c.maxY(); y++) {
+            if (!isAir(snap.getBlockType(x, y, z))) continue;
+            if (y - 1 >= c.minY() && snap.getBlockType(x, y - 1, z).isSolid()) {
+                return y;
+            }
+        }
+
+        // Fallback: any air block going upward
+        for (int y = from; y <= c.maxY(); y++) {
+            if (isAir(snap.getBlockType(x, y, z))) {
+                return y;
+            }
+        }
+        return NONE;
+    }
+
+    /**
+     * the block to place the head in, main thread only. the snapshot pick is used if it is
+     * still air, otherwise the column is searched again live. null if nothing fits.
+     */
+    public Block resolve(World world, Column column, int y) {
+        if (y != NONE) {
+            Block chosen = world.getBlockAt(column.x(), y, column.z());
+            if (isAir(chosen.getType())) {
+                return chosen;
+            }
+        }
+        recheckMisses.increment();
+        return findLive(world, column);
+    }
+
+    private static Block findLive(World world, Column c) {
+        int from = Math.max(c.startY(), c.minY());
+        for (int y = from; y <= c.maxY(); y++) {
+            Block candidate = world.getBlockAt(c.x(), y, c.z());
+            if (!isAir(candidate.getType())) continue;
+            if (world.getBlockAt(c.x(), y - 1, c.z()).getType().isSolid()) {
+                return candidate;
+            }
+        }
+        for (int y = from; y <= c.maxY(); y++) {
+            Block candidate = world.getBlockAt(c.x(), y, c.z());
+            if (isAir(candidate.getType())) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * records one main-thread placement, fellBack when the head had to be dropped as an item.
+     */
+    public void recordPlacement(long nanos, boolean fellBack) {
+        placements.increment();
+        placeNanos.add(nanos);
+        maxPlaceNanos.accumulateAndGet(nanos, Math::max);
+        if (fellBack) itemFallbacks.increment();
+    }
+
+    static boolean isAir(Material t) {
+        return t == Material.AIR || t == Material.CAVE_AIR || t == Material.VOID_AIR;
+    }
+
+    public long getSearches() {
+        return searches.sum();
+    }
+
+    public long getAverageSearchMicros() {
+        long n = searches.sum();
+        return n == 0 ? 0 : searchNanos.sum() / n / 1_000L;
+    }
+
+    public long getPlacements() {
+        return placements.sum();
+    }
+
+    public long getAveragePlaceMicros() {
+        long n = placements.sum();
+        return n == 0 ? 0 : placeNanos.sum() / n / 1_000L;
+    }
+
+    public long getMaxPlaceMicros() {
+        return maxPlaceNanos.get() / 1_000L;
+    }
+
+    public long getRecheckMisses() {
+        return recheckMisses.sum();
+    }
+
+    public long getItemFallbacks() {
+        return itemFallbacks.sum();
+    }
+}
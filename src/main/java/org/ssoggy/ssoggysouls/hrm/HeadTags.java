@@ -0,0 +1,88 @@
+package org.ssoggy.ssoggysouls.hrm;
+
+import java.util.UUID;
+
+import org.bukkit.Material;
+import org.bukkit.NamespacedKey;
+import org.bukkit.OfflinePlayer;
+import org.bukkit.block.Skull;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.bukkit.inventory.meta.SkullMeta;
+import org.bukkit.persistence.PersistentDataContainer;
+import org.bukkit.persistence.PersistentDataType;
+
+/**
+ * provenance tags stamped on every head the plugin creates.
+ *
+ * <p>the owner UUID is stored as two longs plus a death id (the owner's last_death at the
+ * time the head was made), so identifying a head is a couple of primitive reads instead
+ * of resolving the skull's owning profile. heads from before the tags existed fall back
+ * to {@link SkullMeta#getOwningPlayer()}.
+ */
+public final class HeadTags {
+
+    private static final String NAMESPACE = "ssoggysouls";
+    private static final NamespacedKey OWNER_MSB = new NamespacedKey(NAMESPACE, "head_owner_msb");
+    private static final NamespacedKey OWNER_LSB = new NamespacedKey(NAMESPACE, "head_owner_lsb");
+    private static final NamespacedKey DEATH_ID = new NamespacedKey(NAMESPACE, "head_death_id");
+
+    private HeadTags() {
+        // Private constructor to prevent instantiation
+    }
+
+    public static void stamp(PersistentDataContainer pdc, UUID owner, long deathId) {
+        pdc.set(OWNER_MSB, PersistentDataType.LONG, owner.getMostSignificantBits());
+        pdc.set(OWNER_LSB, PersistentDataType.LONG, owner.getLeastSignificantBits());
+        pdc.set(DEATH_ID, PersistentDataType.LONG, deathId);
+    }
+
+    /**
+     * owner from the tag, null if the container is untagged.
+     */
+    public static UUID readOwner(PersistentDataContainer pdc) {
+        Long msb = pdc.get(OWNER_MSB, PersistentDataType.LONG);
+        Long lsb = pdc.get(OWNER_LSB, PersistentDataType.LONG);
+        return msb != null && lsb != null ? new UUID(msb, lsb) : null;
+    }
+
+    /**
+     * death id from the tag, 0 if the container is untagged.
+     */
+    public static long readDeathId(PersistentDataContainer pdc) {
+        Long id = pdc.get(DEATH_ID, PersistentDataType.LONG);
+        return id != null ? id : 0L;
+    }
+
+    /**
+     * owner of a player head item, null for anything else.
+     */
+    public static UUID getOwner(ItemStack stack) {
+        if (stack == null || stack.getType() != Material.PLAYER_HEAD || !stack.hasItemMeta()) return null;
+        ItemMeta meta = stack.getItemMeta();
+        UUID tagged = readOwner(meta.getPersistentDataContainer());
+        if (tagged != null) return tagged;
+        // untagged head from an older version
+        if (!(meta instanceof SkullMeta skullMeta)) return null;
+        OfflinePlayer owner = skullMeta.getOwningPlayer();
+        return owner != null ? owner.getUniqueId() : null;
+    }
+
+    /**
+     * death id of a head item, 0 when untagged.
+     */
+    public static long getDeathId(ItemStack stack) {
+        if (stack == null || stack.getType() != Material.PLAYER_HEAD || !stack.hasItemMeta()) return 0L;
+        return readDeathId(stack.getItemMeta().getPersistentDataContainer());
+    }
+
+    /**
+     * owner of a placed head block, null when it has none.
+     */
+    public static UUID getOwner(Skull skull) {
+        UUID tagged = readOwner(skull.getPersistentDataContainer());
+        if (tagged != null) return tagged;
+        OfflinePlayer owner = skull.getOwningPlayer();
+        return owner != null ? owner.getUniqueId() : null;
+    }
+}
@@ -0,0 +1,148 @@
+package org.ssoggy.ssoggysouls.hrm;
+
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URL;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.bukkit.Bukkit;
+import org.bukkit.block.Skull;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.inventory.meta.SkullMeta;
+import org.bukkit.profile.PlayerProfile;
+import org.bukkit.profile.PlayerTextures;
+import org.bukkit.scheduler.BukkitTask;
+
+import org.ssoggy.ssoggysouls.SSoggySouls;
+import org.ssoggy.ssoggysouls.database.DatabaseManager;
+import org.ssoggy.ssoggysouls.model.HeadTexture;
+
+/**
+ * skin cache so heads never wait on a profile lookup.
+ *
+ * <p>every join records the player's skin from their own (already signed-in) profile. the
+ * entry is written to the database when it changed or is older than the ttl, and entries
+ * written by the other server are pulled in every few minutes. heads are built from a
+ * pre-filled profile; only players that were never seen fall back to
+ * {@code setOwningPlayer}, which may make the server look the skin up.
+ */
+public class HeadTextures implements Listener {
+
+    private static final long RELOAD_INTERVAL_TICKS = 6000L; // 5 minutes
+
+    private final SSoggySouls plugin;
+    private final DatabaseManager db;
+    private final Map<UUID, HeadTexture> cache = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private volatile long lastLoad;
+    private BukkitTask reloader;
+
+    public HeadTextures(SSoggySouls plugin) {
+        this.plugin = plugin;
+        this.db = plugin.getDatabaseManager();
+    }
+
+    public void start() {
+        reloader = Bukkit.getScheduler().runTaskTimerAsynchronously(plugin, this::reload,
+                0L, RELOAD_INTERVAL_TICKS);
+    }
+
+    public void shutdown() {
+        if (reloader != null) reloader.cancel();
+    }
+
+    // async: first run loads everything, later runs only rows changed since (with a minute of slack for clock skew)
+    private void reload() {
+        long since = lastLoad;
+        lastLoad = System.currentTimeMillis();
+        for (HeadTexture texture : db.loadHeadTextures(since == 0 ? 0 : since - 60_000L)) {
+            cache.merge(texture.uuid(), texture,
+                    (old, fresh) -> fresh.updatedAt() >= old.updatedAt() ? fresh : old);
+        }
+        if (since == 0) {
+            plugin.debug("Loaded " + cache.size() + " cached head texture(s).");
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onJoin(PlayerJoinEvent event) {
+        Player player = event.getPlayer();
+        PlayerTextures textures = player.getPlayerProfile().getTextures();
+        URL skin = textures.getSkin();
+        if (skin == null) return;
+
+        long now = System.currentTimeMillis();
+        HeadTexture fresh = new HeadTexture(player.getUniqueId(), player.getName(), skin.toString(),
+                textures.getSkinModel() == PlayerTextures.SkinModel.SLIM, now);
+        HeadTexture old = cache.get(player.getUniqueId());
+        if (fresh.sameSkin(old) && now - old.updatedAt() < plugin.getHeadTextureTtlMillis()) return;
+
+        cache.put(fresh.uuid(), fresh);
+        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> db.saveHeadTexture(fresh));
+    }
+
+    /**
+     * gives a head item the owner's skin.
+     */
+    public void apply(SkullMeta meta, UUID owner, String name) {
+        PlayerProfile profile = profileFor(owner, name);
+        if (profile != null) {
+            meta.setOwnerProfile(profile);
+        } else {
+            meta.setOwningPlayer(Bukkit.getOfflinePlayer(owner));
+        }
+    }
+
+    /**
+     * gives a placed head block the owner's skin; call before {@code update()}.
+     */
+    public void apply(Skull skull, UUID owner, String name) {
+        PlayerProfile profile = profileFor(owner, name);
+        if (profile != null) {
+            skull.setOwnerProfile(profile);
+        } else {
+            skull.setOwningPlayer(Bukkit.getOfflinePlayer(owner));
+        }
+    }
+
+    private PlayerProfile profileFor(UUID owner, String name) {
+        HeadTexture texture = cache.get(owner);
+        if (texture == null) {
+            misses.increment();
+            return null;
+        }
+        try {
+            PlayerProfile profile = Bukkit.createPlayerProfile(owner, name != null ? name : texture.name());
+            PlayerTextures textures = profile.getTextures();
+            textures.setSkin(URI.create(texture.skinUrl()).toURL(),
+                    texture.slim() ? PlayerTextures.SkinModel.SLIM : PlayerTextures.SkinModel.CLASSIC);
+            profile.setTextures(textures);
+            hits.increment();
+            return profile;
+        } catch (MalformedURLException | IllegalArgumentException e) {
+            cache.remove(owner);
+            misses.increment();
+            return null;
+        }
+    }
+
+    public int getCachedCount() {
+        return cache.size();
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+}
@@ -0,0 +1,235 @@
+package org.ssoggy.ssoggysouls.hrm;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Chunk;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.block.BlockState;
+import org.bukkit.block.Skull;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Item;
+import org.bukkit.entity.ItemFrame;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.world.ChunkLoadEvent;
+import org.bukkit.event.world.EntitiesLoadEvent;
+import org.bukkit.inventory.InventoryHolder;
+import org.bukkit.scheduler.BukkitTask;
+
+import org.ssoggy.ssoggysouls.SSoggySouls;
+import org.ssoggy.ssoggysouls.database.DatabaseManager;
+import org.ssoggy.ssoggysouls.task.IncrementalJob;
+
+/**
+ * lazily removes leftover heads of revived players as their chunks load.
+ *
+ * <p>a revive writes a tombstone for the owner that lives until it expires. whenever a
+ * chunk (or its entities) loads while tombstones exist, that chunk alone is queued and
+ * checked on the tick budget scheduler, so heads in chunks that were unloaded at revive time
+ * disappear the next time someone goes there, without scanning every loaded chunk.
+ * tombstones are stored in the database so they survive restarts and can be written by
+ * the limbo server; they are refreshed periodically and cleared when the owner dies again.
+ */
+public class HeadTombstones implements Listener {
+
+    private static final long REFRESH_INTERVAL_TICKS = 1200L; // 1 minute
+
+    private final SSoggySouls plugin;
+    private final DatabaseManager db;
+    private final Map<UUID, Long> tombstones = new ConcurrentHashMap<>();
+
+    // main thread only
+    private final Deque<ChunkWork> pending = new ArrayDeque<>();
+    private boolean draining;
+    private BukkitTask refresher;
+    private boolean loaded;
+    private long chunksChecked;
+    private long headsRemoved;
+
+    /**
+     * a loaded chunk to check. entities is null for the tile entity check.
+     */
+    private record ChunkWork(UUID worldId, int x, int z, List<Entity> entities) {}
+
+    public HeadTombstones(SSoggySouls plugin) {
+        this.plugin = plugin;
+        this.db = plugin.getDatabaseManager();
+    }
+
+    public void start() {
+        refresher = Bukkit.getScheduler().runTaskTimerAsynchronously(plugin, this::refresh,
+                0L, REFRESH_INTERVAL_TICKS);
+    }
+
+    public void shutdown() {
+        if (refresher != null) refresher.cancel();
+        pending.clear();
+    }
+
+    /**
+     * records that an owner was revived; their heads are removed wherever they load next.
+     */
+    public void add(UUID owner) {
+        long expiresAt = System.currentTimeMillis() + plugin.getHeadTombstoneExpiryMillis();
+        tombstones.put(owner, expiresAt);
+        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> db.saveHeadTombstone(owner, expiresAt));
+    }
+
+    /**
+     * drops the owner's tombstone, call before their new head is placed on a final death.
+     */
+    public void clear(UUID owner) {
+        tombstones.remove(owner);
+        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> db.deleteHeadTombstone(owner));
+    }
+
+    public int getActiveCount() {
+        return tombstones.size();
+    }
+
+    public int getPendingChunks() {
+        return pending.size();
+    }
+
+    public long getChunksChecked() {
+        return chunksChecked;
+    }
+
+    public long getHeadsRemoved() {
+        return headsRemoved;
+    }
+
+    // async: purge expired rows, pick up tombstones written by the other server
+    private void refresh() {
+        Map<UUID, Long> fresh = db.loadActiveHeadTombstones(System.currentTimeMillis());
+        Set<UUID> added = new HashSet<>(fresh.keySet());
+        added.removeAll(tombstones.keySet());
+
+        tombstones.keySet().retainAll(fresh.keySet());
+        tombstones.putAll(fresh);
+
+        if (!loaded) {
+            loaded = true;
+            plugin.debug("Loaded " + fresh.size() + " head tombstone(s).");
+            return;
+        }
+        if (!added.isEmpty()) {
+            // revived elsewhere (e.g. /revive on limbo): do the direct cleanup here as well
+            plugin.debug("Picked up " + added.size() + " new head tombstone(s).");
+            Bukkit.getScheduler().runTask(plugin, plugin.getProfiler().wrap(() -> added.forEach(plugin::removeDroppedHeads)));
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onChunkLoad(ChunkLoadEvent event) {
+        if (tombstones.isEmpty() || event.isNewChunk()) return;
+        Chunk chunk = event.getChunk();
+        enqueue(new ChunkWork(chunk.getWorld().getUID(), chunk.getX(), chunk.getZ(), null));
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEntitiesLoad(EntitiesLoadEvent event) {
+        if (tombstones.isEmpty()) return;
+        List<Entity> candidates = new ArrayList<>();
+        for (Entity entity : event.getEntities()) {
+            if (entity instanceof Item || entity instanceof ItemFrame) {
+                candidates.add(entity);
+            }
+        }
+        if (candidates.isEmpty()) return;
+        Chunk chunk = event.getChunk();
+        enqueue(new ChunkWork(chunk.getWorld().getUID(), chunk.getX(), chunk.getZ(), candidates));
+    }
+
+    private void enqueue(ChunkWork work) {
+        pending.addLast(work);
+        if (!draining) {
+            draining = true;
+            plugin.getTickScheduler().submit(new DrainJob());
+        }
+    }
+
+    /**
+     * checks one queued chunk per step until the queue is empty.
+     */
+    private final class DrainJob implements IncrementalJob {
+
+        @Override
+        public String name() {
+            return "head-tombstones";
+        }
+
+        @Override
+        public boolean step() {
+            ChunkWork work = pending.pollFirst();
+            if (work == null || tombstones.isEmpty()) {
+                pending.clear();
+                draining = false;
+                return true;
+            }
+            check(work);
+            return false;
+        }
+    }
+
+    private void check(ChunkWork work) {
+        World world = Bukkit.getWorld(work.worldId());
+        // unloaded again before we got to it, it'll be queued on its next load
+        if (world == null || !world.isChunkLoaded(work.x(), work.z())) return;
+
+        Set<UUID> owners = tombstones.keySet();
+        int removed = work.entities() == null
+                ? checkTileEntities(world.getChunkAt(work.x(), work.z()), owners)
+                : checkEntities(work.entities(), owners);
+        chunksChecked++;
+
+        if (removed > 0) {
+            headsRemoved += removed;
+            plugin.getLogger().log(Level.INFO, "Removed {0} leftover head(s) of revived players in chunk {1}, {2}",
+                    new Object[]{removed, work.x(), work.z()});
+        }
+    }
+
+    private static int checkTileEntities(Chunk chunk, Set<UUID> owners) {
+        int removed = 0;
+        for (BlockState state : chunk.getTileEntities()) {
+            if (state instanceof Skull skull) {
+                UUID owner = HeadTags.getOwner(skull);
+                if (owner != null && owners.contains(owner)) {
+                    skull.getBlock().setType(Material.AIR);
+                    removed++;
+                }
+            } else if (state instanceof InventoryHolder holder) {
+                removed += HeadDropListener.removeFromInventory(holder.getInventory(), owners);
+            }
+        }
+        return removed;
+    }
+
+    private static int checkEntities(List<Entity> entities, Set<UUID> owners) {
+        int removed = 0;
+        for (Entity entity : entities) {
+            if (!entity.isValid()) continue;
+            if (entity instanceof Item item && HeadDropListener.isOwnedHead(item.getItemStack(), owners)) {
+                item.remove();
+                removed++;
+            } else if (entity instanceof ItemFrame frame && HeadDropListener.isOwnedHead(frame.getItem(), owners)) {
+                frame.setItem(null);
+                removed++;
+            }
+        }
+        return removed;
+    }
+}
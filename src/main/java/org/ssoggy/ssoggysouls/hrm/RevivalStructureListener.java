@@ -9,10 +9,8 @@ import org.bukkit.EntityEffect;
 import org.bukkit.GameMode;
 import org.bukkit.Location;
 import org.bukkit.Material;
-import org.bukkit.OfflinePlayer;
 import org.bukkit.Sound;
 import org.bukkit.SoundCategory;
-import org.bukkit.Tag;
 import org.bukkit.World;
 import org.bukkit.block.Block;
 import org.bukkit.entity.Player;
@@ -21,14 +19,15 @@ import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.block.BlockPlaceEvent;
 import org.bukkit.inventory.ItemStack;
-import org.bukkit.inventory.meta.SkullMeta;
 import org.bukkit.potion.PotionEffect;
 import org.bukkit.potion.PotionEffectType;
 
 import org.ssoggy.ssoggysouls.SSoggySouls;
 import org.ssoggy.ssoggysouls.database.DatabaseManager;
+import org.ssoggy.ssoggysouls.event.PlayerRevivedEvent;
 import org.ssoggy.ssoggysouls.model.PlayerData;
 import org.ssoggy.ssoggysouls.util.MessageUtil;
+import org.ssoggy.ssoggysouls.util.PlayerRevivalUtil;
 
 // detects when player head is placed for HRM strcuture (so cool to short it to HRM i know)
 public class RevivalStructureListener implements Listener {
@@ -51,16 +50,14 @@ public class RevivalStructureListener implements Listener {
 
         // get owner of placed head
         ItemStack item = event.getItemInHand();
-        if (!(item.getItemMeta() instanceof SkullMeta skullMeta)) return;
-
-        OfflinePlayer skullOwner = skullMeta.getOwningPlayer();
-        if (skullOwner == null) return;
-
-        UUID ownerUuid = skullOwner.getUniqueId();
+        UUID ownerUuid = HeadTags.getOwner(item);
+        if (ownerUuid == null) return;
+        long deathId = HeadTags.getDeathId(item);
         Player placer = event.getPlayer();
 
         // check if structure is correct because idk it feels pretty essential
-        if (!isRitualStructure(placed)) {
+        RitualPattern.Match ritual = findRitual(placed);
+        if (ritual == null) {
             checkIncompleteStructure(placed, placer);
             return;
         }
@@ -76,11 +73,19 @@ public class RevivalStructureListener implements Listener {
 
             if (!data.isDead()) {
                 sendError(placer, data.getUsername() + " is not dead!");
-                playErrorEffect(placed);
+                scheduleErrorEffect(placed);
+                return;
+            }
+
+            // head left over from an earlier death (they were revived and died again since)
+            if (deathId != 0 && deathId != data.getLastDeath()) {
+                sendError(placer, "This head is from an earlier death of " + data.getUsername() + ".");
+                scheduleErrorEffect(placed);
                 return;
             }
 
-            boolean success = db.revivePlayer(ownerUuid, plugin.getLivesOnRevive());
+            int lives = plugin.getLivesOnRevive();
+            boolean success = db.revivePlayer(ownerUuid, lives);
             if (!success) {
                 sendError(placer, "Failed to revive. Check console.");
                 return;
@@ -91,16 +96,18 @@ public class RevivalStructureListener implements Listener {
                     new Object[]{placer.getName(), data.getUsername()});
 
             // visual effects on main thread
-            Bukkit.getScheduler().runTask(plugin, () ->
-                    performRevival(placed, placer, ownerUuid, data.getUsername()));
+            Bukkit.getScheduler().runTask(plugin, plugin.getProfiler().wrap(() ->
+                    performRevival(placed, ritual, placer, ownerUuid, data.getUsername())));
+            PlayerRevivalUtil.completeRevive(plugin, data, lives, PlayerRevivedEvent.Cause.RITUAL);
         });
     }
 
-    private void performRevival(Block headBlock, Player summoner, UUID revivedUuid, String revivedName) {
+    private void performRevival(Block headBlock, RitualPattern.Match ritual, Player summoner,
+                                UUID revivedUuid, String revivedName) {
         Location spawnLoc = headBlock.getLocation().add(0.5, 0.05, 0.5);
         World world = headBlock.getWorld();
 
-        breakStructure(headBlock);
+        breakStructure(headBlock, ritual);
 
         world.strikeLightningEffect(spawnLoc);
 
@@ -110,6 +117,9 @@ public class RevivalStructureListener implements Listener {
         Player revived = Bukkit.getPlayer(revivedUuid);
         if (revived != null && revived.isOnline()) {
             restoreAtStructure(revived, spawnLoc);
+            if (plugin.getDeathVault() != null) {
+                plugin.getDeathVault().restoreOnRevive(revived);
+            }
         } else {
             summoner.sendMessage(MessageUtil.get("revive-from-limbo",
                     "player", revivedName));
@@ -135,54 +145,15 @@ public class RevivalStructureListener implements Listener {
         revived.playEffect(EntityEffect.TOTEM_RESURRECT);
     }
 
-    private boolean isRitualStructure(Block headBlock) {
-        int hx = headBlock.getX();
-        int hy = headBlock.getY();
-        int hz = headBlock.getZ();
-        World world = headBlock.getWorld();
-
-        // fence below da head
-        if (!Tag.FENCES.isTagged(world.getBlockAt(hx, hy - 1, hz).getType())) return false;
-
-        // ore block below the fence
-        if (!Tag.BEACON_BASE_BLOCKS.isTagged(world.getBlockAt(hx, hy - 2, hz).getType())) return false;
-
-        int by = hy - 2;
-
-        // soul sand corners
-        if (!isSoulSand(world, hx - 1, by, hz - 1)) return false;
-        if (!isSoulSand(world, hx + 1, by, hz - 1)) return false;
-        if (!isSoulSand(world, hx - 1, by, hz + 1)) return false;
-        if (!isSoulSand(world, hx + 1, by, hz + 1)) return false;
-
-        // stair edges
-        if (!isStair(world, hx, by, hz - 1)) return false;
-        if (!isStair(world, hx - 1, by, hz)) return false;
-        if (!isStair(world, hx + 1, by, hz)) return false;
-        if (!isStair(world, hx, by, hz + 1)) return false;
-
-        // wither roses on the corners on the soul sand
-        int my = hy - 1;
-        if (!isWitherRose(world, hx - 1, my, hz - 1)) return false;
-        if (!isWitherRose(world, hx + 1, my, hz - 1)) return false;
-        if (!isWitherRose(world, hx - 1, my, hz + 1)) return false;
-        return isWitherRose(world, hx + 1, my, hz + 1);
-    }
-
-    private static boolean isSoulSand(World world, int x, int y, int z) {
-        Material type = world.getBlockAt(x, y, z).getType();
-        return type == Material.SOUL_SAND || type == Material.SOUL_SOIL;
-    }
-
-    private static boolean isStair(World world, int x, int y, int z) {
-        return Tag.STAIRS.isTagged(world.getBlockAt(x, y, z).getType());
-    }
-
-    private static boolean isWitherRose(World world, int x, int y, int z) {
-        return world.getBlockAt(x, y, z).getType() == Material.WITHER_ROSE;
+    private RitualPattern.Match findRitual(Block headBlock) {
+        for (RitualPattern pattern : plugin.getRitualPatterns()) {
+            RitualPattern.Match match = pattern.match(headBlock);
+            if (match != null) return match;
+        }
+        return null;
     }
 
-    private void breakStructure(Block headBlock) {
+    private void breakStructure(Block headBlock, RitualPattern.Match ritual) {
         int hx = headBlock.getX();
         int hy = headBlock.getY();
         int hz = headBlock.getZ();
@@ -192,24 +163,9 @@ public class RevivalStructureListener implements Listener {
         // head
         setAir(world, hx, hy, hz);
 
-        // fence + 4 roses
-        setAir(world, hx, hy - 1, hz);
-        setAir(world, hx - 1, hy - 1, hz - 1);
-        setAir(world, hx + 1, hy - 1, hz - 1);
-        setAir(world, hx - 1, hy - 1, hz + 1);
-        setAir(world, hx + 1, hy - 1, hz + 1);
-
-        if (!leaveBase) {
-            int by = hy - 2;
-            setAir(world, hx, by, hz);
-            setAir(world, hx - 1, by, hz - 1);
-            setAir(world, hx + 1, by, hz - 1);
-            setAir(world, hx - 1, by, hz + 1);
-            setAir(world, hx + 1, by, hz + 1);
-            setAir(world, hx, by, hz - 1);
-            setAir(world, hx - 1, by, hz);
-            setAir(world, hx + 1, by, hz);
-            setAir(world, hx, by, hz + 1);
+        for (RitualPattern.Check block : ritual.blocks()) {
+            if (leaveBase && block.base()) continue;
+            setAir(world, hx + block.dx(), hy + block.dy(), hz + block.dz());
         }
     }
 
@@ -218,25 +174,25 @@ public class RevivalStructureListener implements Listener {
     }
 
     private void checkIncompleteStructure(Block headBlock, Player placer) {
-        World world = headBlock.getWorld();
-        int hx = headBlock.getX();
-        int hy = headBlock.getY();
-        int hz = headBlock.getZ();
-
-        Block fence = world.getBlockAt(hx, hy - 1, hz);
-        Block ore = world.getBlockAt(hx, hy - 2, hz);
-
-        // partial match - fence+ore present but rest is wrong (for retarded people)
-        if (Tag.FENCES.isTagged(fence.getType())
-                && Tag.BEACON_BASE_BLOCKS.isTagged(ore.getType())) {
-            placer.sendMessage(ChatColor.RED + "The revival structure is incomplete!");
-            playErrorEffect(headBlock);
+        // partial match - the blocks under the head are right but the rest is wrong
+        for (RitualPattern pattern : plugin.getRitualPatterns()) {
+            if (pattern.matchesAxis(headBlock)) {
+                placer.sendMessage(ChatColor.RED + "The revival structure is incomplete!");
+                playErrorEffect(headBlock);
+                return;
+            }
         }
     }
 
     private static void sendError(Player player, String message) {
-        Bukkit.getScheduler().runTask(SSoggySouls.getInstance(), () ->
-                player.sendMessage(ChatColor.RED + message));
+        Bukkit.getScheduler().runTask(SSoggySouls.getInstance(), SSoggySouls.getInstance().getProfiler().wrap(() ->
+                player.sendMessage(ChatColor.RED + message)));
+    }
+
+    // for the async checks: world calls belong on the main thread
+    private static void scheduleErrorEffect(Block block) {
+        Bukkit.getScheduler().runTask(SSoggySouls.getInstance(), SSoggySouls.getInstance().getProfiler().wrap(() ->
+                playErrorEffect(block)));
     }
 
     private static void playErrorEffect(Block block) {
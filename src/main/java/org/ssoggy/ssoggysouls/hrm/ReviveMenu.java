@@ -0,0 +1,104 @@
+package org.ssoggy.ssoggysouls.hrm;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.bukkit.Bukkit;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.InventoryHolder;
+
+import org.ssoggy.ssoggysouls.model.PlayerData;
+
+/**
+ * one player's revive skull menu. the holder identifies the menu inventory and remembers
+ * the name search plus where every page visited so far started, so going back a page is
+ * the same keyset query as going forward. main thread only.
+ */
+public class ReviveMenu implements InventoryHolder {
+
+    public static final int PAGE_SIZE = 45;
+
+    static final int SLOT_PREVIOUS = 45;
+    static final int SLOT_CLEAR_SEARCH = 48;
+    static final int SLOT_SEARCH = 49;
+    static final int SLOT_NEXT = 53;
+
+    private static final String TITLE = "§5§lRevive - Select Player";
+
+    /**
+     * the last row before a page: pages continue after this name, uuid breaks ties.
+     */
+    record Cursor(String name, String uuid) {}
+
+    /**
+     * the dead players shown on one page and whether there are more after them.
+     */
+    record Page(List<PlayerData> players, boolean hasNext) {}
+
+    private final Inventory inventory;
+    private final String search;
+    // start of every page up to the current one, null for the first
+    private final List<Cursor> pageStarts = new ArrayList<>();
+    private Page page;
+    private boolean loading = true;
+
+    ReviveMenu(String search) {
+        this.search = search;
+        this.inventory = Bukkit.createInventory(this, 54, TITLE);
+        pageStarts.add(null);
+    }
+
+    @Override
+    public Inventory getInventory() {
+        return inventory;
+    }
+
+    /**
+     * the name prefix being searched for, null when showing everyone.
+     */
+    String getSearch() {
+        return search;
+    }
+
+    int getPageNumber() {
+        return pageStarts.size();
+    }
+
+    Cursor getPageStart() {
+        return pageStarts.get(pageStarts.size() - 1);
+    }
+
+    Page getPage() {
+        return page;
+    }
+
+    void setPage(Page page) {
+        this.page = page;
+        this.loading = false;
+    }
+
+    boolean isLoading() {
+        return loading;
+    }
+
+    /**
+     * moves to the page after the current one, false if there is none.
+     */
+    boolean next() {
+        if (loading || page == null || !page.hasNext() || page.players().isEmpty()) return false;
+        PlayerData last = page.players().get(page.players().size() - 1);
+        pageStarts.add(new Cursor(last.getUsername(), last.getUuid().toString()));
+        loading = true;
+        return true;
+    }
+
+    /**
+     * moves to the page before the current one, false if this is the first.
+     */
+    boolean previous() {
+        if (loading || pageStarts.size() <= 1) return false;
+        pageStarts.remove(pageStarts.size() - 1);
+        loading = true;
+        return true;
+    }
+}
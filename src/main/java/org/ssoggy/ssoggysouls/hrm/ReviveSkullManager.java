@@ -1,13 +1,19 @@
 package org.ssoggy.ssoggysouls.hrm;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
 
 import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
 import org.bukkit.Material;
 import org.bukkit.NamespacedKey;
-import org.bukkit.OfflinePlayer;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
@@ -15,8 +21,10 @@ import org.bukkit.event.Listener;
 import org.bukkit.event.block.Action;
 import org.bukkit.event.inventory.InventoryClickEvent;
 import org.bukkit.event.inventory.InventoryDragEvent;
+import org.bukkit.event.player.AsyncPlayerChatEvent;
 import org.bukkit.event.player.PlayerInteractEvent;
 import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
 import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.RecipeChoice;
@@ -26,16 +34,40 @@ import org.bukkit.inventory.meta.SkullMeta;
 import org.bukkit.persistence.PersistentDataType;
 
 import org.ssoggy.ssoggysouls.SSoggySouls;
+import org.ssoggy.ssoggysouls.event.FinalDeathEvent;
+import org.ssoggy.ssoggysouls.event.PlayerRevivedEvent;
 import org.ssoggy.ssoggysouls.model.PlayerData;
 import org.ssoggy.ssoggysouls.util.MessageUtil;
 
 // craftable revive skull thingy from HRM
 public class ReviveSkullManager implements Listener {
 
-    private static final String MENU_TITLE = "\u00A75\u00A7lRevive - Select Player";
+    private static final long PAGE_CACHE_TTL_MS = 3000;
+    private static final long SEARCH_PROMPT_TIMEOUT_MS = 30_000;
+    private static final Pattern VALID_SEARCH = Pattern.compile("[A-Za-z0-9_]{1,16}");
+
+    /**
+     * a page of the dead player list: the search and the row it continues after.
+     */
+    private record PageKey(String search, ReviveMenu.Cursor after) {}
+
+    private static final class CachedPage {
+        private final long createdAt;
+        // null while the query is running
+        private ReviveMenu.Page page;
+        private final List<Consumer<ReviveMenu.Page>> waiters = new ArrayList<>();
+
+        private CachedPage(long createdAt) {
+            this.createdAt = createdAt;
+        }
+    }
 
     private final SSoggySouls plugin;
     private final NamespacedKey reviveSkullKey;
+    // main thread only
+    private final Map<PageKey, CachedPage> pageCache = new HashMap<>();
+    // players asked to type a search in chat -> when the prompt expires
+    private final Map<UUID, Long> searchPrompts = new ConcurrentHashMap<>();
 
     public ReviveSkullManager(SSoggySouls plugin) {
         this.plugin = plugin;
@@ -110,41 +142,123 @@ public class ReviveSkullManager implements Listener {
         if (!isReviveSkull(item)) return;
 
         event.setCancelled(true);
-        Player player = event.getPlayer();
-
-        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
-            List<PlayerData> deadPlayers = plugin.getDatabaseManager().getDeadPlayers();
+        openMenu(event.getPlayer(), null);
+    }
 
-            if (deadPlayers.isEmpty()) {
-                Bukkit.getScheduler().runTask(plugin, () ->
-                        player.sendMessage(MessageUtil.colorize(
-                                "&7No dead players found.")));
+    private void openMenu(Player player, String search) {
+        ReviveMenu menu = new ReviveMenu(search);
+        fetchPage(new PageKey(search, null), page -> {
+            if (!player.isOnline()) return;
+            if (page.players().isEmpty() && search == null) {
+                player.sendMessage(MessageUtil.colorize("&7No dead players found."));
                 return;
             }
+            menu.setPage(page);
+            render(menu);
+            player.openInventory(menu.getInventory());
+        });
+    }
+
+    // loads the menu's current page into its already open inventory
+    private void showPage(Player player, ReviveMenu menu) {
+        fetchPage(new PageKey(menu.getSearch(), menu.getPageStart()), page -> {
+            if (player.getOpenInventory().getTopInventory().getHolder() != menu) return;
+            menu.setPage(page);
+            render(menu);
+        });
+    }
+
+    /**
+     * hands the page for the key to the callback on the main thread. a page loaded within the
+     * last few seconds is reused, and players asking for a page that is still loading wait for
+     * that same query, so a crowd opening the menu at once costs one query per page.
+     */
+    private void fetchPage(PageKey key, Consumer<ReviveMenu.Page> callback) {
+        long now = System.currentTimeMillis();
+        pageCache.values().removeIf(cached -> cached.page != null && now - cached.createdAt > PAGE_CACHE_TTL_MS);
+
+        CachedPage cached = pageCache.get(key);
+        if (cached != null) {
+            if (cached.page != null) {
+                callback.accept(cached.page);
+            } else {
+                cached.waiters.add(callback);
+            }
+            return;
+        }
 
-            Bukkit.getScheduler().runTask(plugin, () -> openMenu(player, deadPlayers));
+        CachedPage loading = new CachedPage(now);
+        loading.waiters.add(callback);
+        pageCache.put(key, loading);
+        String afterName = key.after() != null ? key.after().name() : null;
+        String afterUuid = key.after() != null ? key.after().uuid() : null;
+        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+            // one extra row tells whether there is a next page
+            List<PlayerData> rows = plugin.getDatabaseManager().getDeadPlayersPage(
+                    key.search(), afterName, afterUuid, ReviveMenu.PAGE_SIZE + 1);
+            boolean hasNext = rows.size() > ReviveMenu.PAGE_SIZE;
+            ReviveMenu.Page page = new ReviveMenu.Page(
+                    List.copyOf(hasNext ? rows.subList(0, ReviveMenu.PAGE_SIZE) : rows), hasNext);
+
+            Bukkit.getScheduler().runTask(plugin, plugin.getProfiler().wrap(() -> {
+                loading.page = page;
+                for (Consumer<ReviveMenu.Page> waiter : loading.waiters) {
+                    waiter.accept(page);
+                }
+                loading.waiters.clear();
+            }));
         });
     }
 
-    private void openMenu(Player player, List<PlayerData> deadPlayers) {
-        int slots = Math.min(54, ((deadPlayers.size() / 9) + 1) * 9);
-        slots = Math.max(9, slots);
-        Inventory inv = Bukkit.createInventory(null, slots, MENU_TITLE);
+    private void render(ReviveMenu menu) {
+        Inventory inv = menu.getInventory();
+        inv.clear();
+        ReviveMenu.Page page = menu.getPage();
+        List<PlayerData> players = page.players();
+        for (int i = 0; i < players.size(); i++) {
+            inv.setItem(i, createMenuHead(players.get(i)));
+        }
 
-        int maxItems = Math.min(deadPlayers.size(), slots);
-        for (int i = 0; i < maxItems; i++) {
-            PlayerData data = deadPlayers.get(i);
-            inv.setItem(i, createMenuHead(data));
+        if (menu.getPageNumber() > 1) {
+            inv.setItem(ReviveMenu.SLOT_PREVIOUS, createButton(Material.ARROW, "&ePrevious Page",
+                    "&7Page " + (menu.getPageNumber() - 1)));
+        }
+        if (page.hasNext()) {
+            inv.setItem(ReviveMenu.SLOT_NEXT, createButton(Material.ARROW, "&eNext Page",
+                    "&7Page " + (menu.getPageNumber() + 1)));
         }
+        if (menu.getSearch() != null) {
+            inv.setItem(ReviveMenu.SLOT_CLEAR_SEARCH, createButton(Material.BARRIER, "&cClear Search",
+                    "&7Show all dead players"));
+        }
+        String searchInfo = menu.getSearch() != null
+                ? "&7Showing names starting with &f" + menu.getSearch()
+                : "&7Find a player by name";
+        inv.setItem(ReviveMenu.SLOT_SEARCH, createButton(Material.COMPASS, "&eSearch",
+                searchInfo, "&7Page " + menu.getPageNumber()));
+    }
 
-        player.openInventory(inv);
+    private static ItemStack createButton(Material material, String name, String... lore) {
+        ItemStack item = new ItemStack(material);
+        ItemMeta meta = item.getItemMeta();
+        if (meta != null) {
+            meta.setDisplayName(MessageUtil.colorize(name));
+            List<String> lines = new ArrayList<>(lore.length);
+            for (String line : lore) {
+                lines.add(MessageUtil.colorize(line));
+            }
+            meta.setLore(lines);
+            item.setItemMeta(meta);
+        }
+        return item;
     }
 
     private ItemStack createMenuHead(PlayerData data) {
         ItemStack head = new ItemStack(Material.PLAYER_HEAD);
         SkullMeta meta = (SkullMeta) head.getItemMeta();
         if (meta != null) {
-            meta.setOwningPlayer(Bukkit.getOfflinePlayer(data.getUuid()));
+            plugin.getHeadTextures().apply(meta, data.getUuid(), data.getUsername());
+            HeadTags.stamp(meta.getPersistentDataContainer(), data.getUuid(), data.getLastDeath());
             meta.setDisplayName(ChatColor.RED + data.getUsername());
             meta.setLore(List.of(
                     ChatColor.GRAY + "Status: " + ChatColor.DARK_RED + "Dead",
@@ -157,46 +271,101 @@ public class ReviveSkullManager implements Listener {
 
     @EventHandler
     public void onInventoryClick(InventoryClickEvent event) {
-        if (!MENU_TITLE.equals(event.getView().getTitle())) return;
+        if (!(event.getInventory().getHolder() instanceof ReviveMenu menu)) return;
         event.setCancelled(true);
 
-        if (event.getClickedInventory() == null) return;
         if (event.getClickedInventory() != event.getView().getTopInventory()) return;
-
-        ItemStack clicked = event.getCurrentItem();
-        if (clicked == null || clicked.getType() != Material.PLAYER_HEAD) return;
-        if (!(clicked.getItemMeta() instanceof SkullMeta skullMeta)) return;
-
-        OfflinePlayer owner = skullMeta.getOwningPlayer();
-        if (owner == null) return;
-
         Player player = (Player) event.getWhoClicked();
 
-        ItemStack headItem = new ItemStack(Material.PLAYER_HEAD);
-        SkullMeta headMeta = (SkullMeta) headItem.getItemMeta();
-        if (headMeta != null) {
-            headMeta.setOwningPlayer(owner);
-            headMeta.setDisplayName(ChatColor.YELLOW + owner.getName() + "'s Head");
-            headMeta.setLore(List.of(
-                    ChatColor.DARK_RED.toString() + ChatColor.ITALIC
-                            + "A fallen player's head",
-                    ChatColor.GRAY + "Place on a revival structure to revive"));
-            headItem.setItemMeta(headMeta);
+        switch (event.getSlot()) {
+            case ReviveMenu.SLOT_PREVIOUS -> {
+                if (menu.previous()) showPage(player, menu);
+                return;
+            }
+            case ReviveMenu.SLOT_NEXT -> {
+                if (menu.next()) showPage(player, menu);
+                return;
+            }
+            case ReviveMenu.SLOT_SEARCH -> {
+                promptSearch(player);
+                return;
+            }
+            case ReviveMenu.SLOT_CLEAR_SEARCH -> {
+                if (menu.getSearch() != null) openMenu(player, null);
+                return;
+            }
+            default -> {
+                // a player head
+            }
         }
 
+        ItemStack clicked = event.getCurrentItem();
+        UUID ownerUuid = HeadTags.getOwner(clicked);
+        if (ownerUuid == null) return;
+
+        // menu heads are named after the player, no need to resolve the name again
+        String ownerName = ChatColor.stripColor(clicked.getItemMeta().getDisplayName());
+        ItemStack headItem = HeadDropListener.createPlayerHead(plugin.getHeadTextures(), ownerUuid, ownerName,
+                HeadTags.getDeathId(clicked));
+
         player.getInventory().addItem(headItem);
         player.closeInventory();
         player.sendMessage(MessageUtil.colorize(
-                "&aReceived &e" + owner.getName() + "&a's head."));
+                "&aReceived &e" + ownerName + "&a's head."));
     }
 
     @EventHandler
     public void onInventoryDrag(InventoryDragEvent event) {
-        if (MENU_TITLE.equals(event.getView().getTitle())) {
+        if (event.getInventory().getHolder() instanceof ReviveMenu) {
             event.setCancelled(true);
         }
     }
 
+    // anvil text input needs a real anvil container, which spigot can't open, so names are typed in chat
+    private void promptSearch(Player player) {
+        searchPrompts.put(player.getUniqueId(), System.currentTimeMillis() + SEARCH_PROMPT_TIMEOUT_MS);
+        player.closeInventory();
+        player.sendMessage(MessageUtil.colorize(
+                "&eType a name (or the start of one) in chat to search, or &fcancel&e."));
+    }
+
+    @EventHandler(priority = EventPriority.LOWEST)
+    public void onSearchInput(AsyncPlayerChatEvent event) {
+        Player player = event.getPlayer();
+        Long expiresAt = searchPrompts.remove(player.getUniqueId());
+        if (expiresAt == null || expiresAt < System.currentTimeMillis()) return;
+
+        event.setCancelled(true);
+        String input = event.getMessage().trim();
+        if (input.equalsIgnoreCase("cancel")) {
+            player.sendMessage(MessageUtil.colorize("&7Search cancelled."));
+            return;
+        }
+        if (!VALID_SEARCH.matcher(input).matches()) {
+            player.sendMessage(MessageUtil.colorize("&cNot a valid player name: &f" + input));
+            return;
+        }
+        Bukkit.getScheduler().runTask(plugin, plugin.getProfiler().wrap(() -> {
+            if (player.isOnline()) openMenu(player, input);
+        }));
+    }
+
+    @EventHandler
+    public void onQuit(PlayerQuitEvent event) {
+        searchPrompts.remove(event.getPlayer().getUniqueId());
+    }
+
+    // the dead player list just changed, don't hand out pages from before it
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerRevived(PlayerRevivedEvent event) {
+        pageCache.clear();
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onFinalDeath(FinalDeathEvent event) {
+        pageCache.clear();
+    }
+
     public NamespacedKey getRecipeKey() {
         return reviveSkullKey;
     }
@@ -0,0 +1,277 @@
+package org.ssoggy.ssoggysouls.hrm;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Material;
+import org.bukkit.NamespacedKey;
+import org.bukkit.Tag;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.configuration.ConfigurationSection;
+
+/**
+ * a ritual structure layout compiled into relative block checks.
+ *
+ * <p>patterns are written as layers of character grids (top layer first, rows run north to
+ * south, columns west to east) with one {@code H} marking the head. every other non-blank
+ * character maps to a set of allowed materials, resolved once at load. checks straight
+ * below or above the head are the same in every rotation and run first; the rest run per
+ * distinct rotation. within each group the check with the fewest allowed materials runs
+ * first, so a head placed on the wrong thing is usually rejected after one block read.
+ */
+public final class RitualPattern {
+
+    private static final char HEAD = 'H';
+
+    /**
+     * one block relative to the head.
+     *
+     * @param base part of the base layers, kept when leave-structure-base is on
+     */
+    public record Check(int dx, int dy, int dz, Set<Material> allowed, boolean base) {
+
+        boolean test(World world, int hx, int hy, int hz) {
+            return allowed.contains(world.getType(hx + dx, hy + dy, hz + dz));
+        }
+
+        Check rotate() {
+            // 90 degrees clockwise seen from above
+            return new Check(-dz, dy, dx, allowed, base);
+        }
+    }
+
+    /**
+     * a successful match: every block that belongs to the structure in the matched rotation.
+     */
+    public record Match(RitualPattern pattern, List<Check> blocks) {}
+
+    private static final Comparator<Check> MOST_SELECTIVE_FIRST = Comparator
+            .comparingInt((Check c) -> c.allowed().size())
+            .thenComparingInt(c -> Math.abs(c.dx()) + Math.abs(c.dy()) + Math.abs(c.dz()));
+
+    private final String name;
+    private final Check[] axis;
+    private final List<Check[]> rotations;
+
+    private RitualPattern(String name, Check[] axis, List<Check[]> rotations) {
+        this.name = name;
+        this.axis = axis;
+        this.rotations = rotations;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getRotationCount() {
+        return rotations.size();
+    }
+
+    /**
+     * tests the structure around a placed head, null if it doesn't match in any rotation.
+     */
+    public Match match(Block head) {
+        World world = head.getWorld();
+        int hx = head.getX();
+        int hy = head.getY();
+        int hz = head.getZ();
+        for (Check check : axis) {
+            if (!check.test(world, hx, hy, hz)) return null;
+        }
+        for (Check[] rotation : rotations) {
+            if (matchesAll(rotation, world, hx, hy, hz)) {
+                List<Check> blocks = new ArrayList<>(axis.length + rotation.length);
+                blocks.addAll(Arrays.asList(axis));
+                blocks.addAll(Arrays.asList(rotation));
+                return new Match(this, blocks);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * whether the part of the structure directly in line with the head is there,
+     * used to tell players their structure is incomplete.
+     */
+    public boolean matchesAxis(Block head) {
+        if (axis.length == 0) return false;
+        return matchesAll(axis, head.getWorld(), head.getX(), head.getY(), head.getZ());
+    }
+
+    private static boolean matchesAll(Check[] checks, World world, int hx, int hy, int hz) {
+        for (Check check : checks) {
+            if (!check.test(world, hx, hy, hz)) return false;
+        }
+        return true;
+    }
+
+    /**
+     * the original 3x3 altar: ore block under a fence under the head, soul sand corners
+     * topped with wither roses and stairs on the edges.
+     */
+    public static RitualPattern classic() {
+        Map<Character, String> blocks = new HashMap<>();
+        blocks.put('F', "#fences");
+        blocks.put('O', "#beacon_base_blocks");
+        blocks.put('S', "soul_sand, soul_soil");
+        blocks.put('P', "#stairs");
+        blocks.put('R', "wither_rose");
+        return compile("classic", List.of(
+                List.of("   ", " H ", "   "),
+                List.of("R R", " F ", "R R"),
+                List.of("SPS", "POP", "SPS")), blocks, 1);
+    }
+
+    /**
+     * compiles a pattern from its config section.
+     *
+     * @throws IllegalArgumentException if the section doesn't describe a valid pattern
+     */
+    public static RitualPattern fromConfig(String name, ConfigurationSection section) {
+        List<?> rawLayers = section.getList("layers");
+        if (rawLayers == null || rawLayers.isEmpty()) {
+            throw new IllegalArgumentException("no layers");
+        }
+        List<List<String>> layers = new ArrayList<>();
+        for (Object rawLayer : rawLayers) {
+            if (!(rawLayer instanceof List<?> rows)) {
+                throw new IllegalArgumentException("each layer must be a list of rows");
+            }
+            List<String> layer = new ArrayList<>();
+            for (Object row : rows) {
+                layer.add(String.valueOf(row));
+            }
+            layers.add(layer);
+        }
+
+        ConfigurationSection blockSection = section.getConfigurationSection("blocks");
+        if (blockSection == null) {
+            throw new IllegalArgumentException("no blocks");
+        }
+        Map<Character, String> blocks = new HashMap<>();
+        for (String key : blockSection.getKeys(false)) {
+            if (key.length() != 1) {
+                throw new IllegalArgumentException("block key '" + key + "' must be a single character");
+            }
+            blocks.put(key.charAt(0), blockSection.getString(key, ""));
+        }
+        return compile(name, layers, blocks, section.getInt("base-layers", 1));
+    }
+
+    /**
+     * compiles layered grids into ordered checks for all distinct rotations.
+     *
+     * @param layers top layer first, each a list of equally long rows
+     * @param blocks character to a comma separated list of materials and #block_tags
+     * @param baseLayers how many bottom layers are the reusable base
+     * @throws IllegalArgumentException if the layout or a block spec is invalid
+     */
+    public static RitualPattern compile(String name, List<List<String>> layers,
+                                        Map<Character, String> blocks, int baseLayers) {
+        Map<Character, Set<Material>> resolved = new HashMap<>();
+        for (Map.Entry<Character, String> entry : blocks.entrySet()) {
+            resolved.put(entry.getKey(), parseBlocks(entry.getValue()));
+        }
+
+        int headLayer = -1;
+        int headRow = -1;
+        int headCol = -1;
+        for (int l = 0; l < layers.size(); l++) {
+            List<String> rows = layers.get(l);
+            for (int r = 0; r < rows.size(); r++) {
+                int c = rows.get(r).indexOf(HEAD);
+                if (c < 0) continue;
+                if (headLayer >= 0 || rows.get(r).indexOf(HEAD, c + 1) >= 0) {
+                    throw new IllegalArgumentException("more than one " + HEAD);
+                }
+                headLayer = l;
+                headRow = r;
+                headCol = c;
+            }
+        }
+        if (headLayer < 0) {
+            throw new IllegalArgumentException("no " + HEAD + " marking the head");
+        }
+
+        List<Check> axis = new ArrayList<>();
+        List<Check> offAxis = new ArrayList<>();
+        int firstBaseLayer = layers.size() - Math.max(0, baseLayers);
+        for (int l = 0; l < layers.size(); l++) {
+            List<String> rows = layers.get(l);
+            for (int r = 0; r < rows.size(); r++) {
+                String row = rows.get(r);
+                for (int c = 0; c < row.length(); c++) {
+                    char ch = row.charAt(c);
+                    if (ch == HEAD || ch == ' ' || ch == '.') continue;
+                    Set<Material> allowed = resolved.get(ch);
+                    if (allowed == null) {
+                        throw new IllegalArgumentException("no block defined for '" + ch + "'");
+                    }
+                    Check check = new Check(c - headCol, headLayer - l, r - headRow, allowed, l >= firstBaseLayer);
+                    (check.dx() == 0 && check.dz() == 0 ? axis : offAxis).add(check);
+                }
+            }
+        }
+        if (axis.isEmpty() && offAxis.isEmpty()) {
+            throw new IllegalArgumentException("pattern has no blocks besides the head");
+        }
+
+        // symmetric layouts collapse to fewer rotations
+        List<Check[]> rotations = new ArrayList<>();
+        Set<Set<Check>> seen = new HashSet<>();
+        List<Check> current = offAxis;
+        for (int i = 0; i < 4; i++) {
+            if (seen.add(new HashSet<>(current))) {
+                Check[] sorted = current.toArray(new Check[0]);
+                Arrays.sort(sorted, MOST_SELECTIVE_FIRST);
+                rotations.add(sorted);
+            }
+            List<Check> next = new ArrayList<>(current.size());
+            for (Check check : current) {
+                next.add(check.rotate());
+            }
+            current = next;
+        }
+
+        Check[] sortedAxis = axis.toArray(new Check[0]);
+        Arrays.sort(sortedAxis, MOST_SELECTIVE_FIRST);
+        return new RitualPattern(name, sortedAxis, List.copyOf(rotations));
+    }
+
+    private static Set<Material> parseBlocks(String spec) {
+        Set<Material> materials = new LinkedHashSet<>();
+        for (String part : spec.split(",")) {
+            String token = part.trim().toLowerCase(Locale.ROOT);
+            if (token.isEmpty()) continue;
+            if (token.startsWith("#")) {
+                NamespacedKey key = NamespacedKey.fromString(token.substring(1));
+                Tag<Material> tag = key != null ? Bukkit.getTag(Tag.REGISTRY_BLOCKS, key, Material.class) : null;
+                if (tag == null) {
+                    throw new IllegalArgumentException("unknown block tag " + token);
+                }
+                materials.addAll(tag.getValues());
+            } else {
+                Material material = Material.matchMaterial(token);
+                if (material == null || !material.isBlock()) {
+                    throw new IllegalArgumentException("unknown block " + token);
+                }
+                materials.add(material);
+            }
+        }
+        if (materials.isEmpty()) {
+            throw new IllegalArgumentException("empty block list");
+        }
+        return EnumSet.copyOf(materials);
+    }
+}
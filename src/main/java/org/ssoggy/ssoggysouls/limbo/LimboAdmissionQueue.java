@@ -0,0 +1,133 @@
+package org.ssoggy.ssoggysouls.limbo;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitRunnable;
+
+import org.ssoggy.ssoggysouls.SSoggySouls;
+import org.ssoggy.ssoggysouls.util.MessageUtil;
+
+/**
+ * throttles how many dead players get limbo state applied per tick.
+ *
+ * <p>after a main server restart or a mass death dozens of players can arrive at once;
+ * instead of clearing inventories and teleporting all of them in the same tick they wait
+ * here (invulnerable and frozen, since they are already in the limbo dead set) and are
+ * admitted a few per tick. only touched from the main thread.
+ */
+public class LimboAdmissionQueue extends BukkitRunnable {
+
+    private final SSoggySouls plugin;
+    private final Consumer<Player> admitAction;
+    private final Deque<Entry> queue = new ArrayDeque<>();
+    // read by the move listener to freeze waiting players
+    private final Set<UUID> waiting = ConcurrentHashMap.newKeySet();
+
+    private long totalAdmitted;
+    private long totalWaitNanos;
+    private long maxWaitNanos;
+    private int maxDepth;
+
+    private record Entry(UUID uuid, long enqueuedAt) {}
+
+    public LimboAdmissionQueue(SSoggySouls plugin, Consumer<Player> admitAction) {
+        this.plugin = plugin;
+        this.admitAction = admitAction;
+    }
+
+    /**
+     * queues a dead player for admission into limbo.
+     */
+    public void enqueue(Player player) {
+        UUID uuid = player.getUniqueId();
+        if (!waiting.add(uuid)) return;
+
+        queue.addLast(new Entry(uuid, System.nanoTime()));
+        maxDepth = Math.max(maxDepth, queue.size());
+
+        int perTick = plugin.getLimboAdmissionPerTick();
+        if (queue.size() > perTick) {
+            player.sendMessage(MessageUtil.get("limbo-admission-queued",
+                    "position", queue.size()));
+        }
+        if (plugin.isDebugMode()) {
+            plugin.debug("Queued " + player.getName() + " for limbo admission (depth " + queue.size() + ")");
+        }
+    }
+
+    /**
+     * drops a player from the queue (call on quit).
+     */
+    public void remove(UUID uuid) {
+        if (!waiting.remove(uuid)) return;
+        Iterator<Entry> it = queue.iterator();
+        while (it.hasNext()) {
+            if (it.next().uuid().equals(uuid)) {
+                it.remove();
+                return;
+            }
+        }
+    }
+
+    public boolean isWaiting(UUID uuid) {
+        return waiting.contains(uuid);
+    }
+
+    @Override
+    public void run() {
+        int budget = plugin.getLimboAdmissionPerTick();
+        long now = System.nanoTime();
+
+        while (budget > 0 && !queue.isEmpty()) {
+            Entry entry = queue.pollFirst();
+            waiting.remove(entry.uuid());
+
+            Player player = Bukkit.getPlayer(entry.uuid());
+            if (player == null || !player.isOnline()) continue;
+
+            long waited = now - entry.enqueuedAt();
+            totalAdmitted++;
+            totalWaitNanos += waited;
+            maxWaitNanos = Math.max(maxWaitNanos, waited);
+
+            admitAction.accept(player);
+            budget--;
+        }
+    }
+
+    public int getDepth() {
+        return queue.size();
+    }
+
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+
+    public long getTotalAdmitted() {
+        return totalAdmitted;
+    }
+
+    public long getAverageWaitMillis() {
+        return totalAdmitted == 0 ? 0 : (totalWaitNanos / totalAdmitted) / 1_000_000L;
+    }
+
+    public long getMaxWaitMillis() {
+        return maxWaitNanos / 1_000_000L;
+    }
+
+    /**
+     * wait time of the player at the head of the queue, 0 when empty.
+     */
+    public long getOldestWaitMillis() {
+        Entry head = queue.peekFirst();
+        return head == null ? 0 : (System.nanoTime() - head.enqueuedAt()) / 1_000_000L;
+    }
+}
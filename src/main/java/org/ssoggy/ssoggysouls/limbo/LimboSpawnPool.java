@@ -0,0 +1,542 @@
+package org.ssoggy.ssoggysouls.limbo;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+
+import org.bukkit.Bukkit;
+import org.bukkit.ChunkSnapshot;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.block.BlockBreakEvent;
+import org.bukkit.event.block.BlockExplodeEvent;
+import org.bukkit.event.block.BlockFromToEvent;
+import org.bukkit.event.block.BlockPlaceEvent;
+import org.bukkit.event.entity.EntityExplodeEvent;
+import org.bukkit.event.world.WorldLoadEvent;
+import org.bukkit.scheduler.BukkitTask;
+
+import org.ssoggy.ssoggysouls.SSoggySouls;
+
+/**
+ * pool of limbo spawn points with precomputed safe standing locations.
+ *
+ * <p>safe locations are searched off the main thread on a {@link ChunkSnapshot} and only
+ * recomputed when a block changes inside a spawn chunk. spawn chunks are held loaded with
+ * plugin chunk tickets, and the points themselves live in {@code limbo-spawns.yml}
+ * which is written asynchronously instead of rewriting the whole config.yml.
+ */
+public class LimboSpawnPool implements Listener {
+
+    public static final String MODE_ROUND_ROBIN = "round-robin";
+    public static final String MODE_LEAST_CROWDED = "least-crowded";
+
+    private static final String DATA_FILE = "limbo-spawns.yml";
+    private static final String KEY_SPAWNS = "spawns";
+    private static final String DEFAULT_WORLD = "world";
+    private static final long RECOMPUTE_DEBOUNCE_TICKS = 20L;
+
+    private final SSoggySouls plugin;
+    private final File dataFile;
+    private final List<SpawnPoint> points = new CopyOnWriteArrayList<>();
+    private final Map<UUID, SpawnPoint> assignments = new ConcurrentHashMap<>();
+    private final AtomicInteger roundRobinCursor = new AtomicInteger();
+    // bumped on every save so an older async write never overwrites a newer one
+    private final AtomicLong saveSequence = new AtomicLong();
+    private final Object fileLock = new Object();
+
+    private volatile String selectionMode = MODE_ROUND_ROBIN;
+    private BukkitTask pendingRecompute;
+
+    public LimboSpawnPool(SSoggySouls plugin) {
+        this.plugin = plugin;
+        this.dataFile = new File(plugin.getDataFolder(), DATA_FILE);
+    }
+
+    /**
+     * loads spawn points from limbo-spawns.yml, migrating the legacy single
+     * {@code limbo.spawn} entry from config.yml on first run.
+     */
+    public void load() {
+        refreshSettings();
+
+        List<SpawnPoint> loaded = new ArrayList<>();
+        if (dataFile.exists()) {
+            YamlConfiguration data = YamlConfiguration.loadConfiguration(dataFile);
+            for (Map<?, ?> raw : data.getMapList(KEY_SPAWNS)) {
+                SpawnPoint point = SpawnPoint.fromMap(raw);
+                if (point != null) {
+                    loaded.add(point);
+                }
+            }
+        } else {
+            loaded.add(legacySpawnFromConfig(plugin.getConfig()));
+            plugin.getLogger().info("Migrated limbo spawn from config.yml to " + DATA_FILE + ".");
+        }
+
+        releaseTickets();
+        points.clear();
+        points.addAll(loaded);
+        assignments.clear();
+
+        if (!dataFile.exists()) {
+            saveAsync();
+        }
+        recomputeAll();
+    }
+
+    /**
+     * re-reads the selection mode from config (call on config reload).
+     */
+    public void refreshSettings() {
+        String mode = plugin.getConfig().getString("limbo.spawn-selection", MODE_ROUND_ROBIN);
+        selectionMode = MODE_LEAST_CROWDED.equalsIgnoreCase(mode) ? MODE_LEAST_CROWDED : MODE_ROUND_ROBIN;
+    }
+
+    public void shutdown() {
+        if (pendingRecompute != null) {
+            pendingRecompute.cancel();
+            pendingRecompute = null;
+        }
+        releaseTickets();
+        assignments.clear();
+    }
+
+    private static SpawnPoint legacySpawnFromConfig(FileConfiguration cfg) {
+        String worldName = cfg.getString("limbo.spawn.world", DEFAULT_WORLD);
+        return new SpawnPoint(worldName != null ? worldName : DEFAULT_WORLD,
+                cfg.getDouble("limbo.spawn.x", 0.5),
+                cfg.getDouble("limbo.spawn.y", 65.0),
+                cfg.getDouble("limbo.spawn.z", 0.5),
+                (float) cfg.getDouble("limbo.spawn.yaw", 0.0),
+                (float) cfg.getDouble("limbo.spawn.pitch", 0.0));
+    }
+
+    // --- Point management (main thread) ---
+
+    /**
+     * replaces every spawn point with the given location.
+     */
+    public void setSingle(Location loc) {
+        releaseTickets();
+        points.clear();
+        assignments.clear();
+        points.add(SpawnPoint.fromLocation(loc));
+        saveAsync();
+        recomputeAll();
+    }
+
+    /**
+     * adds another spawn point to the pool.
+     *
+     * @return the number of points after adding
+     */
+    public int add(Location loc) {
+        SpawnPoint point = SpawnPoint.fromLocation(loc);
+        points.add(point);
+        saveAsync();
+        recompute(point);
+        return points.size();
+    }
+
+    /**
+     * removes the spawn point at the given zero-based index.
+     *
+     * @return false when the index is out of range or it is the last point
+     */
+    public boolean remove(int index) {
+        if (index < 0 || index >= points.size() || points.size() <= 1) {
+            return false;
+        }
+        SpawnPoint removed = points.remove(index);
+        removeTicket(removed);
+        assignments.values().removeIf(p -> p == removed);
+        saveAsync();
+        return true;
+    }
+
+    public List<SpawnPoint> getPoints() {
+        return Collections.unmodifiableList(points);
+    }
+
+    public String getSelectionMode() {
+        return selectionMode;
+    }
+
+    // --- Assignment (main thread) ---
+
+    /**
+     * picks a spawn point for the player according to the selection mode and
+     * returns its precomputed safe location.
+     *
+     * @return the safe location, or null when no point has a loaded world yet
+     */
+    public Location assign(UUID playerUuid) {
+        release(playerUuid);
+
+        SpawnPoint chosen = MODE_LEAST_CROWDED.equals(selectionMode)
+                ? pickLeastCrowded()
+                : pickRoundRobin();
+        if (chosen == null) {
+            return null;
+        }
+
+        chosen.occupants.incrementAndGet();
+        assignments.put(playerUuid, chosen);
+        return chosen.getSafeLocation();
+    }
+
+    /**
+     * frees the player's slot at their spawn point (call on quit or release).
+     */
+    public void release(UUID playerUuid) {
+        SpawnPoint previous = assignments.remove(playerUuid);
+        if (previous != null) {
+            previous.occupants.decrementAndGet();
+        }
+    }
+
+    /**
+     * returns the safe location of the player's assigned point, or of the
+     * first usable point when they have none.
+     */
+    public Location getSpawnFor(UUID playerUuid) {
+        SpawnPoint assigned = assignments.get(playerUuid);
+        if (assigned != null && assigned.isUsable()) {
+            return assigned.getSafeLocation();
+        }
+        for (SpawnPoint point : points) {
+            if (point.isUsable()) {
+                return point.getSafeLocation();
+            }
+        }
+        return null;
+    }
+
+    private SpawnPoint pickRoundRobin() {
+        int size = points.size();
+        for (int attempt = 0; attempt < size; attempt++) {
+            int index = Math.floorMod(roundRobinCursor.getAndIncrement(), size);
+            SpawnPoint point = points.get(index);
+            if (point.isUsable()) {
+                return point;
+            }
+        }
+        return null;
+    }
+
+    private SpawnPoint pickLeastCrowded() {
+        SpawnPoint best = null;
+        for (SpawnPoint point : points) {
+            if (point.isUsable() && (best == null || point.occupants.get() < best.occupants.get())) {
+                best = point;
+            }
+        }
+        return best;
+    }
+
+    // --- Safe location search ---
+
+    private void recomputeAll() {
+        for (SpawnPoint point : points) {
+            recompute(point);
+        }
+    }
+
+    /**
+     * snapshots the point's chunk on the main thread and searches it for a safe
+     * standing spot asynchronously.
+     */
+    private void recompute(SpawnPoint point) {
+        World world = Bukkit.getWorld(point.worldName);
+        if (world == null) {
+            // resolved again from onWorldLoad once the world exists
+            return;
+        }
+
+        int chunkX = point.blockX() >> 4;
+        int chunkZ = point.blockZ() >> 4;
+        if (!point.ticketHeld) {
+            world.addPluginChunkTicket(chunkX, chunkZ, plugin);
+            point.ticketHeld = true;
+        }
+
+        ChunkSnapshot snapshot = world.getChunkAt(chunkX, chunkZ).getChunkSnapshot(false, false, false);
+        int minY = world.getMinHeight();
+        int maxY = world.getMaxHeight();
+        long generation = point.generation.incrementAndGet();
+
+        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+            double safeY = findSafeY(snapshot, point.blockX() & 15, point.blockY(),
+                    point.blockZ() & 15, minY, maxY);
+            // drop the result if a newer recompute started meanwhile
+            if (point.generation.get() == generation) {
+                point.safeLocation = new Location(world, point.x, safeY, point.z, point.yaw, point.pitch);
+                if (plugin.isDebugMode()) {
+                    plugin.debug("Limbo spawn point " + point.describe() + " resolved to Y=" + safeY);
+                }
+            }
+        });
+    }
+
+    /**
+     * finds the first two-block-high air gap at or above startY in the snapshot column.
+     */
+    static double findSafeY(ChunkSnapshot snapshot, int localX, int startY, int localZ,
+                            int minY, int maxY) {
+        int from = Math.max(startY, minY);
+        for (int y = from; y < maxY - 1; y++) {
+            if (snapshot.getBlockType(localX, y, localZ).isAir()
+                    && snapshot.getBlockType(localX, y + 1, localZ).isAir()) {
+                return y;
+            }
+        }
+        // Fallback: use original + 2 to be above the block
+        return startY + 2.0;
+    }
+
+    private void scheduleRecompute(SpawnPoint point) {
+        point.dirty = true;
+        if (pendingRecompute != null) return;
+        // debounce so a burst of block edits only triggers one snapshot per point
+        pendingRecompute = Bukkit.getScheduler().runTaskLater(plugin, plugin.getProfiler().wrap(() -> {
+            pendingRecompute = null;
+            for (SpawnPoint p : points) {
+                if (p.dirty) {
+                    p.dirty = false;
+                    recompute(p);
+                }
+            }
+        }), RECOMPUTE_DEBOUNCE_TICKS);
+    }
+
+    private void onBlockChanged(Block block) {
+        if (points.isEmpty()) return;
+        String worldName = block.getWorld().getName();
+        int chunkX = block.getX() >> 4;
+        int chunkZ = block.getZ() >> 4;
+        for (SpawnPoint point : points) {
+            if ((point.blockX() >> 4) == chunkX && (point.blockZ() >> 4) == chunkZ
+                    && point.worldName.equals(worldName)) {
+                scheduleRecompute(point);
+            }
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockBreak(BlockBreakEvent event) {
+        onBlockChanged(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockPlace(BlockPlaceEvent event) {
+        onBlockChanged(event.getBlockPlaced());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockFromTo(BlockFromToEvent event) {
+        onBlockChanged(event.getToBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockExplode(BlockExplodeEvent event) {
+        for (Block block : event.blockList()) {
+            onBlockChanged(block);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onEntityExplode(EntityExplodeEvent event) {
+        for (Block block : event.blockList()) {
+            onBlockChanged(block);
+        }
+    }
+
+    @EventHandler
+    public void onWorldLoad(WorldLoadEvent event) {
+        String worldName = event.getWorld().getName();
+        for (SpawnPoint point : points) {
+            if (point.worldName.equals(worldName)) {
+                recompute(point);
+            }
+        }
+    }
+
+    // --- Chunk tickets ---
+
+    private void removeTicket(SpawnPoint point) {
+        if (!point.ticketHeld) return;
+        point.ticketHeld = false;
+        World world = Bukkit.getWorld(point.worldName);
+        if (world == null) return;
+
+        int chunkX = point.blockX() >> 4;
+        int chunkZ = point.blockZ() >> 4;
+        // another point may share the chunk, keep the ticket for it
+        for (SpawnPoint other : points) {
+            if (other != point && other.ticketHeld && other.worldName.equals(point.worldName)
+                    && (other.blockX() >> 4) == chunkX && (other.blockZ() >> 4) == chunkZ) {
+                return;
+            }
+        }
+        world.removePluginChunkTicket(chunkX, chunkZ, plugin);
+    }
+
+    private void releaseTickets() {
+        for (SpawnPoint point : points) {
+            point.ticketHeld = false;
+        }
+        for (World world : Bukkit.getWorlds()) {
+            world.removePluginChunkTickets(plugin);
+        }
+    }
+
+    // --- Persistence ---
+
+    /**
+     * serializes the points on the calling (main) thread and writes the file asynchronously.
+     */
+    private void saveAsync() {
+        YamlConfiguration data = new YamlConfiguration();
+        List<Map<String, Object>> serialized = new ArrayList<>();
+        for (SpawnPoint point : points) {
+            serialized.add(point.toMap());
+        }
+        data.set(KEY_SPAWNS, serialized);
+        String contents = data.saveToString();
+        long sequence = saveSequence.incrementAndGet();
+
+        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> writeFile(contents, sequence));
+    }
+
+    private void writeFile(String contents, long sequence) {
+        synchronized (fileLock) {
+            if (sequence != saveSequence.get()) return; // a newer save is queued
+            try {
+                Path target = dataFile.toPath();
+                Files.createDirectories(target.getParent());
+                Path tmp = target.resolveSibling(DATA_FILE + ".tmp");
+                Files.writeString(tmp, contents, StandardCharsets.UTF_8);
+                Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException e) {
+                plugin.getLogger().log(Level.WARNING, "Failed to save " + DATA_FILE, e);
+            }
+        }
+    }
+
+    /**
+     * a configured limbo spawn point and its last computed safe location.
+     */
+    public static final class SpawnPoint {
+        private final String worldName;
+        private final double x;
+        private final double y;
+        private final double z;
+        private final float yaw;
+        private final float pitch;
+
+        private final AtomicInteger occupants = new AtomicInteger();
+        private final AtomicLong generation = new AtomicLong();
+        private volatile Location safeLocation;
+        private boolean ticketHeld;
+        private boolean dirty;
+
+        SpawnPoint(String worldName, double x, double y, double z, float yaw, float pitch) {
+            this.worldName = worldName;
+            this.x = x;
+            this.y = y;
+            this.z = z;
+            this.yaw = yaw;
+            this.pitch = pitch;
+        }
+
+        static SpawnPoint fromLocation(Location loc) {
+            World world = loc.getWorld();
+            return new SpawnPoint(world != null ? world.getName() : DEFAULT_WORLD,
+                    loc.getX(), loc.getY(), loc.getZ(), loc.getYaw(), loc.getPitch());
+        }
+
+        static SpawnPoint fromMap(Map<?, ?> raw) {
+            Object world = raw.get("world");
+            if (world == null) return null;
+            return new SpawnPoint(world.toString(),
+                    toDouble(raw.get("x"), 0.5),
+                    toDouble(raw.get("y"), 65.0),
+                    toDouble(raw.get("z"), 0.5),
+                    (float) toDouble(raw.get("yaw"), 0.0),
+                    (float) toDouble(raw.get("pitch"), 0.0));
+        }
+
+        private static double toDouble(Object value, double def) {
+            return value instanceof Number number ? number.doubleValue() : def;
+        }
+
+        Map<String, Object> toMap() {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("world", worldName);
+            map.put("x", x);
+            map.put("y", y);
+            map.put("z", z);
+            map.put("yaw", (double) yaw);
+            map.put("pitch", (double) pitch);
+            return map;
+        }
+
+        int blockX() {
+            return (int) Math.floor(x);
+        }
+
+        int blockY() {
+            return (int) Math.floor(y);
+        }
+
+        int blockZ() {
+            return (int) Math.floor(z);
+        }
+
+        boolean isUsable() {
+            return safeLocation != null || Bukkit.getWorld(worldName) != null;
+        }
+
+        /**
+         * returns the precomputed safe location, or the raw configured location while
+         * the first snapshot search is still running.
+         */
+        Location getSafeLocation() {
+            Location safe = safeLocation;
+            if (safe != null) {
+                return safe.clone();
+            }
+            World world = Bukkit.getWorld(worldName);
+            return world != null ? new Location(world, x, y, z, yaw, pitch) : null;
+        }
+
+        public int getOccupants() {
+            return occupants.get();
+        }
+
+        public String describe() {
+            return String.format("%s %.1f, %.1f, %.1f", worldName, x, y, z);
+        }
+    }
+}
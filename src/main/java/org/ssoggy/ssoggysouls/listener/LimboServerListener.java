@@ -1,5 +1,7 @@
 package org.ssoggy.ssoggysouls.listener;
 
+import java.util.UUID;
+
 import org.bukkit.Bukkit;
 import org.bukkit.GameMode;
 import org.bukkit.Location;
@@ -16,6 +18,8 @@ import org.bukkit.event.player.PlayerPortalEvent;
 import org.bukkit.event.player.PlayerQuitEvent;
 
 import org.ssoggy.ssoggysouls.SSoggySouls;
+import org.ssoggy.ssoggysouls.limbo.LimboAdmissionQueue;
+import org.ssoggy.ssoggysouls.limbo.LimboSpawnPool;
 import org.ssoggy.ssoggysouls.util.MessageUtil;
 
 public class LimboServerListener implements Listener {
@@ -23,20 +27,17 @@ public class LimboServerListener implements Listener {
     private static final String PERM_BYPASS = "ssoggysouls.bypass";
 
     private final SSoggySouls plugin;
-    
-    // Cache limbo spawn location to avoid repeated lookups
-    private Location cachedLimboSpawn;
+    private final LimboSpawnPool spawnPool;
+    private final LimboAdmissionQueue admissionQueue;
 
     public LimboServerListener(SSoggySouls plugin) {
         this.plugin = plugin;
-        refreshLimboSpawnCache();
+        this.spawnPool = plugin.getLimboSpawnPool();
+        this.admissionQueue = new LimboAdmissionQueue(plugin, this::applyLimboState);
     }
-    
-    /**
-     * refreshes the cached limbo spawn location (call on config reload or spawn change).
-     */
-    public void refreshLimboSpawnCache() {
-        this.cachedLimboSpawn = plugin.getLimboSpawn();
+
+    public LimboAdmissionQueue getAdmissionQueue() {
+        return admissionQueue;
     }
 
     @EventHandler(priority = EventPriority.HIGHEST)
@@ -53,12 +54,13 @@ public class LimboServerListener implements Listener {
         Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
             boolean isDead = plugin.getDatabaseManager().isPlayerDead(player.getUniqueId());
 
-            Bukkit.getScheduler().runTask(plugin, () -> {
+            Bukkit.getScheduler().runTask(plugin, plugin.getProfiler().wrap(() -> {
                 if (!player.isOnline()) return;
 
                 if (isDead) {
+                    // dead set first so the player is protected while waiting in the queue
                     plugin.getLimboDeadPlayers().add(player.getUniqueId());
-                    applyLimboState(player);
+                    admissionQueue.enqueue(player);
                 } else {
                     if (plugin.isDebugMode()) {
                         plugin.debug(player.getName() + " is alive, visiting Limbo.");
@@ -66,16 +68,22 @@ public class LimboServerListener implements Listener {
                     player.setGameMode(GameMode.SURVIVAL);
                     player.sendMessage(MessageUtil.get("limbo-visitor-welcome"));
                 }
-            });
+            }));
         });
     }
 
     @EventHandler
     public void onPlayerQuit(PlayerQuitEvent event) {
-        plugin.getLimboDeadPlayers().remove(event.getPlayer().getUniqueId());
+        UUID uuid = event.getPlayer().getUniqueId();
+        plugin.getLimboDeadPlayers().remove(uuid);
+        admissionQueue.remove(uuid);
+        spawnPool.release(uuid);
     }
 
     private void applyLimboState(Player player) {
+        // revived while waiting in the admission queue
+        if (!plugin.getLimboDeadPlayers().contains(player.getUniqueId())) return;
+
         player.setGameMode(GameMode.ADVENTURE);
 
         player.getInventory().clear();
@@ -90,9 +98,10 @@ public class LimboServerListener implements Listener {
         player.setFoodLevel(20);
         player.setSaturation(20f);
 
-        Location spawn = cachedLimboSpawn; // Use cached value
-        if (spawn != null && spawn.getWorld() != null) {
-            player.teleport(findSafeLocation(spawn));
+        // safe spot was precomputed off-thread, no block lookups here
+        Location spawn = spawnPool.assign(player.getUniqueId());
+        if (spawn != null) {
+            player.teleport(spawn);
         } else {
             player.teleport(player.getWorld().getSpawnLocation());
             plugin.getLogger().warning("Limbo spawn not set! Using world spawn. "
@@ -106,28 +115,6 @@ public class LimboServerListener implements Listener {
         }
     }
 
-    private static Location findSafeLocation(Location loc) {
-        Location safe = loc.clone();
-        org.bukkit.World world = safe.getWorld();
-        if (world == null) return safe;
-
-        int maxY = world.getMaxHeight();
-        int safeBlockX = safe.getBlockX();
-        int safeBlockZ = safe.getBlockZ();
-        int startY = safe.getBlockY();
-
-        for (int blockY = startY; blockY < maxY - 1; blockY++) {
-            if (world.getBlockAt(safeBlockX, blockY, safeBlockZ).getType().isAir()
-                    && world.getBlockAt(safeBlockX, blockY + 1, safeBlockZ).getType().isAir()) {
-                safe.setY(blockY);
-                return safe;
-            }
-        }
-        // Fallback: use original + 2 to be above the block
-        safe.setY(startY + 2.0);
-        return safe;
-    }
-
     @EventHandler(priority = EventPriority.HIGHEST)
     public void onCommandPreprocess(PlayerCommandPreprocessEvent event) {
         Player player = event.getPlayer();
@@ -179,9 +166,21 @@ public class LimboServerListener implements Listener {
         Player player = event.getPlayer();
 
         Location to = event.getTo();
+        if (to != null && admissionQueue.isWaiting(player.getUniqueId())) {
+            // frozen while waiting for admission, head rotation is still allowed
+            Location from = event.getFrom();
+            if (from.getX() != to.getX() || from.getY() != to.getY() || from.getZ() != to.getZ()) {
+                Location locked = from.clone();
+                locked.setYaw(to.getYaw());
+                locked.setPitch(to.getPitch());
+                event.setTo(locked);
+            }
+            return;
+        }
+
         if (to != null && to.getY() < -64) {
-            Location spawn = cachedLimboSpawn; // Use cached value
-            if (spawn != null && spawn.getWorld() != null) {
+            Location spawn = spawnPool.getSpawnFor(player.getUniqueId());
+            if (spawn != null) {
                 player.teleport(spawn);
             } else {
                 player.teleport(player.getWorld().getSpawnLocation());
@@ -1,6 +1,7 @@
 package org.ssoggy.ssoggysouls.listener;
 
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
@@ -9,6 +10,7 @@ import java.util.logging.Level;
 
 import org.bukkit.Bukkit;
 import org.bukkit.GameMode;
+import org.bukkit.Location;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
@@ -22,9 +24,16 @@ import org.bukkit.scheduler.BukkitTask;
 
 import org.ssoggy.ssoggysouls.SSoggySouls;
 import org.ssoggy.ssoggysouls.database.DatabaseManager;
+import org.ssoggy.ssoggysouls.event.FinalDeathEvent;
+import org.ssoggy.ssoggysouls.event.GraceProtectedDeathEvent;
+import org.ssoggy.ssoggysouls.event.LifeLostEvent;
+import org.ssoggy.ssoggysouls.event.PlayerRevivedEvent;
+import org.ssoggy.ssoggysouls.event.SentToLimboEvent;
 import org.ssoggy.ssoggysouls.model.PlayerData;
 import org.ssoggy.ssoggysouls.util.MessageUtil;
+import org.ssoggy.ssoggysouls.util.PlayerRevivalUtil;
 import org.ssoggy.ssoggysouls.util.ServerTransferUtil;
+import org.ssoggy.ssoggysouls.vault.DeathInventoryVault;
 
 public class MainServerListener implements Listener {
 
@@ -35,30 +44,20 @@ public class MainServerListener implements Listener {
     private final SSoggySouls plugin;
     private final DatabaseManager db;
     
-    // Cache frequently accessed config values to avoid repeated lookups
-    private String cachedDeathMode;
-    private int cachedHybridTimeout;
-    
     private final Set<UUID> pendingLimbo = ConcurrentHashMap.newKeySet();
+    // data of players in pendingLimbo whose final death has been saved, for SentToLimboEvent
+    private final Map<UUID, PlayerData> finalDeathData = new ConcurrentHashMap<>();
     private final Set<UUID> pendingSurvivalRestore = ConcurrentHashMap.newKeySet();
     private final Set<UUID> expectedGamemodeChanges = ConcurrentHashMap.newKeySet();
     private final Set<UUID> hybridWindowUsed = ConcurrentHashMap.newKeySet();
     private final Map<UUID, BukkitTask> hybridPendingTransfers = new HashMap<>();
     private final Map<UUID, Long> reviveCooldowns = new ConcurrentHashMap<>();
+    // deaths counted at NORMAL, waiting for the HIGHEST pass; main thread only
+    private final Set<UUID> acceptedDeaths = new HashSet<>();
 
     public MainServerListener(SSoggySouls plugin) {
         this.plugin = plugin;
         this.db = plugin.getDatabaseManager();
-        // Initialize cached config values
-        refreshConfigCache();
-    }
-    
-    /**
-     * refreshes cached config values (call on config reload).
-     */
-    public void refreshConfigCache() {
-        this.cachedDeathMode = plugin.getDeathMode();
-        this.cachedHybridTimeout = plugin.getHybridTimeoutSeconds();
     }
 
     @EventHandler(priority = EventPriority.HIGHEST)
@@ -111,11 +110,11 @@ public class MainServerListener implements Listener {
         }
 
         if (data.isDead()) {
-            redirectToLimbo(player);
+            redirectToLimbo(player, data);
         } else {
             // gamemode check must happen on the main thread
             final boolean wasPreviouslyDead = data.getLastDeath() > 0;
-            Bukkit.getScheduler().runTask(plugin, () -> {
+            Bukkit.getScheduler().runTask(plugin, plugin.getProfiler().wrap(() -> {
                 if (!player.isOnline()) return;
                 if (player.getGameMode() != GameMode.SURVIVAL) {
                     if (plugin.isDebugMode()) {
@@ -129,7 +128,10 @@ public class MainServerListener implements Listener {
                         player.sendMessage(MessageUtil.get("revive-success"));
                     }
                 }
-            });
+                if (wasPreviouslyDead) {
+                    restoreDeathInventory(player);
+                }
+            }));
         }
     }
 
@@ -144,21 +146,21 @@ public class MainServerListener implements Listener {
 
         if (data.getGraceUntil() > 0) {
             final PlayerData finalData = data;
-            Bukkit.getScheduler().runTask(plugin, () -> {
+            Bukkit.getScheduler().runTask(plugin, plugin.getProfiler().wrap(() -> {
                 if (player.isOnline()) {
                     String timeRemaining = finalData.getGraceTimeRemaining(plugin.getGracePeriodMillis());
                     player.sendMessage(MessageUtil.get("death-grace-period",
                             "time_remaining", timeRemaining));
                 }
-            });
+            }));
         }
     }
 
-    private void redirectToLimbo(Player player) {
-        String deathMode = cachedDeathMode; // Use cached value
+    private void redirectToLimbo(Player player, PlayerData data) {
+        String deathMode = plugin.getDeathMode();
         plugin.debug(player.getName() + " is dead (mode: " + deathMode + ")");
 
-        Bukkit.getScheduler().runTask(plugin, () -> {
+        Bukkit.getScheduler().runTask(plugin, plugin.getProfiler().wrap(() -> {
             if (!player.isOnline()) return;
 
             switch (deathMode) {
@@ -169,23 +171,30 @@ public class MainServerListener implements Listener {
                 }
                 case SSoggySouls.MODE_HYBRID -> {
                     if (hybridWindowUsed.contains(player.getUniqueId())) {
-                        sendDirectToLimbo(player);
+                        sendDirectToLimbo(player, data);
                     } else {
-                        applyHybridOnJoin(player, player.getUniqueId());
+                        applyHybridOnJoin(player, player.getUniqueId(), data);
                     }
                 }
-                default -> sendDirectToLimbo(player);
+                default -> sendDirectToLimbo(player, data);
             }
-        });
+        }));
     }
 
-    private void sendDirectToLimbo(Player player) {
+    private void sendDirectToLimbo(Player player, PlayerData data) {
         player.sendMessage(MessageUtil.get(MSG_SENT_TO_LIMBO));
-        Bukkit.getScheduler().runTaskLater(plugin, () -> {
+        Bukkit.getScheduler().runTaskLater(plugin, plugin.getProfiler().wrap(() -> {
             if (player.isOnline()) {
-                ServerTransferUtil.sendToLimbo(player);
+                transferToLimbo(player, data);
             }
-        }, 20L);
+        }), 20L);
+    }
+
+    private void transferToLimbo(Player player, PlayerData data) {
+        if (data != null) {
+            Bukkit.getPluginManager().callEvent(new SentToLimboEvent(data));
+        }
+        ServerTransferUtil.sendToLimbo(player);
     }
 
     @EventHandler(priority = EventPriority.NORMAL)
@@ -203,18 +212,32 @@ public class MainServerListener implements Listener {
                 plugin.debug(player.getName() + " death ignored (revive cooldown active)");
             }
             pendingSurvivalRestore.add(uuid);
-            Bukkit.getScheduler().runTask(plugin, () -> {
+            Bukkit.getScheduler().runTask(plugin, plugin.getProfiler().wrap(() -> {
                 if (player.isOnline()) {
                     player.sendMessage(MessageUtil.get("death-cooldown"));
                 }
-            });
+            }));
             return;
         }
 
-        // mark for processing before async DB check
+        // mark for processing before async DB check, which starts once the drops are final
         pendingLimbo.add(uuid);
+        acceptedDeaths.add(uuid);
+    }
 
-        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> handleDeathAsync(player, uuid));
+    @EventHandler(priority = EventPriority.HIGHEST)
+    public void onPlayerDeathDropsFinal(PlayerDeathEvent event) {
+        Player player = event.getEntity();
+        UUID uuid = player.getUniqueId();
+        if (!acceptedDeaths.remove(uuid)) return;
+
+        // other plugins have changed the drops by now, the vault holds the final ones and
+        // gives them back if this turns out not to be the final death
+        DeathInventoryVault.Custody custody = plugin.getDeathVault() != null
+                ? DeathInventoryVault.takeCustody(event) : null;
+        Location deathLoc = player.getLocation();
+
+        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> handleDeathAsync(player, uuid, custody, deathLoc));
     }
 
     @EventHandler(priority = EventPriority.MONITOR)
@@ -235,7 +258,8 @@ public class MainServerListener implements Listener {
         });
     }
 
-    private void handleDeathAsync(Player player, UUID uuid) {
+    private void handleDeathAsync(Player player, UUID uuid, DeathInventoryVault.Custody custody,
+                                  Location deathLoc) {
         PlayerData data = db.getPlayer(uuid);
         if (data == null) {
             // Use grace period overload to ensure proper grace tracking for new players
@@ -246,6 +270,7 @@ public class MainServerListener implements Listener {
         }
 
         if (data.isInGracePeriod(plugin.getGracePeriodMillis())) {
+            releaseDrops(custody, deathLoc);
             pendingLimbo.remove(uuid);
             pendingSurvivalRestore.add(uuid);
             restoreIfAccidentalSpectator(player, uuid);
@@ -262,55 +287,75 @@ public class MainServerListener implements Listener {
         }
 
         if (data.isDead()) {
+            DeathInventoryVault vault = plugin.getDeathVault();
+            if (vault != null) {
+                vault.store(uuid, data.getLastDeath(), custody, deathLoc);
+            }
             // UUID stays in pendingLimbo
-            handleFinalDeath(player, uuid);
+            finalDeathData.put(uuid, data);
+            handleFinalDeath(player, data, deathLoc);
         } else {
+            releaseDrops(custody, deathLoc);
             pendingLimbo.remove(uuid);
             pendingSurvivalRestore.add(uuid);
             restoreIfAccidentalSpectator(player, uuid);
-            notifyLifeLost(player, remainingLives);
+            notifyLifeLost(player, data);
+        }
+    }
+
+    private void releaseDrops(DeathInventoryVault.Custody custody, Location deathLoc) {
+        DeathInventoryVault vault = plugin.getDeathVault();
+        if (vault != null) {
+            vault.release(custody, deathLoc);
         }
     }
 
     private void restoreIfAccidentalSpectator(Player player, UUID uuid) {
-        Bukkit.getScheduler().runTask(plugin, () -> {
+        Bukkit.getScheduler().runTask(plugin, plugin.getProfiler().wrap(() -> {
             if (player.isOnline() && player.getGameMode() == GameMode.SPECTATOR) {
                 expectedGamemodeChanges.add(uuid);
                 player.setGameMode(GameMode.SURVIVAL);
                 cancelHybridTransfer(uuid);
                 plugin.debug(player.getName() + " had lives — restored from spectator.");
             }
-        });
+        }));
     }
 
     private void notifyGracePeriod(Player player, PlayerData data) {
         String timeRemaining = data.getGraceTimeRemaining(plugin.getGracePeriodMillis());
         final String msg = MessageUtil.get("death-grace-period", "time_remaining", timeRemaining);
-        Bukkit.getScheduler().runTask(plugin, () -> {
+        Bukkit.getScheduler().runTask(plugin, plugin.getProfiler().wrap(() -> {
+            Bukkit.getPluginManager().callEvent(new GraceProtectedDeathEvent(data));
             if (player.isOnline()) {
                 player.sendMessage(msg);
             }
-        });
+        }));
     }
 
-    private void notifyLifeLost(Player player, int remainingLives) {
-        Bukkit.getScheduler().runTask(plugin, () -> {
+    private void notifyLifeLost(Player player, PlayerData data) {
+        int remainingLives = data.getLives();
+        Bukkit.getScheduler().runTask(plugin, plugin.getProfiler().wrap(() -> {
+            Bukkit.getPluginManager().callEvent(new LifeLostEvent(data));
             if (!player.isOnline()) return;
             if (remainingLives == 1) {
                 player.sendMessage(MessageUtil.get("death-last-life"));
             } else {
                 player.sendMessage(MessageUtil.get("death-life-lost", "lives", remainingLives));
             }
-        });
+        }));
     }
 
-    private void handleFinalDeath(Player player, UUID uuid) {
-        String deathMode = cachedDeathMode; // Use cached value
+    private void handleFinalDeath(Player player, PlayerData data, Location deathLoc) {
+        UUID uuid = data.getUuid();
+        String deathMode = plugin.getDeathMode();
 
         // send death message only, gamemode change sent to onPlayerRespawn
-        Bukkit.getScheduler().runTask(plugin, () -> {
+        Bukkit.getScheduler().runTask(plugin, plugin.getProfiler().wrap(() -> {
+            // heads, effects etc. hang off this, so it fires even if the player already left
+            Bukkit.getPluginManager().callEvent(new FinalDeathEvent(data, deathLoc));
             if (!player.isOnline()) {
                 pendingLimbo.remove(uuid);
+                finalDeathData.remove(uuid);
                 return;
             }
 
@@ -319,32 +364,32 @@ public class MainServerListener implements Listener {
                     player.sendMessage(MessageUtil.get(MSG_NOW_SPECTATOR));
                 case SSoggySouls.MODE_HYBRID ->
                     player.sendMessage(MessageUtil.get("death-hybrid-warning",
-                            "timeout", formatTime(cachedHybridTimeout))); // Use cached value
+                            "timeout", formatTime(plugin.getHybridTimeoutSeconds())));
                 default ->
                     player.sendMessage(MessageUtil.get(MSG_SENT_TO_LIMBO));
             }
-        });
+        }));
     }
 
-    private void applyHybridOnJoin(Player player, UUID uuid) {
+    private void applyHybridOnJoin(Player player, UUID uuid, PlayerData data) {
         hybridWindowUsed.add(uuid);
         player.sendMessage(MessageUtil.get("death-hybrid-warning",
-                "timeout", formatTime(cachedHybridTimeout))); // Use cached value
+                "timeout", formatTime(plugin.getHybridTimeoutSeconds())));
         expectedGamemodeChanges.add(uuid);
         player.setGameMode(GameMode.SPECTATOR);
-        scheduleHybridTimeout(player, uuid);
+        scheduleHybridTimeout(player, uuid, data);
     }
 
-    private void scheduleHybridTimeout(Player player, UUID uuid) {
-        int timeoutSeconds = cachedHybridTimeout; // Use cached value
+    private void scheduleHybridTimeout(Player player, UUID uuid, PlayerData data) {
+        int timeoutSeconds = plugin.getHybridTimeoutSeconds();
         long delayTicks = (long) timeoutSeconds * 20L;
-        BukkitTask task = Bukkit.getScheduler().runTaskLater(plugin, () -> {
+        BukkitTask task = Bukkit.getScheduler().runTaskLater(plugin, plugin.getProfiler().wrap(() -> {
             hybridPendingTransfers.remove(uuid);
             if (player.isOnline()) {
                 player.sendMessage(MessageUtil.get(MSG_SENT_TO_LIMBO));
-                ServerTransferUtil.sendToLimbo(player);
+                transferToLimbo(player, data);
             }
-        }, delayTicks);
+        }), delayTicks);
         hybridPendingTransfers.put(uuid, task);
     }
 
@@ -366,24 +411,25 @@ public class MainServerListener implements Listener {
         // Handle protected deaths (grace period, revive cooldown, or lives remaining)
         // Restore to survival since hardcore mode sets them to spectator on respawn
         if (pendingSurvivalRestore.remove(uuid)) {
-            Bukkit.getScheduler().runTaskLater(plugin, () -> {
+            Bukkit.getScheduler().runTaskLater(plugin, plugin.getProfiler().wrap(() -> {
                 if (player.isOnline() && player.getGameMode() != GameMode.SURVIVAL) {
                     expectedGamemodeChanges.add(uuid);
                     player.setGameMode(GameMode.SURVIVAL);
                     cancelHybridTransfer(uuid);
                     plugin.debug(player.getName() + " restored to survival after protected death.");
                 }
-            }, 1L);
+            }), 1L);
             return;
         }
 
         // only handle players who died their final actual death
         if (!pendingLimbo.remove(uuid)) return;
+        PlayerData data = finalDeathData.remove(uuid);
 
-        String deathMode = cachedDeathMode; // Use cached value
+        String deathMode = plugin.getDeathMode();
 
         // 1 tick delay so client doesn lag behind
-        Bukkit.getScheduler().runTaskLater(plugin, () -> {
+        Bukkit.getScheduler().runTaskLater(plugin, plugin.getProfiler().wrap(() -> {
             if (!player.isOnline()) return;
 
             switch (deathMode) {
@@ -395,28 +441,28 @@ public class MainServerListener implements Listener {
                     hybridWindowUsed.add(uuid);
                     expectedGamemodeChanges.add(uuid);
                     player.setGameMode(GameMode.SPECTATOR);
-                    scheduleHybridTimeout(player, uuid);
+                    scheduleHybridTimeout(player, uuid, data);
                 }
                 default -> {
                     if (plugin.isSpectatorOnDeath()) {
                         expectedGamemodeChanges.add(uuid);
                         player.setGameMode(GameMode.SPECTATOR);
                     }
-                    Bukkit.getScheduler().runTaskLater(plugin, () -> {
+                    Bukkit.getScheduler().runTaskLater(plugin, plugin.getProfiler().wrap(() -> {
                         if (player.isOnline()) {
-                            ServerTransferUtil.sendToLimbo(player);
+                            transferToLimbo(player, data);
                         }
                         expectedGamemodeChanges.remove(uuid);
-                    }, plugin.getSendToLimboDelayTicks());
+                    }), plugin.getSendToLimboDelayTicks());
                 }
             }
-        }, 1L);
+        }), 1L);
     }
 
     @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
     public void onGameModeChange(PlayerGameModeChangeEvent event) {
         // detect external SPECTATOR->SURVIVAL change (HRM or other plugin revive)
-        String deathMode = cachedDeathMode; // Use cached value
+        String deathMode = plugin.getDeathMode();
         boolean shouldDetect = !SSoggySouls.MODE_LIMBO.equals(deathMode) || plugin.isDetectHrmRevive();
         if (!shouldDetect) return;
 
@@ -443,12 +489,23 @@ public class MainServerListener implements Listener {
                     plugin.getLogger().log(Level.INFO,
                             "HRM revive detected for {0}! Updating database.",
                             player.getName());
-                    db.revivePlayer(uuid, plugin.getLivesOnRevive());
+                    if (db.revivePlayer(uuid, plugin.getLivesOnRevive())) {
+                        PlayerRevivalUtil.completeRevive(plugin, data, plugin.getLivesOnRevive(),
+                                PlayerRevivedEvent.Cause.EXTERNAL);
+                        Bukkit.getScheduler().runTask(plugin, plugin.getProfiler().wrap(() -> restoreDeathInventory(player)));
+                    }
                 }
             });
         }
     }
 
+    private void restoreDeathInventory(Player player) {
+        DeathInventoryVault vault = plugin.getDeathVault();
+        if (vault != null && player.isOnline()) {
+            vault.restoreOnRevive(player);
+        }
+    }
+
     private void grantReviveCooldown(UUID uuid) {
         int seconds = plugin.getReviveCooldownSeconds();
         if (seconds > 0) {
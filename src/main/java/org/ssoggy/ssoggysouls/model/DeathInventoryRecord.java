@@ -0,0 +1,13 @@
+package org.ssoggy.ssoggysouls.model;
+
+import java.util.UUID;
+
+/**
+ * a stored death inventory blob as read from the vault table.
+ *
+ * @param uuid the owner of the inventory
+ * @param deathTime epoch millis of the final death it was captured at
+ * @param data compressed inventory blob (see DeathInventoryVault)
+ * @param restored whether it has already been handed back
+ */
+public record DeathInventoryRecord(UUID uuid, long deathTime, byte[] data, boolean restored) {}
@@ -0,0 +1,42 @@
+package org.ssoggy.ssoggysouls.model;
+
+import java.util.UUID;
+
+/**
+ * a placed head block or dropped head item recorded in the head index.
+ *
+ * @param owner the player whose head it is
+ * @param kind whether it is a block or an item entity
+ * @param world world name at the time it was recorded
+ * @param x block x
+ * @param y block y
+ * @param z block z
+ * @param entityId the item entity's UUID, null for blocks
+ */
+public record HeadArtifact(UUID owner, Kind kind, String world, int x, int y, int z, UUID entityId) {
+
+    public enum Kind { BLOCK, ITEM }
+
+    public static HeadArtifact block(UUID owner, String world, int x, int y, int z) {
+        return new HeadArtifact(owner, Kind.BLOCK, world, x, y, z, null);
+    }
+
+    public static HeadArtifact item(UUID owner, String world, int x, int y, int z, UUID entityId) {
+        return new HeadArtifact(owner, Kind.ITEM, world, x, y, z, entityId);
+    }
+
+    /**
+     * unique key in the index: the block position for blocks, the entity UUID for items.
+     */
+    public String key() {
+        return kind == Kind.BLOCK ? blockKey(world, x, y, z) : itemKey(entityId);
+    }
+
+    public static String blockKey(String world, int x, int y, int z) {
+        return "b:" + world + ":" + x + ":" + y + ":" + z;
+    }
+
+    public static String itemKey(UUID entityId) {
+        return "i:" + entityId;
+    }
+}
@@ -0,0 +1,22 @@
+package org.ssoggy.ssoggysouls.model;
+
+import java.util.UUID;
+
+/**
+ * a player's skin as last seen on join, used to build head profiles without a lookup.
+ *
+ * @param uuid the player
+ * @param name their name when the skin was captured
+ * @param skinUrl the textures.minecraft.net skin URL
+ * @param slim whether the skin uses the slim (Alex) model
+ * @param updatedAt when the entry was captured or last confirmed, epoch millis
+ */
+public record HeadTexture(UUID uuid, String name, String skinUrl, boolean slim, long updatedAt) {
+
+    /**
+     * same skin and name, ignoring when it was captured.
+     */
+    public boolean sameSkin(HeadTexture other) {
+        return other != null && skinUrl.equals(other.skinUrl) && slim == other.slim && name.equals(other.name);
+    }
+}
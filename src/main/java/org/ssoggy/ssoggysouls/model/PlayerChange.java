@@ -0,0 +1,17 @@
+package org.ssoggy.ssoggysouls.model;
+
+/**
+ * one player's row before and after a bulk update.
+ *
+ * @param before the row as locked before the update
+ * @param after the row as written
+ */
+public record PlayerChange(PlayerData before, PlayerData after) {
+
+    /**
+     * whether the update brought a dead player back.
+     */
+    public boolean revived() {
+        return before.isDead() && !after.isDead();
+    }
+}
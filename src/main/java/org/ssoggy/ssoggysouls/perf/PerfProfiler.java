@@ -0,0 +1,273 @@
+package org.ssoggy.ssoggysouls.perf;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+
+import org.bukkit.Bukkit;
+import org.bukkit.event.Event;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.Listener;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.plugin.PluginManager;
+import org.bukkit.scheduler.BukkitTask;
+
+/**
+ * opt-in timing of the plugin's event handlers and main-thread callbacks.
+ *
+ * <p>when enabled, listeners are registered through {@link #registerEvents} so every
+ * handler method runs inside a timing executor, and scheduled callbacks passed through
+ * {@link #wrap} are timed the same way, named after the code that scheduled them. each
+ * timed site keeps call count, total and max nanoseconds plus its worst single tick in
+ * striped counters, bucketed per minute so /psadmin perf can show the last 1 and 15
+ * minutes. handlers of async events are called but not timed, since they cost the main
+ * thread nothing and would inflate the tick figures. when disabled, listeners are
+ * registered normally and wrap returns the task as is, so nothing is measured and
+ * nothing is paid.
+ */
+public class PerfProfiler {
+
+    private static final long MINUTE_TICKS = 1200L;
+    // 15 finished minutes plus the one being filled
+    private static final int BUCKETS = 16;
+    private static final StackWalker WALKER = StackWalker.getInstance();
+
+    /**
+     * totals for one site over a window.
+     *
+     * @param name handler or callback name
+     * @param calls number of calls
+     * @param totalNanos time spent in all calls
+     * @param maxNanos longest single call
+     * @param worstTickNanos most time spent in one tick
+     */
+    public record Sample(String name, long calls, long totalNanos, long maxNanos, long worstTickNanos) {}
+
+    private final boolean enabled;
+    private final Map<String, Site> sites = new ConcurrentHashMap<>();
+    private BukkitTask ticker;
+    // written on the main thread only
+    private volatile int current;
+    private volatile int finishedMinutes;
+    private long ticks;
+
+    public PerfProfiler(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void start(Plugin plugin) {
+        if (enabled) {
+            ticker = Bukkit.getScheduler().runTaskTimer(plugin, this::endTick, 1L, 1L);
+        }
+    }
+
+    public void shutdown() {
+        if (ticker != null) ticker.cancel();
+    }
+
+    /**
+     * registers the listener's handlers, timed when the profiler is on.
+     */
+    public void registerEvents(Listener listener, Plugin plugin) {
+        PluginManager pm = plugin.getServer().getPluginManager();
+        if (!enabled) {
+            pm.registerEvents(listener, plugin);
+            return;
+        }
+
+        // same method discovery as bukkit: public inherited methods plus everything declared
+        Class<?> type = listener.getClass();
+        Set<Method> methods = new LinkedHashSet<>(Arrays.asList(type.getMethods()));
+        methods.addAll(Arrays.asList(type.getDeclaredMethods()));
+        for (Method method : methods) {
+            EventHandler handler = method.getAnnotation(EventHandler.class);
+            if (handler == null || method.isBridge() || method.isSynthetic()) continue;
+            Class<?>[] params = method.getParameterTypes();
+            if (params.length != 1 || !Event.class.isAssignableFrom(params[0])) {
+                plugin.getLogger().log(Level.WARNING, "Skipping invalid event handler {0}#{1}",
+                        new Object[]{type.getSimpleName(), method.getName()});
+                continue;
+            }
+            Class<? extends Event> eventClass = params[0].asSubclass(Event.class);
+            method.setAccessible(true);
+            Site site = site(type.getSimpleName() + "#" + method.getName());
+            pm.registerEvent(eventClass, listener, handler.priority(),
+                    new TimedEventExecutor(method, eventClass, site), plugin, handler.ignoreCancelled());
+        }
+    }
+
+    /**
+     * the task timed under the name of whoever scheduled it, e.g.
+     * {@code MainServerListener.onPlayerJoin:128}; the task itself when the profiler is off.
+     */
+    public Runnable wrap(Runnable task) {
+        if (!enabled) return task;
+        String name = WALKER.walk(frames -> frames
+                .skip(1)
+                .findFirst()
+                .map(f -> simpleName(f.getClassName()) + "." + methodName(f.getMethodName()) + ":" + f.getLineNumber())
+                .orElse("task"));
+        Site site = site(name);
+        return () -> {
+            long start = System.nanoTime();
+            try {
+                task.run();
+            } finally {
+                site.record(System.nanoTime() - start);
+            }
+        };
+    }
+
+    private static String simpleName(String className) {
+        String name = className.substring(className.lastIndexOf('.') + 1);
+        int nested = name.indexOf('$');
+        return nested > 0 ? name.substring(0, nested) : name;
+    }
+
+    // lambda$onPlayerJoin$3 -> onPlayerJoin
+    private static String methodName(String name) {
+        if (!name.startsWith("lambda$")) return name;
+        int end = name.indexOf('$', "lambda$".length());
+        return end > 0 ? name.substring("lambda$".length(), end) : name;
+    }
+
+    private Site site(String name) {
+        return sites.computeIfAbsent(name, n -> new Site(current));
+    }
+
+    // main thread, once per tick
+    private void endTick() {
+        for (Site site : sites.values()) {
+            site.endTick();
+        }
+        if (++ticks % MINUTE_TICKS == 0) {
+            int next = (current + 1) % BUCKETS;
+            for (Site site : sites.values()) {
+                site.startBucket(next);
+            }
+            current = next;
+            finishedMinutes = Math.min(finishedMinutes + 1, BUCKETS - 1);
+        }
+    }
+
+    /**
+     * totals over the last finished minutes (or the current one, before any finished),
+     * most total time first.
+     *
+     * @param minutes how many minutes, 1 to 15
+     * @param limit at most this many sites
+     */
+    public List<Sample> top(int minutes, int limit) {
+        List<Integer> buckets = new ArrayList<>();
+        if (finishedMinutes == 0) {
+            buckets.add(current);
+        } else {
+            for (int i = 1; i <= Math.min(minutes, finishedMinutes); i++) {
+                buckets.add(Math.floorMod(current - i, BUCKETS));
+            }
+        }
+
+        List<Sample> samples = new ArrayList<>();
+        for (Map.Entry<String, Site> entry : sites.entrySet()) {
+            Sample sample = entry.getValue().sum(entry.getKey(), buckets);
+            if (sample.calls() > 0) samples.add(sample);
+        }
+        samples.sort(Comparator.comparingLong(Sample::totalNanos).reversed());
+        return samples.size() > limit ? samples.subList(0, limit) : samples;
+    }
+
+    /**
+     * minutes covered by {@link #top}: finished minutes, capped at the request, or 0 while
+     * the first minute is still running.
+     */
+    public int coveredMinutes(int minutes) {
+        return Math.min(minutes, finishedMinutes);
+    }
+
+    /**
+     * ticks covered by {@link #top} for the same request, to turn totals into a share of
+     * tick time.
+     */
+    public long coveredTicks(int minutes) {
+        return finishedMinutes == 0 ? Math.max(1, ticks) : coveredMinutes(minutes) * MINUTE_TICKS;
+    }
+
+    /**
+     * one timed handler or callback.
+     */
+    static final class Site {
+
+        private final Bucket[] buckets = new Bucket[BUCKETS];
+        private final LongAdder thisTick = new LongAdder();
+        private volatile int live;
+
+        Site(int live) {
+            for (int i = 0; i < BUCKETS; i++) {
+                buckets[i] = new Bucket();
+            }
+            this.live = live;
+        }
+
+        void record(long nanos) {
+            Bucket bucket = buckets[live];
+            bucket.calls.increment();
+            bucket.total.add(nanos);
+            bucket.max.accumulateAndGet(nanos, Math::max);
+            thisTick.add(nanos);
+        }
+
+        void endTick() {
+            long spent = thisTick.sumThenReset();
+            if (spent > 0) {
+                buckets[live].worstTick.accumulateAndGet(spent, Math::max);
+            }
+        }
+
+        void startBucket(int index) {
+            buckets[index].reset();
+            live = index;
+        }
+
+        Sample sum(String name, List<Integer> indexes) {
+            long calls = 0;
+            long total = 0;
+            long max = 0;
+            long worstTick = 0;
+            for (int i : indexes) {
+                Bucket b = buckets[i];
+                calls += b.calls.sum();
+                total += b.total.sum();
+                max = Math.max(max, b.max.get());
+                worstTick = Math.max(worstTick, b.worstTick.get());
+            }
+            return new Sample(name, calls, total, max, worstTick);
+        }
+    }
+
+    private static final class Bucket {
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder total = new LongAdder();
+        private final AtomicLong max = new AtomicLong();
+        private final AtomicLong worstTick = new AtomicLong();
+
+        void reset() {
+            calls.reset();
+            total.reset();
+            max.set(0);
+            worstTick.set(0);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package org.ssoggy.ssoggysouls.perf;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+import org.bukkit.event.Event;
+import org.bukkit.event.EventException;
+import org.bukkit.event.Listener;
+import org.bukkit.plugin.EventExecutor;
+
+/**
+ * calls one event handler method and records how long it took. async events run off the
+ * main thread, and may wait there for a long time, so they are called but not recorded.
+ */
+final class TimedEventExecutor implements EventExecutor {
+
+    private final Method method;
+    private final Class<? extends Event> eventClass;
+    private final PerfProfiler.Site site;
+
+    TimedEventExecutor(Method method, Class<? extends Event> eventClass, PerfProfiler.Site site) {
+        this.method = method;
+        this.eventClass = eventClass;
+        this.site = site;
+    }
+
+    @Override
+    public void execute(Listener listener, Event event) throws EventException {
+        // handler lists are shared with subclasses, same check as bukkit's own executor
+        if (!eventClass.isInstance(event)) return;
+        if (event.isAsynchronous()) {
+            invoke(listener, event);
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            invoke(listener, event);
+        } finally {
+            site.record(System.nanoTime() - start);
+        }
+    }
+
+    private void invoke(Listener listener, Event event) throws EventException {
+        try {
+            method.invoke(listener, event);
+        } catch (InvocationTargetException e) {
+            throw new EventException(e.getCause());
+        } catch (IllegalAccessException e) {
+            throw new EventException(e);
+        }
+    }
+}
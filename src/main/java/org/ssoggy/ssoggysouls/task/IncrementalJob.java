@@ -0,0 +1,24 @@
+package org.ssoggy.ssoggysouls.task;
+
+/**
+ * a piece of sliced main-thread work run by the {@link TickBudgetScheduler}.
+ *
+ * <p>each {@link #step()} should do one small unit (one entity, one chunk, one player)
+ * so the scheduler can stop as soon as the tick's time budget is used up.
+ */
+public interface IncrementalJob {
+
+    /**
+     * does one unit of work on the main thread.
+     *
+     * @return true once the job has nothing left to do
+     */
+    boolean step();
+
+    /**
+     * short label used in stats and error logs.
+     */
+    default String name() {
+        return getClass().getSimpleName();
+    }
+}
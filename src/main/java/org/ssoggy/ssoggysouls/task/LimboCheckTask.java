@@ -37,7 +37,7 @@ public class LimboCheckTask extends BukkitRunnable {
         List<UUID> toRelease = findRevivedPlayers(onlinePlayers);
 
         if (!toRelease.isEmpty()) {
-            Bukkit.getScheduler().runTask(plugin, () -> releaseAll(toRelease));
+            Bukkit.getScheduler().runTask(plugin, plugin.getProfiler().wrap(() -> releaseAll(toRelease)));
         }
     }
 
@@ -71,6 +71,7 @@ public class LimboCheckTask extends BukkitRunnable {
         Set<UUID> deadPlayers = plugin.getLimboDeadPlayers();
         for (UUID uuid : uuids) {
             deadPlayers.remove(uuid);
+            plugin.getLimboSpawnPool().release(uuid);
             Player player = Bukkit.getPlayer(uuid);
             if (player != null && player.isOnline()) {
                 releasePlayer(player);
@@ -84,10 +85,10 @@ public class LimboCheckTask extends BukkitRunnable {
         player.setGameMode(org.bukkit.GameMode.SURVIVAL);
         player.sendMessage(MessageUtil.get("revive-success"));
 
-        Bukkit.getScheduler().runTaskLater(plugin, () -> {
+        Bukkit.getScheduler().runTaskLater(plugin, plugin.getProfiler().wrap(() -> {
             if (player.isOnline()) {
                 ServerTransferUtil.sendToMain(player);
             }
-        }, 40L);
+        }), 40L);
     }
 }
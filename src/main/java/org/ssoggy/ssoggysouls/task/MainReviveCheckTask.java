@@ -38,7 +38,7 @@ public class MainReviveCheckTask extends BukkitRunnable {
         List<UUID> revived = findRevivedPlayers(spectators);
 
         if (!revived.isEmpty()) {
-            Bukkit.getScheduler().runTask(plugin, () -> restoreAll(revived));
+            Bukkit.getScheduler().runTask(plugin, plugin.getProfiler().wrap(() -> restoreAll(revived)));
         }
     }
 
@@ -78,6 +78,9 @@ public class MainReviveCheckTask extends BukkitRunnable {
             if (player != null && player.isOnline()) {
                 player.setGameMode(GameMode.SURVIVAL);
                 player.sendMessage(MessageUtil.get("revive-success"));
+                if (plugin.getDeathVault() != null) {
+                    plugin.getDeathVault().restoreOnRevive(player);
+                }
                 plugin.getLogger().log(Level.INFO,
                         "Restored {0} from spectator to survival (revived in DB).",
                         player.getName());
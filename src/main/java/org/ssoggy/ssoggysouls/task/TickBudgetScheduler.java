@@ -0,0 +1,183 @@
+package org.ssoggy.ssoggysouls.task;
+
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.logging.Level;
+
+import org.bukkit.Bukkit;
+import org.bukkit.scheduler.BukkitRunnable;
+
+import org.ssoggy.ssoggysouls.SSoggySouls;
+
+/**
+ * runs queued {@link IncrementalJob}s on the main thread within a per-tick time budget.
+ *
+ * <p>jobs take turns one step at a time until the budget (in nanoseconds) is spent. the
+ * budget adapts to server load: it shrinks quickly when recent tick times approach 50 ms
+ * and grows back slowly while the server is idle. tick time comes from Paper's
+ * getAverageTickTime when available, otherwise from the measured interval between our
+ * own runs. only touched from the main thread.
+ */
+public class TickBudgetScheduler extends BukkitRunnable {
+
+    private static final double TICK_MS = 50.0;
+    private static final double BUSY_MS = 40.0;
+    private static final double IDLE_MS = 25.0;
+    private static final double LATE_MARGIN_MS = 1.0;
+    // weight of the newest sample in the fallback tick-time average
+    private static final double EMA_ALPHA = 0.1;
+
+    private final SSoggySouls plugin;
+    private final Deque<IncrementalJob> jobs = new ArrayDeque<>();
+    private final Method averageTickTime;
+
+    private long minBudgetNanos;
+    private long maxBudgetNanos;
+    private long budgetNanos;
+
+    private long lastRunNanos;
+    private double measuredMspt = TICK_MS;
+    private long lastUsedNanos;
+    private long totalSteps;
+    private long completedJobs;
+
+    public TickBudgetScheduler(SSoggySouls plugin) {
+        this.plugin = plugin;
+        this.averageTickTime = findAverageTickTime();
+        refreshSettings();
+        this.budgetNanos = toNanos(plugin.getTickBudgetInitialMs());
+    }
+
+    /**
+     * picks up new budget limits after a config reload.
+     */
+    public void refreshSettings() {
+        minBudgetNanos = toNanos(plugin.getTickBudgetMinMs());
+        maxBudgetNanos = Math.max(minBudgetNanos, toNanos(plugin.getTickBudgetMaxMs()));
+        budgetNanos = clamp(budgetNanos);
+    }
+
+    /**
+     * queues a job; it starts on the next tick. main thread only.
+     */
+    public void submit(IncrementalJob job) {
+        jobs.addLast(job);
+    }
+
+    @Override
+    public void run() {
+        long start = System.nanoTime();
+        updateMspt(start);
+        adaptBudget();
+
+        if (jobs.isEmpty()) {
+            lastUsedNanos = 0;
+            return;
+        }
+
+        long deadline = start + budgetNanos;
+        long now = start;
+        while (!jobs.isEmpty() && now < deadline) {
+            IncrementalJob job = jobs.pollFirst();
+            boolean done;
+            try {
+                done = job.step();
+            } catch (RuntimeException e) {
+                plugin.getLogger().log(Level.WARNING, "Incremental job " + job.name() + " failed, dropping it", e);
+                done = true;
+            }
+            totalSteps++;
+            if (done) {
+                completedJobs++;
+            } else {
+                jobs.addLast(job);
+            }
+            now = System.nanoTime();
+        }
+        lastUsedNanos = now - start;
+    }
+
+    private void updateMspt(long now) {
+        if (lastRunNanos != 0) {
+            double interval = (now - lastRunNanos) / 1_000_000.0;
+            measuredMspt += EMA_ALPHA * (interval - measuredMspt);
+        }
+        lastRunNanos = now;
+    }
+
+    private void adaptBudget() {
+        double mspt = getMspt();
+        if (averageTickTime == null) {
+            // only lateness is visible here: back off when ticks run late, grow while on time
+            if (mspt > TICK_MS + LATE_MARGIN_MS) {
+                budgetNanos = clamp(budgetNanos / 2);
+            } else {
+                budgetNanos = clamp(budgetNanos + budgetNanos / 50 + 1);
+            }
+            return;
+        }
+        if (mspt >= TICK_MS) {
+            budgetNanos = clamp(budgetNanos / 2);
+        } else if (mspt >= BUSY_MS) {
+            budgetNanos = clamp(budgetNanos * 3 / 4);
+        } else if (mspt <= IDLE_MS) {
+            budgetNanos = clamp(budgetNanos + budgetNanos / 20 + 1);
+        }
+    }
+
+    /**
+     * recent milliseconds per tick, from Paper if possible. the fallback is the smoothed
+     * interval between runs, which stays at 50 ms until ticks actually run late.
+     */
+    public double getMspt() {
+        if (averageTickTime != null) {
+            try {
+                return ((Number) averageTickTime.invoke(Bukkit.getServer())).doubleValue();
+            } catch (ReflectiveOperationException | ClassCastException e) {
+                // fall through to the measured value
+            }
+        }
+        return measuredMspt;
+    }
+
+    private static Method findAverageTickTime() {
+        try {
+            return Bukkit.getServer().getClass().getMethod("getAverageTickTime");
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    private long clamp(long nanos) {
+        return Math.max(minBudgetNanos, Math.min(maxBudgetNanos, nanos));
+    }
+
+    private static long toNanos(double millis) {
+        return (long) (millis * 1_000_000L);
+    }
+
+    public int getQueuedJobs() {
+        return jobs.size();
+    }
+
+    public long getBudgetMicros() {
+        return budgetNanos / 1_000L;
+    }
+
+    public long getLastUsedMicros() {
+        return lastUsedNanos / 1_000L;
+    }
+
+    public long getTotalSteps() {
+        return totalSteps;
+    }
+
+    public long getCompletedJobs() {
+        return completedJobs;
+    }
+
+    public boolean isUsingServerMspt() {
+        return averageTickTime != null;
+    }
+}
@@ -0,0 +1,28 @@
+package org.ssoggy.ssoggysouls.util;
+
+import org.bukkit.Bukkit;
+import org.bukkit.event.Event;
+import org.bukkit.plugin.Plugin;
+import org.ssoggy.ssoggysouls.SSoggySouls;
+
+public final class EventUtil {
+
+    private EventUtil() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * calls a plugin event on the main thread, right away if already on it.
+     *
+     * @param plugin the plugin to schedule with
+     * @param event the event to call
+     */
+    public static void callSync(Plugin plugin, Event event) {
+        if (Bukkit.isPrimaryThread()) {
+            Bukkit.getPluginManager().callEvent(event);
+        } else {
+            Bukkit.getScheduler().runTask(plugin, SSoggySouls.getInstance().getProfiler().wrap(() ->
+                    Bukkit.getPluginManager().callEvent(event)));
+        }
+    }
+}
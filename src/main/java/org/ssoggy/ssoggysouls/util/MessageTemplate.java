@@ -0,0 +1,80 @@
+package org.ssoggy.ssoggysouls.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.bukkit.ChatColor;
+
+/**
+ * a configured message split once into literal parts and %placeholder% slots, with colour
+ * codes already translated.
+ *
+ * <p>rendering walks the parts into a per-thread builder, so sending a message costs one
+ * pass and one string. a message without placeholders is a constant and rendering it
+ * allocates nothing. placeholder values are inserted as is, colour codes in them are not
+ * translated.
+ */
+final class MessageTemplate {
+
+    private static final Pattern PLACEHOLDER = Pattern.compile("%([A-Za-z0-9_-]+)%");
+    private static final ThreadLocal<StringBuilder> BUILDER = ThreadLocal.withInitial(() -> new StringBuilder(128));
+
+    // literals[i] comes before keys[i]; the last literal has no key after it
+    private final String[] literals;
+    private final String[] keys;
+    private final String constant;
+
+    private MessageTemplate(String[] literals, String[] keys) {
+        this.literals = literals;
+        this.keys = keys;
+        this.constant = keys.length == 0 ? literals[0] : null;
+    }
+
+    /**
+     * parses a message in '&amp;' colour code form.
+     */
+    static MessageTemplate compile(String text) {
+        String colored = ChatColor.translateAlternateColorCodes('&', text);
+        List<String> literals = new ArrayList<>();
+        List<String> keys = new ArrayList<>();
+        Matcher m = PLACEHOLDER.matcher(colored);
+        int last = 0;
+        while (m.find()) {
+            literals.add(colored.substring(last, m.start()));
+            keys.add(m.group(1));
+            last = m.end();
+        }
+        literals.add(colored.substring(last));
+        return new MessageTemplate(literals.toArray(new String[0]), keys.toArray(new String[0]));
+    }
+
+    /**
+     * the message with each slot filled from key/value pairs; slots without a value keep
+     * their %key% text.
+     */
+    String render(Object... replacements) {
+        if (constant != null) return constant;
+
+        StringBuilder sb = BUILDER.get();
+        sb.setLength(0);
+        for (int i = 0; i < keys.length; i++) {
+            sb.append(literals[i]);
+            appendValue(sb, keys[i], replacements);
+        }
+        sb.append(literals[keys.length]);
+        return sb.toString();
+    }
+
+    private static void appendValue(StringBuilder sb, String key, Object[] replacements) {
+        for (int i = 0; i < replacements.length - 1; i += 2) {
+            Object name = replacements[i];
+            if (key.equals(name) || (!(name instanceof String) && key.equals(String.valueOf(name)))) {
+                sb.append(replacements[i + 1]);
+                return;
+            }
+        }
+        sb.append('%').append(key).append('%');
+    }
+}
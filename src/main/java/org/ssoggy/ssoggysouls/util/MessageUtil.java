@@ -9,13 +9,26 @@ import org.bukkit.configuration.file.FileConfiguration;
 
 public final class MessageUtil {
 
-    private static String prefix = "&8[&4☠&8] &r";
-    private static final Map<String, String> messages = new HashMap<>();
+    private static final String DEFAULT_PREFIX = "&8[&4☠&8] &r";
+
+    /**
+     * one configured message, parsed with and without the prefix.
+     */
+    private record Templates(MessageTemplate prefixed, MessageTemplate plain) {}
+
+    /**
+     * everything loaded from the messages section, built on reload and swapped whole so
+     * async senders never see a half-filled map or a prefix from another load.
+     */
+    private record Catalog(String prefix, Map<String, String> raw, Map<String, Templates> templates) {}
+
+    private static volatile Catalog catalog = new Catalog(DEFAULT_PREFIX, Map.of(), Map.of());
 
     private MessageUtil() {}
 
     public static void loadMessages(FileConfiguration config) {
-        prefix = config.getString("messages.prefix", "&8[&4☠&8] &r");
+        String prefix = config.getString("messages.prefix", DEFAULT_PREFIX);
+        Map<String, String> messages = new HashMap<>();
 
         ConfigurationSection section = config.getConfigurationSection("messages");
         if (section != null) {
@@ -24,10 +37,18 @@ public final class MessageUtil {
                 messages.put(key, config.getString("messages." + key, ""));
             }
         }
+
+        Map<String, Templates> compiled = new HashMap<>();
+        for (Map.Entry<String, String> entry : messages.entrySet()) {
+            compiled.put(entry.getKey(), new Templates(
+                    MessageTemplate.compile(prefix + entry.getValue()),
+                    MessageTemplate.compile(entry.getValue())));
+        }
+        catalog = new Catalog(prefix, Map.copyOf(messages), Map.copyOf(compiled));
     }
 
     public static String getRaw(String key, Object... replacements) {
-        String messageContent = messages.getOrDefault(key, "&cMissing message: " + key);
+        String messageContent = catalog.raw().getOrDefault(key, missing(key));
 
         for (int i = 0; i < replacements.length - 1; i += 2) {
             String placeholder = "%" + replacements[i] + "%";
@@ -38,15 +59,24 @@ public final class MessageUtil {
     }
 
     public static String get(String key, Object... replacements) {
-        return colorize(prefix + getRaw(key, replacements));
+        Catalog c = catalog;
+        Templates t = c.templates().get(key);
+        if (t == null) return colorize(c.prefix() + missing(key));
+        return t.prefixed().render(replacements);
     }
 
     public static String getNoPrefix(String key, Object... replacements) {
-        return colorize(getRaw(key, replacements));
+        Templates t = catalog.templates().get(key);
+        if (t == null) return colorize(missing(key));
+        return t.plain().render(replacements);
     }
 
     public static String colorize(String text) {
         if (text == null) return "";
         return ChatColor.translateAlternateColorCodes('&', text);
     }
+
+    private static String missing(String key) {
+        return "&cMissing message: " + key;
+    }
 }
@@ -1,17 +1,58 @@
 package org.ssoggy.ssoggysouls.util;
 
 import org.ssoggy.ssoggysouls.SSoggySouls;
+import org.ssoggy.ssoggysouls.event.PlayerRevivedEvent;
 import org.ssoggy.ssoggysouls.model.PlayerData;
 import org.bukkit.Bukkit;
 import org.bukkit.GameMode;
 import org.bukkit.entity.Player;
 
+import java.util.List;
+
 public final class PlayerRevivalUtil {
 
     private PlayerRevivalUtil() {
         // Private constructor to prevent instantiation
     }
 
+    /**
+     * finishes a revive that was just committed to the database: updates the snapshot,
+     * calls {@link PlayerRevivedEvent} (head cleanup listens for it) and brings the player
+     * back if they are spectating on this server. safe to call from any thread.
+     *
+     * @param plugin the SSoggySouls plugin instance
+     * @param data the player data as read before the revive
+     * @param livesRestored the lives the player was revived with
+     * @param cause what revived the player
+     */
+    public static void completeRevive(SSoggySouls plugin, PlayerData data, int livesRestored,
+                                      PlayerRevivedEvent.Cause cause) {
+        data.revive(livesRestored);
+        EventUtil.callSync(plugin, new PlayerRevivedEvent(data, cause));
+        restoreOnlineSpectator(plugin, data);
+    }
+
+    /**
+     * {@link #completeRevive} for many players at once, as one main-thread task instead
+     * of one per player.
+     *
+     * @param plugin the SSoggySouls plugin instance
+     * @param revived the player data of each revived player as read before the revive
+     * @param livesRestored the lives every player was revived with
+     * @param cause what revived the players
+     */
+    public static void completeRevives(SSoggySouls plugin, List<PlayerData> revived, int livesRestored,
+                                       PlayerRevivedEvent.Cause cause) {
+        if (revived.isEmpty()) return;
+        Bukkit.getScheduler().runTask(plugin, plugin.getProfiler().wrap(() -> {
+            for (PlayerData data : revived) {
+                data.revive(livesRestored);
+                Bukkit.getPluginManager().callEvent(new PlayerRevivedEvent(data, cause));
+                restoreIfSpectating(plugin, data);
+            }
+        }));
+    }
+
     /**
      * restores an online spectator to survival and optionally transfers them from limbo.
      *
@@ -19,24 +60,39 @@ public final class PlayerRevivalUtil {
      * @param data the player data
      */
     public static void restoreOnlineSpectator(SSoggySouls plugin, PlayerData data) {
+        Bukkit.getScheduler().runTask(plugin, plugin.getProfiler().wrap(() -> restoreIfSpectating(plugin, data)));
+    }
+
+    /**
+     * {@link #restoreOnlineSpectator} for many players in one main-thread task.
+     *
+     * @param plugin the SSoggySouls plugin instance
+     * @param players the player data of each player
+     */
+    public static void restoreOnlineSpectators(SSoggySouls plugin, List<PlayerData> players) {
+        if (players.isEmpty()) return;
+        Bukkit.getScheduler().runTask(plugin, plugin.getProfiler().wrap(() -> players.forEach(data -> restoreIfSpectating(plugin, data))));
+    }
+
+    // main thread
+    private static void restoreIfSpectating(SSoggySouls plugin, PlayerData data) {
         Player target = Bukkit.getPlayer(data.getUuid());
-        if (target != null && target.isOnline()
-                && target.getGameMode() != GameMode.SURVIVAL) {
-            Bukkit.getScheduler().runTask(plugin, () -> {
+        // a ritual revive has already put them back in survival by now
+        if (target == null || !target.isOnline() || target.getGameMode() == GameMode.SURVIVAL) return;
+
+        plugin.getLimboDeadPlayers().remove(target.getUniqueId());
+        target.setGameMode(GameMode.SURVIVAL);
+        target.sendMessage(MessageUtil.get("revive-success"));
+        if (plugin.getDeathVault() != null) {
+            plugin.getDeathVault().restoreOnRevive(target);
+        }
+
+        if (plugin.isLimboServer()) {
+            Bukkit.getScheduler().runTaskLater(plugin, plugin.getProfiler().wrap(() -> {
                 if (target.isOnline()) {
-                    plugin.getLimboDeadPlayers().remove(target.getUniqueId());
-                    target.setGameMode(GameMode.SURVIVAL);
-                    target.sendMessage(MessageUtil.get("revive-success"));
-
-                    if (plugin.isLimboServer()) {
-                        Bukkit.getScheduler().runTaskLater(plugin, () -> {
-                            if (target.isOnline()) {
-                                ServerTransferUtil.sendToMain(target);
-                            }
-                        }, 40L);
-                    }
+                    ServerTransferUtil.sendToMain(target);
                 }
-            });
+            }), 40L);
         }
     }
 }
@@ -3,11 +3,15 @@ package org.ssoggy.ssoggysouls.util;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 
+import org.ssoggy.ssoggysouls.database.PlayerNameIndex;
+
 import java.util.ArrayList;
 import java.util.List;
 
 public final class TabCompleteUtil {
 
+    private static final int MAX_NAME_SUGGESTIONS = 100;
+
     private TabCompleteUtil() {
         // Private constructor to prevent instantiation
     }
@@ -29,6 +33,23 @@ public final class TabCompleteUtil {
         return names;
     }
 
+    /**
+     * gets names of every known player matching the given prefix, online on either server
+     * or not. falls back to online players until the name index has loaded.
+     *
+     * @param index the name index
+     * @param prefix the prefix to filter by (case-insensitive)
+     * @param filter which players to include by death status
+     * @return list of matching player names, sorted
+     */
+    public static List<String> getKnownPlayerNames(PlayerNameIndex index, String prefix,
+                                                   PlayerNameIndex.Filter filter) {
+        if (!index.isLoaded()) {
+            return getOnlinePlayerNames(prefix);
+        }
+        return index.complete(prefix, filter, MAX_NAME_SUGGESTIONS);
+    }
+
     /**
      * filters options by prefix (case-insensitive).
      *
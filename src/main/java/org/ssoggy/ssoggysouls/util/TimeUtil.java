@@ -5,7 +5,7 @@ import java.util.regex.Pattern;
 
 public final class TimeUtil {
 
-    private static final Pattern TIME_PATTERN = Pattern.compile("(\\d+)([hms])");
+    private static final Pattern TIME_PATTERN = Pattern.compile("(\\d+)([dhms])");
 
     private TimeUtil() {
         throw new UnsupportedOperationException("Utility class");
@@ -36,6 +36,7 @@ public final class TimeUtil {
             String unit = matcher.group(2);
 
             totalMillis += switch (unit) {
+                case "d" -> value * 86_400_000L;
                 case "h" -> value * 3600_000L;
                 case "m" -> value * 60_000L;
                 case "s" -> value * 1000L;
@@ -0,0 +1,386 @@
+package org.ssoggy.ssoggysouls.vault;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.ExperienceOrb;
+import org.bukkit.entity.Player;
+import org.bukkit.event.entity.PlayerDeathEvent;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.PlayerInventory;
+import org.bukkit.util.io.BukkitObjectInputStream;
+import org.bukkit.util.io.BukkitObjectOutputStream;
+
+import org.ssoggy.ssoggysouls.SSoggySouls;
+import org.ssoggy.ssoggysouls.database.DatabaseManager;
+import org.ssoggy.ssoggysouls.model.DeathInventoryRecord;
+import org.ssoggy.ssoggysouls.util.MessageUtil;
+
+/**
+ * keeps what a player had on them at their final death.
+ *
+ * <p>the vault takes the final drops and experience off the death event, after every other
+ * plugin had its say, so the items exist once: in the vault after a final death, or back
+ * on the ground when the death turns out not to be final. what it keeps is what would have
+ * dropped, so vanished and soulbound items are not in it; each drop goes back to the slot
+ * it was taken from. the main thread only clones the item stacks; serializing, compressing
+ * and the database write all happen asynchronously, and the blob goes into a side table so
+ * the player row stays small. restores put items back into their original slot when it is
+ * free, otherwise into any free slot, and drop whatever does not fit at the player's feet.
+ */
+public class DeathInventoryVault {
+
+    /** 1 also stored the ender chest, which is skipped on read; 1 and 2 had no loose items or xp. */
+    private static final int FORMAT_VERSION = 3;
+
+    private final SSoggySouls plugin;
+    private final DatabaseManager db;
+
+    /**
+     * cloned drops sorted back into inventory sections, safe to hand to another thread.
+     *
+     * @param loose drops that did not come from a slot, e.g. added by another plugin
+     * @param exp experience points that would have dropped
+     */
+    public record Snapshot(ItemStack[] storage, ItemStack[] armor, ItemStack[] extra, ItemStack[] loose, int exp) {
+
+        boolean isEmpty() {
+            return isEmpty(storage) && isEmpty(armor) && isEmpty(extra) && isEmpty(loose) && exp <= 0;
+        }
+
+        private static boolean isEmpty(ItemStack[] items) {
+            for (ItemStack item : items) {
+                if (item != null && !item.getType().isAir()) return false;
+            }
+            return true;
+        }
+    }
+
+    /**
+     * a death's inventory together with the drops and experience taken off the event,
+     * held until the death is known to be final.
+     */
+    public record Custody(Snapshot snapshot, List<ItemStack> drops, int droppedExp) {}
+
+    /**
+     * outcome of a restore, reported back to whoever asked for it.
+     */
+    public enum RestoreResult { RESTORED, NOTHING_STORED, ALREADY_RESTORED, FAILED }
+
+    public DeathInventoryVault(SSoggySouls plugin) {
+        this.plugin = plugin;
+        this.db = plugin.getDatabaseManager();
+    }
+
+    /**
+     * clones the drops, each into the inventory, armour or off-hand slot it came from.
+     * main thread only.
+     */
+    public static Snapshot capture(Player player, List<ItemStack> drops, int exp) {
+        List<ItemStack> remaining = new ArrayList<>();
+        for (ItemStack drop : drops) {
+            if (!isEmptySlot(drop)) remaining.add(drop);
+        }
+        PlayerInventory inv = player.getInventory();
+        ItemStack[] storage = claimSlots(inv.getStorageContents(), remaining);
+        ItemStack[] armor = claimSlots(inv.getArmorContents(), remaining);
+        ItemStack[] extra = claimSlots(inv.getExtraContents(), remaining);
+        return new Snapshot(storage, armor, extra, cloneAll(remaining.toArray(new ItemStack[0])), exp);
+    }
+
+    // slot i gets a copy of the drop equal to what it holds, which is then used up
+    private static ItemStack[] claimSlots(ItemStack[] slots, List<ItemStack> remaining) {
+        ItemStack[] claimed = new ItemStack[slots.length];
+        for (int i = 0; i < slots.length; i++) {
+            if (isEmptySlot(slots[i])) continue;
+            int match = remaining.indexOf(slots[i]);
+            if (match >= 0) {
+                claimed[i] = remaining.remove(match).clone();
+            }
+        }
+        return claimed;
+    }
+
+    /**
+     * captures the final drops and clears them and the experience off the event, so nothing
+     * lands on the ground until {@link #release} says so. call it at the highest priority so
+     * other plugins' changes to the drops are in. main thread only.
+     *
+     * @return null when the inventory is kept, since there is nothing to take
+     */
+    public static Custody takeCustody(PlayerDeathEvent event) {
+        if (event.getKeepInventory()) return null;
+        List<ItemStack> drops = new ArrayList<>(event.getDrops());
+        int exp = event.getDroppedExp();
+        Custody custody = new Custody(capture(event.getEntity(), drops, exp), drops, exp);
+        event.getDrops().clear();
+        event.setDroppedExp(0);
+        return custody;
+    }
+
+    /**
+     * drops the held items and experience at the death location, as the death would have.
+     */
+    public void release(Custody custody, Location deathLoc) {
+        if (custody == null || (custody.drops().isEmpty() && custody.droppedExp() <= 0)) return;
+        Bukkit.getScheduler().runTask(plugin, plugin.getProfiler().wrap(() -> {
+            World world = deathLoc.getWorld();
+            if (world == null) return;
+            for (ItemStack item : custody.drops()) {
+                world.dropItemNaturally(deathLoc, item);
+            }
+            if (custody.droppedExp() > 0) {
+                world.spawn(deathLoc, ExperienceOrb.class, orb -> orb.setExperience(custody.droppedExp()));
+            }
+        }));
+    }
+
+    private static ItemStack[] cloneAll(ItemStack[] items) {
+        ItemStack[] copy = new ItemStack[items.length];
+        for (int i = 0; i < items.length; i++) {
+            ItemStack item = items[i];
+            copy[i] = (item == null || item.getType().isAir()) ? null : item.clone();
+        }
+        return copy;
+    }
+
+    /**
+     * serializes and stores the held inventory. any thread; when it cannot be stored the
+     * items are released at the death location instead of being lost.
+     */
+    public void store(UUID uuid, long deathTime, Custody custody, Location deathLoc) {
+        if (custody == null) return;
+        if (custody.snapshot().isEmpty()) {
+            plugin.debug("Death inventory for " + uuid + " is empty, not storing.");
+            release(custody, deathLoc);
+            return;
+        }
+        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+            boolean stored;
+            try {
+                stored = db.saveDeathInventory(uuid, deathTime, serialize(custody.snapshot()));
+            } catch (IOException e) {
+                plugin.getLogger().log(Level.WARNING, "Failed to serialize death inventory for " + uuid, e);
+                stored = false;
+            }
+            if (!stored) {
+                release(custody, deathLoc);
+            }
+        });
+    }
+
+    /**
+     * restores the stored inventory to an online player. the lookup and decoding run
+     * off-thread, only the item placement happens on the main thread. every restore claims
+     * the entry first, so it is handed out once per death.
+     *
+     * @param force re-arm an entry that was already restored and hand it out again
+     * @param callback receives the result on the main thread, may be null
+     */
+    public void restore(Player player, boolean force, Consumer<RestoreResult> callback) {
+        UUID uuid = player.getUniqueId();
+        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+            DeathInventoryRecord stored = db.getDeathInventory(uuid);
+            if (stored == null) {
+                complete(callback, RestoreResult.NOTHING_STORED);
+                return;
+            }
+            if (stored.restored() && !force) {
+                complete(callback, RestoreResult.ALREADY_RESTORED);
+                return;
+            }
+
+            Snapshot snapshot;
+            try {
+                snapshot = deserialize(stored.data());
+            } catch (IOException | ClassNotFoundException e) {
+                plugin.getLogger().log(Level.WARNING, "Failed to decode death inventory for " + uuid, e);
+                complete(callback, RestoreResult.FAILED);
+                return;
+            }
+
+            if (force) {
+                db.unmarkDeathInventoryRestored(uuid, stored.deathTime());
+            }
+            // claim the entry before handing items out so two restores can't both succeed
+            if (!db.markDeathInventoryRestored(uuid, stored.deathTime())) {
+                complete(callback, RestoreResult.ALREADY_RESTORED);
+                return;
+            }
+
+            Bukkit.getScheduler().runTask(plugin, plugin.getProfiler().wrap(() -> {
+                if (!player.isOnline()) {
+                    // give the claim back so it can be restored on the next attempt
+                    Bukkit.getScheduler().runTaskAsynchronously(plugin, () ->
+                            db.unmarkDeathInventoryRestored(uuid, stored.deathTime()));
+                    if (callback != null) callback.accept(RestoreResult.FAILED);
+                    return;
+                }
+                apply(player, snapshot);
+                plugin.getLogger().log(Level.INFO, "Restored death inventory for {0}", player.getName());
+                if (callback != null) callback.accept(RestoreResult.RESTORED);
+            }));
+        });
+    }
+
+    private void complete(Consumer<RestoreResult> callback, RestoreResult result) {
+        if (callback != null) {
+            Bukkit.getScheduler().runTask(plugin, plugin.getProfiler().wrap(() -> callback.accept(result)));
+        }
+    }
+
+    /**
+     * restores the player's death inventory if restore-on-revive is enabled and one is pending.
+     */
+    public void restoreOnRevive(Player player) {
+        if (!plugin.isDeathVaultRestoreOnRevive()) return;
+        restore(player, false, result -> {
+            if (result == RestoreResult.RESTORED && player.isOnline()) {
+                player.sendMessage(MessageUtil.get("death-vault-restored"));
+            }
+        });
+    }
+
+    // --- Placement (main thread) ---
+
+    private static void apply(Player player, Snapshot snapshot) {
+        PlayerInventory inv = player.getInventory();
+        Map<Integer, ItemStack> overflow = new HashMap<>();
+        int next = 0;
+
+        ItemStack[] storage = inv.getStorageContents();
+        for (int i = 0; i < snapshot.storage().length && i < storage.length; i++) {
+            ItemStack item = snapshot.storage()[i];
+            if (item == null) continue;
+            if (isEmptySlot(storage[i])) {
+                storage[i] = item;
+            } else {
+                overflow.put(next++, item);
+            }
+        }
+        inv.setStorageContents(storage);
+
+        ItemStack[] armor = inv.getArmorContents();
+        for (int i = 0; i < snapshot.armor().length && i < armor.length; i++) {
+            ItemStack item = snapshot.armor()[i];
+            if (item == null) continue;
+            if (isEmptySlot(armor[i])) {
+                armor[i] = item;
+            } else {
+                overflow.put(next++, item);
+            }
+        }
+        inv.setArmorContents(armor);
+
+        ItemStack[] extra = inv.getExtraContents();
+        for (int i = 0; i < snapshot.extra().length && i < extra.length; i++) {
+            ItemStack item = snapshot.extra()[i];
+            if (item == null) continue;
+            if (isEmptySlot(extra[i])) {
+                extra[i] = item;
+            } else {
+                overflow.put(next++, item);
+            }
+        }
+        inv.setExtraContents(extra);
+
+        for (ItemStack item : snapshot.loose()) {
+            if (item != null) overflow.put(next++, item);
+        }
+        if (snapshot.exp() > 0) {
+            player.giveExp(snapshot.exp());
+        }
+
+        if (overflow.isEmpty()) return;
+        Map<Integer, ItemStack> leftover = inv.addItem(overflow.values().toArray(new ItemStack[0]));
+        Location loc = player.getLocation();
+        for (ItemStack item : leftover.values()) {
+            player.getWorld().dropItemNaturally(loc, item);
+        }
+    }
+
+    private static boolean isEmptySlot(ItemStack item) {
+        return item == null || item.getType().isAir();
+    }
+
+    // --- Encoding (any thread) ---
+
+    /**
+     * encodes the snapshot as a deflate-compressed stream of (slot, item) pairs per section.
+     */
+    static byte[] serialize(Snapshot snapshot) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try (BukkitObjectOutputStream out = new BukkitObjectOutputStream(
+                new DeflaterOutputStream(bytes, deflater))) {
+            out.writeByte(FORMAT_VERSION);
+            writeSection(out, snapshot.storage());
+            writeSection(out, snapshot.armor());
+            writeSection(out, snapshot.extra());
+            writeSection(out, snapshot.loose());
+            out.writeInt(snapshot.exp());
+        } finally {
+            deflater.end();
+        }
+        return bytes.toByteArray();
+    }
+
+    private static void writeSection(BukkitObjectOutputStream out, ItemStack[] items) throws IOException {
+        int count = 0;
+        for (ItemStack item : items) {
+            if (item != null) count++;
+        }
+        out.writeShort(items.length);
+        out.writeShort(count);
+        for (int i = 0; i < items.length; i++) {
+            if (items[i] != null) {
+                out.writeShort(i);
+                out.writeObject(items[i]);
+            }
+        }
+    }
+
+    static Snapshot deserialize(byte[] data) throws IOException, ClassNotFoundException {
+        try (BukkitObjectInputStream in = new BukkitObjectInputStream(
+                new InflaterInputStream(new ByteArrayInputStream(data)))) {
+            int version = in.readByte();
+            if (version < 1 || version > FORMAT_VERSION) {
+                throw new IOException("Unknown death inventory format " + version);
+            }
+            ItemStack[] storage = readSection(in);
+            ItemStack[] armor = readSection(in);
+            ItemStack[] extra = readSection(in);
+            if (version < 3) {
+                return new Snapshot(storage, armor, extra, new ItemStack[0], 0);
+            }
+            return new Snapshot(storage, armor, extra, readSection(in), in.readInt());
+        }
+    }
+
+    private static ItemStack[] readSection(BukkitObjectInputStream in) throws IOException, ClassNotFoundException {
+        ItemStack[] items = new ItemStack[in.readShort()];
+        int count = in.readShort();
+        for (int i = 0; i < count; i++) {
+            int slot = in.readShort();
+            Object item = in.readObject();
+            if (slot >= 0 && slot < items.length && item instanceof ItemStack stack) {
+                items[slot] = stack;
+            }
+        }
+        return items;
+    }
+}